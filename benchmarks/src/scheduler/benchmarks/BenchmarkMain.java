@@ -0,0 +1,35 @@
+// File: scheduler/benchmarks/BenchmarkMain.java
+
+package scheduler.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point that runs every scheduler benchmark with the GC profiler attached,
+ * so results include allocation rate next to throughput, and writes them as JSON
+ * for comparison between releases.
+ */
+public class BenchmarkMain {
+
+    /**
+     * Runs the benchmarks.
+     *
+     * @param args Optional regular expression selecting benchmarks (default: all scheduler benchmarks).
+     * @throws RunnerException If JMH fails to run.
+     */
+    public static void main(String[] args) throws RunnerException {
+        String include = args.length > 0 ? args[0] : "scheduler\\.benchmarks\\..*";
+        Options options = new OptionsBuilder()
+                .include(include)
+                .addProfiler(GCProfiler.class)
+                .resultFormat(ResultFormatType.JSON)
+                .result("jmh-result.json")
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,63 @@
+// File: scheduler/benchmarks/BenchmarkWorkloads.java
+
+package scheduler.benchmarks;
+
+import scheduler.models.ProcessTable;
+
+import java.util.Random;
+
+/**
+ * Seeded synthetic workloads for the benchmarks.
+ * Arrivals are generated in non-decreasing order, because FCFS schedules in table order.
+ */
+final class BenchmarkWorkloads {
+    static final int MAX_BURST = 100; // Bursts are uniform in [1, MAX_BURST]
+    static final int PRIORITY_LEVELS = 8; // Priorities are uniform in [0, PRIORITY_LEVELS)
+    static final int BURST_GROUP = 1_000; // Processes per group in the bursty distribution
+
+    /**
+     * Shape of the arrival process.
+     */
+    enum Arrivals {
+        /** Every process arrives at time 0. */
+        ALL_AT_ZERO,
+        /** Random gaps averaging one mean burst, so the CPU runs near full load. */
+        UNIFORM,
+        /** Groups of processes arrive together, separated by idle gaps. */
+        BURSTY
+    }
+
+    private BenchmarkWorkloads() {
+        // Utility class
+    }
+
+    /**
+     * Generates a workload.
+     *
+     * @param size     Number of processes.
+     * @param arrivals Arrival distribution.
+     * @param seed     Random seed.
+     * @return A table with one unnamed row per process.
+     */
+    static ProcessTable generate(int size, Arrivals arrivals, long seed) {
+        Random random = new Random(seed);
+        ProcessTable table = new ProcessTable(size);
+        int meanBurst = (MAX_BURST + 1) / 2;
+        long arrival = 0;
+        for (int i = 0; i < size; i++) {
+            switch (arrivals) {
+                case ALL_AT_ZERO -> arrival = 0;
+                case UNIFORM -> arrival += random.nextInt(2 * meanBurst);
+                case BURSTY -> {
+                    if (i > 0 && i % BURST_GROUP == 0) {
+                        // Twice the work of a group, so each group drains before the next one.
+                        arrival += 2L * BURST_GROUP * meanBurst;
+                    }
+                }
+            }
+            int burst = 1 + random.nextInt(MAX_BURST);
+            table.add(null, Math.toIntExact(arrival), burst, random.nextInt(PRIORITY_LEVELS));
+        }
+        return table;
+    }
+}
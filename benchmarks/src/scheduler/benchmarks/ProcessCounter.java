@@ -0,0 +1,27 @@
+// File: scheduler/benchmarks/ProcessCounter.java
+
+package scheduler.benchmarks;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * JMH auxiliary counter that reports throughput as processes scheduled per second,
+ * independent of the workload size of a single invocation.
+ */
+@State(Scope.Thread)
+@AuxCounters(AuxCounters.Type.OPERATIONS)
+public class ProcessCounter {
+    public long processes; // Processes scheduled in the current iteration
+
+    /**
+     * Resets the counter before each iteration.
+     */
+    @Setup(Level.Iteration)
+    public void reset() {
+        processes = 0;
+    }
+}
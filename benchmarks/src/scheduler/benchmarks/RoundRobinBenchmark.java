@@ -0,0 +1,65 @@
+// File: scheduler/benchmarks/RoundRobinBenchmark.java
+
+package scheduler.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import scheduler.algorithms.RR;
+import scheduler.models.ProcessTable;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of Round Robin across workload sizes, arrival distributions and time quanta.
+ * Kept separate from {@link SchedulerBenchmark} so the quantum only multiplies RR runs.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class RoundRobinBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000", "10000000"})
+    public int size; // Number of processes
+
+    @Param({"ALL_AT_ZERO", "UNIFORM", "BURSTY"})
+    public BenchmarkWorkloads.Arrivals arrivals; // Arrival distribution
+
+    @Param({"1", "4", "16", "64"})
+    public int quantum; // RR time quantum
+
+    private ProcessTable table; // Workload, reused across invocations
+
+    /**
+     * Generates the workload once per trial.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        table = BenchmarkWorkloads.generate(size, arrivals, 42L);
+    }
+
+    /**
+     * Schedules the workload with Round Robin.
+     *
+     * @param counter Counts scheduled processes.
+     * @return The scheduled table (returned so the work is not eliminated).
+     */
+    @Benchmark
+    public ProcessTable roundRobin(ProcessCounter counter) {
+        new RR(table, quantum).schedule();
+        counter.processes += size;
+        return table;
+    }
+}
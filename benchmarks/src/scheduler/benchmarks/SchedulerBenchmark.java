@@ -0,0 +1,90 @@
+// File: scheduler/benchmarks/SchedulerBenchmark.java
+
+package scheduler.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import scheduler.algorithms.FCFS;
+import scheduler.algorithms.PriorityScheduler;
+import scheduler.algorithms.SJF;
+import scheduler.models.ProcessTable;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of the non-preemptive schedulers across workload sizes and arrival distributions.
+ * Each invocation schedules the whole workload in place on a {@link ProcessTable}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class SchedulerBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000", "10000000"})
+    public int size; // Number of processes
+
+    @Param({"ALL_AT_ZERO", "UNIFORM", "BURSTY"})
+    public BenchmarkWorkloads.Arrivals arrivals; // Arrival distribution
+
+    private ProcessTable table; // Workload, reused across invocations
+
+    /**
+     * Generates the workload once per trial.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        table = BenchmarkWorkloads.generate(size, arrivals, 42L);
+    }
+
+    /**
+     * Schedules the workload with FCFS.
+     *
+     * @param counter Counts scheduled processes.
+     * @return The scheduled table (returned so the work is not eliminated).
+     */
+    @Benchmark
+    public ProcessTable fcfs(ProcessCounter counter) {
+        new FCFS(table).schedule();
+        counter.processes += size;
+        return table;
+    }
+
+    /**
+     * Schedules the workload with SJF.
+     *
+     * @param counter Counts scheduled processes.
+     * @return The scheduled table (returned so the work is not eliminated).
+     */
+    @Benchmark
+    public ProcessTable sjf(ProcessCounter counter) {
+        new SJF(table).schedule();
+        counter.processes += size;
+        return table;
+    }
+
+    /**
+     * Schedules the workload with non-preemptive Priority.
+     *
+     * @param counter Counts scheduled processes.
+     * @return The scheduled table (returned so the work is not eliminated).
+     */
+    @Benchmark
+    public ProcessTable priority(ProcessCounter counter) {
+        new PriorityScheduler(table).schedule();
+        counter.processes += size;
+        return table;
+    }
+}
@@ -1,15 +1,354 @@
-//TIP To <b>Run</b> code, press <shortcut actionId="Run"/> or
-// click the <icon src="AllIcons.Actions.Execute"/> icon in the gutter.
+// File: Main.java
+
+import scheduler.algorithms.FCFS;
+import scheduler.algorithms.LotteryScheduler;
+import scheduler.algorithms.MLFQ;
+import scheduler.algorithms.ParallelFCFS;
+import scheduler.algorithms.PreemptivePriorityScheduler;
+import scheduler.algorithms.PriorityScheduler;
+import scheduler.algorithms.RR;
+import scheduler.algorithms.SJF;
+import scheduler.algorithms.SRTF;
+import scheduler.algorithms.Scheduler;
+import scheduler.algorithms.StrideScheduler;
+import scheduler.cache.ResultCache;
+import scheduler.instrumentation.FlightRecorderListener;
+import scheduler.instrumentation.SchedulerCounters;
+import scheduler.instrumentation.SchedulerListener;
+import scheduler.io.ResultFormat;
+import scheduler.io.WorkloadFiles;
+import scheduler.models.ResultTable;
+import scheduler.models.Workload;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Headless command-line entry point: loads a workload file, runs the selected algorithms one after
+ * another and writes the per-process results as CSV or JSON. It never touches JavaFX (use
+ * {@code scheduler.SchedulerMain} for the GUI) and keeps the classes it loads few and plain, so
+ * startup is fast and stable enough to archive with AppCDS.
+ */
 public class Main {
+    private static final String USAGE = String.join("\n",
+            "Usage: java Main [options] <workload-file>",
+            "",
+            "The workload file is a binary workload file or a text file with one",
+            "name,arrivalTime,burstTime,priority line per process.",
+            "",
+            "Options:",
+            "  --algorithms LIST    Comma-separated algorithms to run (default FCFS,SJF,RR,PRIORITY).",
+            "                       Available: FCFS, SJF, RR, PRIORITY, SRTF, PREEMPTIVE_PRIORITY, MLFQ,",
+            "                       PARALLEL_FCFS (FCFS in arrival order, computed on all cores), LOTTERY,",
+            "                       STRIDE (proportional share, tickets from priorities)",
+            "  --quantum N          Round Robin, Lottery and Stride time quantum (default 2)",
+            "  --seed N             Seed of the Lottery draws (default 0)",
+            "  --aging N            Priority aging interval, 0 to disable (default 0)",
+            "  --mlfq-quanta LIST   Comma-separated MLFQ quanta from the top level down (default 2,4,8)",
+            "  --boost N            MLFQ boost interval, 0 to disable (default 0)",
+            "  --format csv|json    Output format (default csv)",
+            "  --summary            Write mean, percentiles and max of waiting, turnaround and response",
+            "                       time, plus throughput and CPU utilization, instead of every process",
+            "  --output FILE        Write to FILE instead of standard output",
+            "  --cache DIR          Reuse results of earlier identical runs stored in DIR",
+            "  --parallel           Schedule SJF and PRIORITY busy periods in parallel (same results)",
+            "  --profile            Print decision counts, decisions per second and the ready-queue",
+            "                       high-water mark of each run to standard error",
+            "  --jfr                Emit Flight Recorder events for each run (record them with",
+            "                       -XX:StartFlightRecording)",
+            "  --help               Show this message");
+
+    /**
+     * Main method of the batch runner.
+     *
+     * @param args Command-line arguments (see {@link #USAGE}).
+     */
     public static void main(String[] args) {
-        //TIP Press <shortcut actionId="ShowIntentionActions"/> with your caret at the highlighted text
-        // to see how IntelliJ IDEA suggests fixing it.
-        System.out.printf("Hello and welcome!");
+        try {
+            System.exit(run(args));
+        } catch (IllegalArgumentException e) {
+            System.err.println("Error: " + e.getMessage());
+            System.err.println(USAGE);
+            System.exit(2);
+        } catch (IOException e) {
+            System.err.println("Error: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Parses the arguments, runs the algorithms and writes the results.
+     *
+     * @param args Command-line arguments.
+     * @return Process exit status.
+     * @throws IOException If the workload cannot be read or the results cannot be written.
+     */
+    static int run(String[] args) throws IOException {
+        // Step 1: Parse the options.
+        String algorithms = "FCFS,SJF,RR,PRIORITY";
+        int quantum = 2;
+        long seed = 0;
+        int aging = 0;
+        int[] mlfqQuanta = {2, 4, 8};
+        int boost = 0;
+        ResultFormat format = ResultFormat.CSV;
+        boolean summary = false;
+        Path output = null;
+        Path cacheDirectory = null;
+        boolean parallel = false;
+        boolean profile = false;
+        boolean flightRecorder = false;
+        Path input = null;
+
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
+            switch (arg) {
+                case "--help", "-h" -> {
+                    System.out.println(USAGE);
+                    return 0;
+                }
+                case "--algorithms" -> algorithms = value(args, ++i, arg);
+                case "--quantum" -> quantum = parseInt(value(args, ++i, arg), arg);
+                case "--seed" -> seed = parseLong(value(args, ++i, arg), arg);
+                case "--aging" -> aging = parseInt(value(args, ++i, arg), arg);
+                case "--mlfq-quanta" -> mlfqQuanta = parseInts(value(args, ++i, arg), arg);
+                case "--boost" -> boost = parseInt(value(args, ++i, arg), arg);
+                case "--format" -> format = parseFormat(value(args, ++i, arg));
+                case "--summary" -> summary = true;
+                case "--output" -> output = Path.of(value(args, ++i, arg));
+                case "--cache" -> cacheDirectory = Path.of(value(args, ++i, arg));
+                case "--parallel" -> parallel = true;
+                case "--profile" -> profile = true;
+                case "--jfr" -> flightRecorder = true;
+                default -> {
+                    if (arg.startsWith("-") || input != null) {
+                        throw new IllegalArgumentException("Unexpected argument: " + arg);
+                    }
+                    input = Path.of(arg);
+                }
+            }
+        }
+        if (input == null) {
+            throw new IllegalArgumentException("No workload file given");
+        }
+        List<String> names = splitList(algorithms);
+
+        // Step 2: Load the workload and validate every algorithm before running any.
+        Workload workload = WorkloadFiles.load(input);
+        List<ResultTable> results = new ArrayList<>(names.size());
+        List<Scheduler> schedulers = new ArrayList<>(names.size());
+        List<String> keys = new ArrayList<>(names.size());
+        ResultCache cache = cacheDirectory == null ? null : new ResultCache(0, cacheDirectory);
+        if (cache != null) {
+            cache.setErrorHandler((key, e) -> System.err.println("Cache entry " + key + " skipped: " + e.getMessage()));
+        }
+        byte[] digest = cache == null ? null : ResultCache.digest(workload);
+        SchedulerCounters counters = profile ? new SchedulerCounters() : null;
+        for (String name : names) {
+            ResultTable table = new ResultTable(workload);
+            results.add(table);
+            Scheduler scheduler = create(name, workload, table, quantum, seed, aging, mlfqQuanta, boost);
+            scheduler.setMetrics(table.getMetrics());
+            if (parallel && scheduler instanceof SJF sjf) {
+                sjf.setParallel(true);
+            } else if (parallel && scheduler instanceof PriorityScheduler priority) {
+                priority.setParallel(true);
+            }
+            if (profile && flightRecorder) {
+                scheduler.setListener(SchedulerListener.of(counters, new FlightRecorderListener()));
+            } else if (profile || flightRecorder) {
+                scheduler.setListener(profile ? counters : new FlightRecorderListener());
+            }
+            schedulers.add(scheduler);
+            keys.add(cache == null ? null
+                    : ResultCache.key(digest, configuration(name, quantum, seed, aging, mlfqQuanta, boost)));
+        }
+
+        // Step 3: Run each algorithm and write its section.
+        Writer out = output == null
+                ? new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8), 1 << 16)
+                : Files.newBufferedWriter(output, StandardCharsets.UTF_8);
+        try {
+            if (summary) {
+                format.beginSummary(out);
+            } else {
+                format.begin(out);
+            }
+            for (int i = 0; i < names.size(); i++) {
+                if (cache == null || !cache.load(keys.get(i), results.get(i), false)) {
+                    if (counters != null) {
+                        counters.reset();
+                    }
+                    schedulers.get(i).schedule();
+                    if (counters != null) {
+                        System.err.println(names.get(i) + ": " + counters.summary());
+                    }
+                    if (cache != null) {
+                        cache.store(keys.get(i), results.get(i), false);
+                    }
+                }
+                if (summary) {
+                    format.writeSummary(out, names.get(i), results.get(i).getMetrics(), i == 0);
+                } else {
+                    format.writeAlgorithm(out, names.get(i), results.get(i), i == 0);
+                }
+            }
+            format.end(out);
+        } finally {
+            if (output == null) {
+                out.flush();
+            } else {
+                out.close();
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Creates a scheduler by its command-line name.
+     *
+     * @param name       Algorithm name (case-insensitive).
+     * @param workload   Workload to schedule.
+     * @param results    Destination for the results.
+     * @param quantum    Round Robin, Lottery and Stride time quantum.
+     * @param seed       Seed of the Lottery draws.
+     * @param aging      Priority aging interval.
+     * @param mlfqQuanta MLFQ quanta per level.
+     * @param boost      MLFQ boost interval.
+     * @return The scheduler.
+     */
+    private static Scheduler create(String name, Workload workload, ResultTable results, int quantum, long seed,
+                                    int aging, int[] mlfqQuanta, int boost) {
+        return switch (name.toUpperCase()) {
+            case "FCFS" -> new FCFS(workload, results);
+            case "SJF" -> new SJF(workload, results);
+            case "RR", "ROUND_ROBIN" -> new RR(workload, results, quantum);
+            case "PRIORITY" -> new PriorityScheduler(workload, results, aging);
+            case "SRTF" -> new SRTF(workload, results);
+            case "PREEMPTIVE_PRIORITY" -> new PreemptivePriorityScheduler(workload, results);
+            case "MLFQ" -> new MLFQ(workload, results, mlfqQuanta, boost);
+            case "PARALLEL_FCFS" -> new ParallelFCFS(workload, results);
+            case "LOTTERY" -> new LotteryScheduler(workload, results, quantum, seed);
+            case "STRIDE" -> new StrideScheduler(workload, results, quantum);
+            default -> throw new IllegalArgumentException("Unknown algorithm: " + name);
+        };
+    }
+
+    /**
+     * Describes an algorithm and the parameters that affect its schedule, for the result cache.
+     * The strings match those {@code ComparisonEngine.withStandardAlgorithms} uses, so both share a cache.
+     *
+     * @param name       Algorithm name (case-insensitive).
+     * @param quantum    Round Robin, Lottery and Stride time quantum.
+     * @param seed       Seed of the Lottery draws.
+     * @param aging      Priority aging interval.
+     * @param mlfqQuanta MLFQ quanta per level.
+     * @param boost      MLFQ boost interval.
+     * @return The configuration string.
+     */
+    private static String configuration(String name, int quantum, long seed, int aging, int[] mlfqQuanta,
+                                        int boost) {
+        return switch (name.toUpperCase()) {
+            case "RR", "ROUND_ROBIN" -> "RR(q=" + quantum + ")";
+            case "LOTTERY" -> "LOTTERY(q=" + quantum + ", seed=" + seed + ")";
+            case "STRIDE" -> "STRIDE(q=" + quantum + ")";
+            case "PRIORITY" -> "PRIORITY(aging=" + aging + ")";
+            case "MLFQ" -> "MLFQ(quanta=" + Arrays.toString(mlfqQuanta) + ", boost=" + boost + ")";
+            default -> name.toUpperCase();
+        };
+    }
+
+    /**
+     * @param args   Command-line arguments.
+     * @param index  Position of the option's value.
+     * @param option Name of the option.
+     * @return The option's value.
+     */
+    private static String value(String[] args, int index, String option) {
+        if (index >= args.length) {
+            throw new IllegalArgumentException("Missing value for " + option);
+        }
+        return args[index];
+    }
+
+    /**
+     * @param text   Text to parse.
+     * @param option Name of the option, for the error message.
+     * @return The parsed integer.
+     */
+    private static int parseInt(String text, String option) {
+        try {
+            return Integer.parseInt(text.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid number for " + option + ": " + text);
+        }
+    }
+
+    /**
+     * @param text   Text to parse.
+     * @param option Name of the option, for the error message.
+     * @return The parsed long integer.
+     */
+    private static long parseLong(String text, String option) {
+        try {
+            return Long.parseLong(text.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid number for " + option + ": " + text);
+        }
+    }
+
+    /**
+     * @param text   Comma-separated integers.
+     * @param option Name of the option, for the error message.
+     * @return The parsed integers.
+     */
+    private static int[] parseInts(String text, String option) {
+        List<String> parts = splitList(text);
+        int[] values = new int[parts.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = parseInt(parts.get(i), option);
+        }
+        return values;
+    }
+
+    /**
+     * @param text Format name.
+     * @return The output format.
+     */
+    private static ResultFormat parseFormat(String text) {
+        return switch (text.toLowerCase()) {
+            case "csv" -> ResultFormat.CSV;
+            case "json" -> ResultFormat.JSON;
+            default -> throw new IllegalArgumentException("Unknown format: " + text);
+        };
+    }
 
-        for (int i = 1; i <= 5; i++) {
-            //TIP Press <shortcut actionId="Debug"/> to start debugging your code. We have set one <icon src="AllIcons.Debugger.Db_set_breakpoint"/> breakpoint
-            // for you, but you can always add more by pressing <shortcut actionId="ToggleLineBreakpoint"/>.
-            System.out.println("i = " + i);
+    /**
+     * Splits a comma-separated list without regular expressions, dropping empty entries.
+     *
+     * @param text Comma-separated list.
+     * @return The trimmed entries.
+     */
+    private static List<String> splitList(String text) {
+        List<String> parts = new ArrayList<>();
+        int from = 0;
+        while (from <= text.length()) {
+            int comma = text.indexOf(',', from);
+            int end = comma < 0 ? text.length() : comma;
+            String part = text.substring(from, end).trim();
+            if (!part.isEmpty()) {
+                parts.add(part);
+            }
+            from = end + 1;
         }
+        return parts;
     }
-}
\ No newline at end of file
+}
@@ -2,29 +2,37 @@
 
 package scheduler;
 
-import scheduler.algorithms.FCFS;
-import scheduler.algorithms.PriorityScheduler;
-import scheduler.algorithms.RR;
-import scheduler.algorithms.SJF;
-import scheduler.algorithms.Scheduler;
+import scheduler.comparison.Comparison;
+import scheduler.comparison.ComparisonEngine;
 import scheduler.models.Process;
+import scheduler.models.ResultTable;
+import scheduler.models.WorkloadSnapshot;
 import scheduler.ui.GanttChart;
+import scheduler.ui.TimelineView;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.scene.Scene;
+import javafx.scene.control.Label;
 import javafx.scene.control.Tab;
 import javafx.scene.control.TabPane;
 import javafx.stage.Stage;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Main application class for the Multi-Algorithm Task Scheduler.
  * This class creates a GUI to visualize multiple scheduling algorithms
  * (FCFS, SJF, Round Robin, Priority) using Gantt charts.
+ * The algorithms run in parallel off the JavaFX application thread on an immutable
+ * snapshot of the workload; each tab is filled in once the comparison completes.
  */
 public class SchedulerMain extends Application {
+    // Above this many processes, draw a canvas timeline instead of a chart and print only the summary
+    private static final int TIMELINE_THRESHOLD = 200;
 
     @Override
     public void start(Stage primaryStage) {
@@ -39,14 +47,35 @@ public class SchedulerMain extends Application {
         processes.add(new Process("P4", 6, 4, 2)); // Additional process
         processes.add(new Process("P5", 8, 6, 1)); // Additional process
 
-        // Create a TabPane to hold different algorithm visualizations
+        // Base color of each algorithm's Gantt chart, in tab order
+        Map<String, String> baseColors = new LinkedHashMap<>();
+        baseColors.put("FCFS", "#6A0DAD"); // Purple
+        baseColors.put("SJF", "#FFD700"); // Yellow
+        baseColors.put("Round Robin", "#32CD32"); // Green
+        baseColors.put("Priority", "#FF4500"); // Red
+
+        // Create a TabPane with a placeholder tab per algorithm while the schedules are computed
         TabPane tabPane = new TabPane();
+        Map<String, Tab> tabs = new LinkedHashMap<>();
+        for (String title : baseColors.keySet()) {
+            Tab tab = new Tab(title, new Label("Scheduling..."));
+            tab.setClosable(false); // Prevent the user from closing the Tab
+            tabs.put(title, tab);
+            tabPane.getTabs().add(tab);
+        }
 
-        // Add each scheduling algorithm as a separate tab
-        tabPane.getTabs().add(createGanttTab("FCFS", new FCFS(new ArrayList<>(processes)), "#6A0DAD")); // Purple
-        tabPane.getTabs().add(createGanttTab("SJF", new SJF(new ArrayList<>(processes)), "#FFD700")); // Yellow
-        tabPane.getTabs().add(createGanttTab("Round Robin", new RR(new ArrayList<>(processes), 2), "#32CD32")); // Green
-        tabPane.getTabs().add(createGanttTab("Priority", new PriorityScheduler(new ArrayList<>(processes)), "#FF4500")); // Red
+        // Run every algorithm in parallel on a frozen copy of the workload
+        ComparisonEngine engine = ComparisonEngine.withStandardAlgorithms(2).setRecordSegments(true);
+        engine.compare(WorkloadSnapshot.of(processes)).whenComplete((comparison, error) -> Platform.runLater(() -> {
+            if (error != null) {
+                System.err.println("Scheduling failed: " + error.getMessage());
+                tabs.values().forEach(tab -> tab.setContent(new Label("Scheduling failed: " + error.getMessage())));
+                return;
+            }
+            for (Map.Entry<String, Tab> entry : tabs.entrySet()) {
+                fillGanttTab(entry.getValue(), comparison, entry.getKey(), baseColors.get(entry.getKey()));
+            }
+        }));
 
         // Set up the main scene and display it
         Scene scene = new Scene(tabPane, 1000, 600);
@@ -55,27 +84,33 @@ public class SchedulerMain extends Application {
     }
 
     /**
-     * Creates a Tab for a specific scheduling algorithm and its Gantt chart.
+     * Fills an algorithm's Tab with its Gantt chart once the comparison has completed.
      *
-     * @param title The title of the Tab (e.g., "FCFS", "SJF").
-     * @param scheduler The scheduling algorithm instance.
+     * @param tab The Tab to fill.
+     * @param comparison The completed comparison of all algorithms.
+     * @param title The algorithm name (e.g., "FCFS", "SJF").
      * @param baseColor The base color for the Gantt chart visualization.
-     * @return A Tab containing the Gantt chart for the algorithm.
      */
-    private Tab createGanttTab(String title, Scheduler scheduler, String baseColor) {
-        // Run the scheduling algorithm
-        scheduler.schedule();
-
-        // Print process details to the console
-        printProcessDetails(title, scheduler.getProcesses());
-
-        // Create a Gantt chart for the scheduled processes
-        GanttChart ganttChart = new GanttChart(scheduler.getProcesses(), baseColor);
+    private void fillGanttTab(Tab tab, Comparison comparison, String title, String baseColor) {
+        // Each algorithm gets its own Process objects built from its own results
+        ResultTable results = comparison.getResults(title);
+        List<Process> scheduledProcesses = results.toProcessList();
+
+        // Print process details to the console (only the summary for large workloads)
+        if (scheduledProcesses.size() > TIMELINE_THRESHOLD) {
+            System.out.println("=== " + title + " ===");
+        } else {
+            printProcessDetails(title, scheduledProcesses);
+        }
+        System.out.println(results.getMetrics().summary());
 
-        // Create and configure the Tab
-        Tab tab = new Tab(title, ganttChart.getChartNode());
-        tab.setClosable(false); // Prevent the user from closing the Tab
-        return tab;
+        // Create a Gantt chart for the scheduled processes (a canvas timeline for large workloads)
+        if (scheduledProcesses.size() > TIMELINE_THRESHOLD) {
+            tab.setContent(new TimelineView(results, baseColor).getNode());
+            return;
+        }
+        GanttChart ganttChart = new GanttChart(scheduledProcesses, results.getSegmentsInListOrder(), baseColor);
+        tab.setContent(ganttChart.getChartNode());
     }
 
     /**
@@ -0,0 +1,164 @@
+// File: scheduler/algorithms/BucketPriorityQueue.java
+package scheduler.algorithms;
+
+import java.util.Arrays;
+
+/**
+ * Bucket (radix) queue of process indices keyed on a small integer priority level.
+ * Level 0 is the highest priority. Each level is a FIFO list threaded through a shared
+ * {@code next} array, so enqueue, dequeue and merging two levels are all O(1) and allocation-free.
+ * <p>
+ * Aging is applied in bulk: {@link #age()} promotes every waiting index by one level by rotating
+ * the ring of buckets and splicing the old level 1 behind level 0, without touching any element.
+ * <p>
+ * A cursor tracks the lowest level that may be non-empty. It only moves towards level 0 when an
+ * index is added above it or the queue ages, and {@link #poll()} only advances it past buckets that
+ * have emptied, so selection does not rescan the empty levels above the cursor.
+ */
+class BucketPriorityQueue {
+    private static final int NONE = -1; // Marks an empty bucket or the end of a list.
+
+    private final int[] head; // First index in each physical bucket.
+    private final int[] tail; // Last index in each physical bucket.
+    private final int[] next; // Successor of each index within its bucket.
+    private final int levels; // Number of priority levels.
+    private int top; // Physical bucket that currently holds level 0.
+    private int cursor; // Lowest level that may be non-empty; every level above it is empty.
+    private int size; // Number of queued indices.
+
+    /**
+     * Constructor for BucketPriorityQueue.
+     *
+     * @param levels   Number of distinct priority levels (level 0 is served first).
+     * @param capacity Largest index that will ever be queued, plus one.
+     */
+    BucketPriorityQueue(int levels, int capacity) {
+        this(levels, new int[capacity]);
+    }
+
+    /**
+     * Constructor for a BucketPriorityQueue threading its lists through a shared array, so several queues
+     * over one index range need only one. Queues sharing the array must never hold the same index.
+     *
+     * @param levels Number of distinct priority levels (level 0 is served first).
+     * @param next   Successor array, at least as long as the largest index queued plus one.
+     */
+    BucketPriorityQueue(int levels, int[] next) {
+        this.levels = levels;
+        this.head = new int[levels];
+        this.tail = new int[levels];
+        this.next = next;
+        this.cursor = levels;
+        Arrays.fill(head, NONE);
+        Arrays.fill(tail, NONE);
+    }
+
+    /**
+     * Appends an index to the back of the given level.
+     *
+     * @param index Index to queue.
+     * @param level Priority level, clamped to the valid range.
+     */
+    void add(int index, int level) {
+        level = Math.max(0, Math.min(levels - 1, level));
+        int bucket = bucketOf(level);
+        next[index] = NONE;
+        if (tail[bucket] == NONE) {
+            head[bucket] = index;
+        } else {
+            next[tail[bucket]] = index;
+        }
+        tail[bucket] = index;
+        size++;
+        if (level < cursor) {
+            cursor = level;
+        }
+    }
+
+    /**
+     * Removes and returns the oldest index on the highest non-empty level.
+     *
+     * @return The selected index, or -1 if the queue is empty.
+     */
+    int poll() {
+        if (size == 0) {
+            return NONE;
+        }
+        // Skip the buckets that emptied since the cursor last moved.
+        while (head[bucketOf(cursor)] == NONE) {
+            cursor++;
+        }
+        int bucket = bucketOf(cursor);
+        int index = head[bucket];
+        head[bucket] = next[index];
+        if (head[bucket] == NONE) {
+            tail[bucket] = NONE;
+        }
+        size--;
+        return index;
+    }
+
+    /**
+     * Raises every waiting index by one level. Level 1 joins the back of level 0,
+     * so indices that reached the top earlier are still served first.
+     */
+    void age() {
+        if (levels == 1) {
+            return;
+        }
+        int oldTop = top;
+        int promoted = bucketOf(1);
+
+        // Splice the old level 0 in front of the old level 1, which becomes the new level 0.
+        if (head[oldTop] != NONE) {
+            if (head[promoted] == NONE) {
+                tail[promoted] = tail[oldTop];
+            } else {
+                next[tail[oldTop]] = head[promoted];
+            }
+            head[promoted] = head[oldTop];
+        }
+
+        // The old top bucket is reused as the (empty) lowest level.
+        head[oldTop] = NONE;
+        tail[oldTop] = NONE;
+        top = promoted;
+
+        // Every level moved up by one, and the old levels 0 and 1 share the new level 0.
+        if (cursor > 0) {
+            cursor--;
+        }
+    }
+
+    /**
+     * @return Number of queued indices.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * @return True if no index is queued.
+     */
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @return Number of priority levels.
+     */
+    int levels() {
+        return levels;
+    }
+
+    /**
+     * Maps a logical level to its physical bucket in the ring.
+     *
+     * @param level Logical level (0 = highest priority).
+     * @return Physical bucket index.
+     */
+    private int bucketOf(int level) {
+        int bucket = top + level;
+        return bucket >= levels ? bucket - levels : bucket;
+    }
+}
@@ -0,0 +1,208 @@
+// File: scheduler/algorithms/BusyPeriods.java
+package scheduler.algorithms;
+
+import scheduler.models.Workload;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Parallel driver for non-preemptive schedulers, based on busy-period decomposition.
+ * <p>
+ * A non-preemptive scheduler never leaves the CPU idle while a process waits, so whatever its selection
+ * rule, the CPU is busy exactly over the same busy periods. Each busy period starts with an empty ready
+ * queue and depends only on the processes arriving in it. One linear pass over the arrivals finds the
+ * periods. They are grouped into chunks of roughly equal size, and each chunk is scheduled as a
+ * fork-join task. The dispatch orders are then stitched together: results are written in parallel when
+ * nothing else observes the run, or replayed in order through {@link Scheduler#start} and
+ * {@link Scheduler#complete} when segments, metrics or a listener need the events in schedule order.
+ */
+final class BusyPeriods {
+    static final int MIN_PARALLEL_SIZE = 1 << 15; // Smaller workloads are always scheduled sequentially
+    static final int MIN_CHUNK_SIZE = 1 << 12; // Fewest processes worth a task of their own
+    private static final int CHUNKS_PER_THREAD = 8; // Chunks per worker, so uneven chunks still balance
+
+    /**
+     * Schedules a range of positions in the arrival order that begins at a busy-period start.
+     */
+    interface RangeScheduler {
+
+        /**
+         * Schedules the processes at positions {@code [from, to)} of the arrival order, recording the
+         * rows in dispatch order instead of reporting them to the scheduler.
+         *
+         * @param from     First position; a busy period starts there.
+         * @param to       End position; a busy period starts there, or it is the workload size.
+         * @param sequence Receives at {@code from + i} the row dispatched i-th in the range.
+         * @param waiting  If not null, receives at {@code from + i} the ready-queue size after that dispatch.
+         */
+        void schedule(int from, int to, int[] sequence, int[] waiting);
+    }
+
+    /**
+     * Static utility class.
+     */
+    private BusyPeriods() {
+    }
+
+    /**
+     * Schedules a workload chunk by chunk in parallel, then stitches the results.
+     *
+     * @param scheduler    The scheduler; receives the results.
+     * @param workload     Processes being scheduled.
+     * @param arrivalOrder Rows sorted by arrival time.
+     * @param ranges       Schedules one chunk.
+     */
+    static void schedule(Scheduler scheduler, Workload workload, int[] arrivalOrder, RangeScheduler ranges) {
+        int count = arrivalOrder.length;
+        int[] chunks = chunkStarts(workload, arrivalOrder, ForkJoinPool.getCommonPoolParallelism());
+        int[] sequence = new int[count];
+        int[] waiting = scheduler.isObserved() ? new int[count] : null;
+
+        // Step 1: Schedule the chunks in parallel.
+        ForkJoinPool.commonPool().invoke(new ChunkTask(chunks, 0, chunks.length - 1,
+                (from, to) -> ranges.schedule(from, to, sequence, waiting)));
+
+        // Step 2: Stitch the dispatch orders together.
+        if (scheduler.isTracking()) {
+            replay(scheduler, workload, sequence, waiting);
+        } else {
+            ForkJoinPool.commonPool().invoke(new ChunkTask(chunks, 0, chunks.length - 1,
+                    (from, to) -> write(scheduler, workload, sequence, from, to)));
+        }
+    }
+
+    /**
+     * Finds the busy periods and groups them into chunks of at least the target size.
+     *
+     * @param workload     Processes being scheduled.
+     * @param arrivalOrder Rows sorted by arrival time.
+     * @param parallelism  Number of worker threads.
+     * @return Positions where chunks start, followed by the workload size.
+     */
+    static int[] chunkStarts(Workload workload, int[] arrivalOrder, int parallelism) {
+        int count = arrivalOrder.length;
+        int target = Math.max(MIN_CHUNK_SIZE, count / Math.max(1, parallelism * CHUNKS_PER_THREAD));
+        int[] starts = new int[16];
+        int chunks = 0;
+        long busyUntil = Long.MIN_VALUE; // End of the current busy period
+        int chunkStart = -target; // Start of the current chunk
+        for (int position = 0; position < count; position++) {
+            int row = arrivalOrder[position];
+            long arrival = workload.getArrivalTime(row);
+            if (arrival > busyUntil) {
+                // The CPU idles before this arrival, so a busy period (and possibly a chunk) starts here.
+                busyUntil = arrival;
+                if (position - chunkStart >= target) {
+                    if (chunks == starts.length) {
+                        starts = Arrays.copyOf(starts, chunks * 2);
+                    }
+                    starts[chunks++] = position;
+                    chunkStart = position;
+                }
+            }
+            busyUntil += workload.getBurstTime(row);
+        }
+        starts = Arrays.copyOf(starts, chunks + 1);
+        starts[chunks] = count;
+        return starts;
+    }
+
+    /**
+     * Reports a stitched schedule to the scheduler in order, with its idle gaps.
+     *
+     * @param scheduler The scheduler.
+     * @param workload  Processes being scheduled.
+     * @param sequence  Rows in dispatch order.
+     * @param waiting   Ready-queue size after each dispatch, or null if not observed.
+     */
+    private static void replay(Scheduler scheduler, Workload workload, int[] sequence, int[] waiting) {
+        long currentTime = 0;
+        for (int i = 0; i < sequence.length; i++) {
+            int row = sequence[i];
+            long arrival = workload.getArrivalTime(row);
+            if (arrival > currentTime) {
+                // Only the first process of a busy period arrives after the previous completion.
+                scheduler.notifyIdle(currentTime, arrival);
+                currentTime = arrival;
+            }
+            if (waiting != null) {
+                scheduler.notifyDispatch(row, currentTime, waiting[i]);
+            }
+            scheduler.start(row, currentTime);
+            scheduler.recordSegment(row, currentTime, currentTime + workload.getBurstTime(row));
+            currentTime += workload.getBurstTime(row);
+            scheduler.complete(row, currentTime);
+        }
+    }
+
+    /**
+     * Writes the start and completion times of one chunk straight into the results.
+     *
+     * @param scheduler The scheduler.
+     * @param workload  Processes being scheduled.
+     * @param sequence  Rows in dispatch order.
+     * @param from      First position of the chunk.
+     * @param to        End position of the chunk.
+     */
+    private static void write(Scheduler scheduler, Workload workload, int[] sequence, int from, int to) {
+        long currentTime = 0;
+        for (int i = from; i < to; i++) {
+            int row = sequence[i];
+            currentTime = Math.max(currentTime, workload.getArrivalTime(row));
+            scheduler.results.setStartTime(row, currentTime);
+            currentTime += workload.getBurstTime(row);
+            scheduler.results.setCompletionTime(row, currentTime);
+        }
+    }
+
+    /**
+     * Work on one range of positions.
+     */
+    private interface RangeAction {
+
+        /**
+         * @param from First position.
+         * @param to   End position.
+         */
+        void run(int from, int to);
+    }
+
+    /**
+     * Fork-join task running an action on a range of chunks, splitting it in halves.
+     */
+    private static final class ChunkTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int[] chunks; // Chunk start positions, followed by the workload size
+        private final int low; // First chunk of the task
+        private final int high; // End chunk of the task
+        private final transient RangeAction action; // Work on one chunk
+
+        /**
+         * Constructor for ChunkTask.
+         *
+         * @param chunks Chunk start positions, followed by the workload size.
+         * @param low    First chunk.
+         * @param high   End chunk.
+         * @param action Work on one chunk.
+         */
+        ChunkTask(int[] chunks, int low, int high, RangeAction action) {
+            this.chunks = chunks;
+            this.low = low;
+            this.high = high;
+            this.action = action;
+        }
+
+        @Override
+        protected void compute() {
+            if (high - low == 1) {
+                action.run(chunks[low], chunks[high]);
+                return;
+            }
+            int mid = (low + high) >>> 1;
+            invokeAll(new ChunkTask(chunks, low, mid, action), new ChunkTask(chunks, mid, high, action));
+        }
+    }
+}
@@ -2,11 +2,17 @@
 package scheduler.algorithms;
 
 import scheduler.models.Process;
+import scheduler.models.ProcessTable;
+import scheduler.models.ScheduleResults;
+import scheduler.models.Workload;
+
 import java.util.List;
 
 /**
  * FCFS (First-Come, First-Served) scheduling algorithm.
  * This scheduler processes tasks in the order of their arrival time.
+ * Rows are served in table order, so the table must already be sorted by arrival time;
+ * {@link ParallelFCFS} sorts its input and scales to very large workloads.
  */
 public class FCFS extends Scheduler {
 
@@ -19,6 +25,25 @@ public class FCFS extends Scheduler {
         super(processes);
     }
 
+    /**
+     * Constructor for FCFS Scheduler running directly on a process table.
+     *
+     * @param table Processes to schedule, one per row.
+     */
+    public FCFS(ProcessTable table) {
+        super(table);
+    }
+
+    /**
+     * Constructor for FCFS Scheduler running on separate input and output storage.
+     *
+     * @param workload Processes to schedule, one per row.
+     * @param results  Destination for the computed metrics.
+     */
+    public FCFS(Workload workload, ScheduleResults results) {
+        super(workload, results);
+    }
+
     /**
      * Implements the FCFS scheduling logic.
      * Processes are executed in the order they arrive.
@@ -26,29 +51,35 @@ public class FCFS extends Scheduler {
      * turnaround time, and waiting time for each process.
      */
     @Override
-    public void schedule() {
-        int currentTime = 0; // Keeps track of the current time in the system.
+    protected void schedule(Workload workload) {
+        long currentTime = 0; // Keeps track of the current time in the system.
+        int arrived = 0; // Rows that have arrived by the current time (only tracked for the listener).
 
-        for (Process process : processes) {
+        for (int row = 0; row < workload.size(); row++) {
             // Handle idle time (CPU is idle if no process has arrived yet).
-            if (currentTime < process.getArrivalTime()) {
-                currentTime = process.getArrivalTime();
+            if (currentTime < workload.getArrivalTime(row)) {
+                notifyIdle(currentTime, workload.getArrivalTime(row));
+                currentTime = workload.getArrivalTime(row);
             }
 
-            // Set the process's start time to the current time.
-            process.setStartTime(currentTime);
-
-            // Calculate and set the completion time for the process.
-            process.setCompletionTime(currentTime + process.getBurstTime());
-
-            // Calculate and set the turnaround time: total time in the system.
-            process.setTurnaroundTime(process.getCompletionTime() - process.getArrivalTime());
+            // Report the dispatch with the number of later rows already waiting.
+            if (isObserved()) {
+                arrived = Math.max(arrived, row + 1);
+                while (arrived < workload.size() && workload.getArrivalTime(arrived) <= currentTime) {
+                    arrived++;
+                }
+                notifyDispatch(row, currentTime, arrived - row - 1);
+            }
 
-            // Calculate and set the waiting time: time spent waiting to be executed.
-            process.setWaitingTime(process.getTurnaroundTime() - process.getBurstTime());
+            // Set the process's start time to the current time.
+            start(row, currentTime);
 
             // Update the current time to reflect the end of the process execution.
-            currentTime = process.getCompletionTime();
+            recordSegment(row, currentTime, currentTime + workload.getBurstTime(row));
+            currentTime += workload.getBurstTime(row);
+
+            // Set the completion time; turnaround and waiting times are derived from it.
+            complete(row, currentTime);
         }
     }
 }
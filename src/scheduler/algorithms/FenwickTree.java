@@ -0,0 +1,62 @@
+// File: scheduler/algorithms/FenwickTree.java
+package scheduler.algorithms;
+
+/**
+ * Fenwick (binary indexed) tree of non-negative long weights, one per index.
+ * Updating a weight, reading the total and finding the index that owns a point of the cumulative
+ * weight (the weighted draw of a lottery) are all O(log n); the tree is a single long array.
+ */
+final class FenwickTree {
+    private final long[] tree; // tree[i] holds the sum of weights (i - lowbit(i), i], 1-based
+    private final int topBit; // Highest power of two not above the size, for the descent
+    private long total; // Sum of all weights
+
+    /**
+     * Creates a tree of the given size with every weight zero.
+     *
+     * @param size Number of indices.
+     */
+    FenwickTree(int size) {
+        tree = new long[size + 1];
+        topBit = size == 0 ? 0 : Integer.highestOneBit(size);
+    }
+
+    /**
+     * Adds to the weight of an index.
+     *
+     * @param index Index, from 0.
+     * @param delta Amount to add; the weight must stay non-negative.
+     */
+    void add(int index, long delta) {
+        for (int i = index + 1; i < tree.length; i += i & -i) {
+            tree[i] += delta;
+        }
+        total += delta;
+    }
+
+    /**
+     * @return Sum of all weights.
+     */
+    long total() {
+        return total;
+    }
+
+    /**
+     * Finds the index owning a point of the cumulative weight: the smallest index whose prefix sum
+     * (its own weight included) exceeds the target. Indices with zero weight are never returned.
+     *
+     * @param target Point of the cumulative weight, in {@code [0, total())}.
+     * @return The owning index.
+     */
+    int find(long target) {
+        int position = 0; // 1-based index whose prefix sum is known to be at most the target
+        for (int bit = topBit; bit != 0; bit >>>= 1) {
+            int next = position + bit;
+            if (next < tree.length && tree[next] <= target) {
+                position = next;
+                target -= tree[next];
+            }
+        }
+        return position;
+    }
+}
@@ -0,0 +1,528 @@
+// File: scheduler/algorithms/IncrementalScheduler.java
+package scheduler.algorithms;
+
+import scheduler.models.Process;
+import scheduler.models.Workload;
+
+import java.util.Arrays;
+
+/**
+ * Non-preemptive scheduler (FCFS, SJF or Priority) that keeps its schedule up to date while single
+ * processes are added, removed or changed, for what-if sessions.
+ * <p>
+ * These rules never leave the CPU idle while a process is waiting, so the schedule splits into busy
+ * periods separated by idle gaps, and each busy period depends only on the processes arriving in it:
+ * at its start the ready queue is empty and nothing earlier matters. The scheduler keeps a checkpoint at
+ * every busy-period start. After an edit it resumes from the last checkpoint before the edited process
+ * and simulates forward until it goes idle in front of a busy period of the old schedule that lies
+ * entirely after the edit; from there on the old schedule is still correct and is kept. An edit
+ * therefore costs roughly the size of the busy periods it touches rather than the whole workload.
+ * <p>
+ * Processes are identified by the id {@link #add} returns, which never changes. Ties go to the earlier
+ * arrival, then the lower id, as in the batch schedulers; FCFS serves in arrival order, which equals
+ * {@link FCFS} on an arrival-ordered list. Priority runs without aging, since aging makes the state at
+ * a busy-period start depend on the clock.
+ */
+public class IncrementalScheduler {
+    private static final int INITIAL_CAPACITY = 16; // Initial length of the per-process arrays
+
+    private final LocalPolicy.Kind kind; // Selection rule: FCFS, SJF or PRIORITY
+
+    // Processes, indexed by id
+    private String[] names; // Name of each process, or null for a generated one
+    private int[] arrivalTimes; // Arrival time of each process
+    private int[] burstTimes; // Burst time of each process
+    private int[] priorities; // Priority of each process
+    private long[] startTimes; // Start time of each process (-1 once removed)
+    private long[] completionTimes; // Completion time of each process (-1 once removed)
+    private int ids; // Ids handed out so far
+
+    // Live processes in arrival order, ties broken by id
+    private int[] order;
+    private int live; // Number of live processes
+
+    // Busy-period checkpoints, in order
+    private int[] periodStarts; // Position in order of each busy period's first process
+    private long[] idleSince; // Time the CPU went idle before each busy period (Long.MIN_VALUE for the first)
+    private int periods; // Number of busy periods
+
+    // New checkpoints found while rescheduling
+    private int[] foundStarts = new int[INITIAL_CAPACITY];
+    private long[] foundIdle = new long[INITIAL_CAPACITY];
+
+    private final LongMinHeap readyQueue = new LongMinHeap(INITIAL_CAPACITY); // Ready queue of the busy period
+    private int lastRescheduled; // Processes simulated by the last update
+
+    /**
+     * Constructor for an empty IncrementalScheduler.
+     *
+     * @param policy Selection rule: FCFS, SJF or Priority.
+     * @throws IllegalArgumentException If the policy is preemptive (Round Robin).
+     */
+    public IncrementalScheduler(LocalPolicy policy) {
+        if (policy.getKind() == LocalPolicy.Kind.ROUND_ROBIN) {
+            throw new IllegalArgumentException("Incremental scheduling supports FCFS, SJF and Priority, not " + policy);
+        }
+        this.kind = policy.getKind();
+        names = new String[INITIAL_CAPACITY];
+        arrivalTimes = new int[INITIAL_CAPACITY];
+        burstTimes = new int[INITIAL_CAPACITY];
+        priorities = new int[INITIAL_CAPACITY];
+        startTimes = new long[INITIAL_CAPACITY];
+        completionTimes = new long[INITIAL_CAPACITY];
+        order = new int[INITIAL_CAPACITY];
+        periodStarts = new int[INITIAL_CAPACITY];
+        idleSince = new long[INITIAL_CAPACITY];
+    }
+
+    /**
+     * Constructor for an IncrementalScheduler starting from a workload, which is scheduled in full.
+     * Row {@code i} of the workload gets id {@code i}.
+     *
+     * @param workload Initial processes.
+     * @param policy   Selection rule: FCFS, SJF or Priority.
+     * @throws IllegalArgumentException If the policy is preemptive or a process is invalid.
+     */
+    public IncrementalScheduler(Workload workload, LocalPolicy policy) {
+        this(policy);
+        int count = workload.size();
+        ensureCapacity(count);
+        for (int row = 0; row < count; row++) {
+            validate(workload.getArrivalTime(row), workload.getBurstTime(row));
+            names[row] = workload.getName(row);
+            arrivalTimes[row] = workload.getArrivalTime(row);
+            burstTimes[row] = workload.getBurstTime(row);
+            priorities[row] = workload.getPriority(row);
+        }
+        ids = count;
+        order = workload.rowsByArrival();
+        live = count;
+        reschedule(-1, -1);
+    }
+
+    /**
+     * Adds a process and updates the schedule.
+     *
+     * @param name        Name of the process, or null for "P" followed by id + 1.
+     * @param arrivalTime Arrival time.
+     * @param burstTime   Burst time.
+     * @param priority    Priority (lower value first).
+     * @return Id of the new process.
+     * @throws IllegalArgumentException If the arrival or burst time is negative.
+     */
+    public int add(String name, int arrivalTime, int burstTime, int priority) {
+        validate(arrivalTime, burstTime);
+        ensureCapacity(ids + 1);
+        int id = ids++;
+        names[id] = name;
+        arrivalTimes[id] = arrivalTime;
+        burstTimes[id] = burstTime;
+        priorities[id] = priority;
+        int insertedAt = insert(id);
+        reschedule(-1, insertedAt);
+        return id;
+    }
+
+    /**
+     * Removes a process and updates the schedule.
+     *
+     * @param id Id of the process.
+     * @throws IllegalArgumentException If there is no live process with this id.
+     */
+    public void remove(int id) {
+        int removedAt = delete(id);
+        startTimes[id] = -1;
+        completionTimes[id] = -1;
+        reschedule(removedAt, -1);
+    }
+
+    /**
+     * Changes the attributes of a process and updates the schedule.
+     *
+     * @param id          Id of the process.
+     * @param arrivalTime New arrival time.
+     * @param burstTime   New burst time.
+     * @param priority    New priority.
+     * @throws IllegalArgumentException If there is no live process with this id, or a time is negative.
+     */
+    public void update(int id, int arrivalTime, int burstTime, int priority) {
+        validate(arrivalTime, burstTime);
+        checkLive(id);
+        if (arrivalTime == arrivalTimes[id]) {
+            // Same arrival time: the process keeps its position, so nothing has to move.
+            burstTimes[id] = burstTime;
+            priorities[id] = priority;
+            int position = search(id);
+            reschedule(position, position);
+            return;
+        }
+        int removedAt = delete(id);
+        arrivalTimes[id] = arrivalTime;
+        burstTimes[id] = burstTime;
+        priorities[id] = priority;
+        int insertedAt = insert(id);
+        reschedule(removedAt, insertedAt);
+    }
+
+    /**
+     * @return Number of live processes.
+     */
+    public int size() {
+        return live;
+    }
+
+    /**
+     * @return Number of ids handed out, including those of removed processes.
+     */
+    public int getIdCount() {
+        return ids;
+    }
+
+    /**
+     * @param id Id of a process.
+     * @return True if the process has been removed.
+     */
+    public boolean isRemoved(int id) {
+        checkId(id);
+        return startTimes[id] < 0;
+    }
+
+    /**
+     * @param id Id of a live process.
+     * @return Time at which the process starts.
+     */
+    public long getStartTime(int id) {
+        checkLive(id);
+        return startTimes[id];
+    }
+
+    /**
+     * @param id Id of a live process.
+     * @return Time at which the process completes.
+     */
+    public long getCompletionTime(int id) {
+        checkLive(id);
+        return completionTimes[id];
+    }
+
+    /**
+     * @param id Id of a live process.
+     * @return Turnaround time (completion - arrival).
+     */
+    public long getTurnaroundTime(int id) {
+        return getCompletionTime(id) - arrivalTimes[id];
+    }
+
+    /**
+     * @param id Id of a live process.
+     * @return Waiting time (turnaround - burst).
+     */
+    public long getWaitingTime(int id) {
+        return getTurnaroundTime(id) - burstTimes[id];
+    }
+
+    /**
+     * Creates a standalone {@link Process} holding a copy of one process and its schedule.
+     *
+     * @param id Id of a live process.
+     * @return A new Process with the attributes and scheduling metrics.
+     */
+    public Process toProcess(int id) {
+        checkLive(id);
+        Process process = new Process(names[id] != null ? names[id] : "P" + (id + 1),
+                arrivalTimes[id], burstTimes[id], priorities[id]);
+        process.setRemainingTime(0);
+        process.setStartTime(Math.toIntExact(startTimes[id]));
+        process.setCompletionTime(Math.toIntExact(completionTimes[id]));
+        process.setTurnaroundTime(Math.toIntExact(getTurnaroundTime(id)));
+        process.setWaitingTime(Math.toIntExact(getWaitingTime(id)));
+        return process;
+    }
+
+    /**
+     * @return Number of busy periods in the current schedule.
+     */
+    public int getBusyPeriods() {
+        return periods;
+    }
+
+    /**
+     * @return Number of processes simulated again by the last add, remove or update.
+     */
+    public int getLastRescheduled() {
+        return lastRescheduled;
+    }
+
+    /**
+     * Simulates again from the last valid checkpoint before an edit until the schedule rejoins the old
+     * one, and splices the new checkpoints into the list. Positions are in {@link #order}: the edited
+     * process was taken out at {@code removedAt} (old positions) and put back at {@code insertedAt}
+     * (new positions); -1 means no removal or no insertion. Both -1 schedules everything.
+     *
+     * @param removedAt  Old position of a removed process, or -1.
+     * @param insertedAt New position of an inserted process, or -1.
+     */
+    private void reschedule(int removedAt, int insertedAt) {
+        // Step 1: Find the last checkpoint before the edit. Positions before both edits are unchanged.
+        int edit = removedAt < 0 ? insertedAt : insertedAt < 0 ? removedAt : Math.min(removedAt, insertedAt);
+        int resumed = edit < 0 ? -1 : lastCheckpointAtOrBefore(edit);
+        // A checkpoint on the edit itself stays valid only if its period still starts after the CPU went idle.
+        while (resumed > 0 && (periodStarts[resumed] >= live
+                || idleSince[resumed] >= arrivalTimes[order[periodStarts[resumed]]])) {
+            resumed--;
+        }
+        int kept = Math.max(resumed, 0); // Checkpoints kept unchanged before the resumed one
+        int position = resumed < 0 ? 0 : periodStarts[resumed];
+        long idle = resumed < 0 ? Long.MIN_VALUE : idleSince[resumed];
+
+        // Step 2: Simulate busy period after busy period until one starts at an unaffected old checkpoint.
+        int found = 0;
+        int rejoined = -1; // Old checkpoint where the schedule rejoined, or -1 if it ran to the end
+        int next = kept + 1; // Next old checkpoint that could be rejoined
+        int simulated = 0;
+        while (position < live) {
+            if (found > 0) {
+                while (next < periods && mapPosition(periodStarts[next], removedAt, insertedAt) < position) {
+                    next++;
+                }
+                if (next < periods && mapPosition(periodStarts[next], removedAt, insertedAt) == position
+                        && periodStarts[next] > removedAt && position > insertedAt) {
+                    rejoined = next;
+                    break;
+                }
+            }
+            addFound(found++, position, idle);
+            long currentTime = arrivalTimes[order[position]];
+            do {
+                while (position < live && arrivalTimes[order[position]] <= currentTime) {
+                    readyQueue.add(queueKey(position));
+                    position++;
+                }
+                int id = select(readyQueue.poll());
+                startTimes[id] = currentTime;
+                currentTime += burstTimes[id];
+                completionTimes[id] = currentTime;
+                simulated++;
+            } while (!readyQueue.isEmpty() || (position < live && arrivalTimes[order[position]] <= currentTime));
+            idle = currentTime;
+        }
+        lastRescheduled = simulated;
+
+        // Step 3: Splice: kept checkpoints, then the new ones, then the old ones from the rejoin point.
+        int tail = rejoined < 0 ? 0 : periods - rejoined;
+        ensureCheckpointCapacity(kept + found + tail);
+        if (tail > 0) {
+            if (rejoined != kept + found) {
+                System.arraycopy(periodStarts, rejoined, periodStarts, kept + found, tail);
+                System.arraycopy(idleSince, rejoined, idleSince, kept + found, tail);
+            }
+            if (removedAt != insertedAt) {
+                for (int i = kept + found; i < kept + found + tail; i++) {
+                    periodStarts[i] = mapPosition(periodStarts[i], removedAt, insertedAt);
+                }
+            }
+            idleSince[kept + found] = idle;
+        }
+        System.arraycopy(foundStarts, 0, periodStarts, kept, found);
+        System.arraycopy(foundIdle, 0, idleSince, kept, found);
+        periods = kept + found + tail;
+    }
+
+    /**
+     * Maps an old position in {@link #order} past the edit to its new position.
+     *
+     * @param position   Old position.
+     * @param removedAt  Old position of a removed process, or -1.
+     * @param insertedAt New position of an inserted process, or -1.
+     * @return New position.
+     */
+    private static int mapPosition(int position, int removedAt, int insertedAt) {
+        if (removedAt >= 0 && position > removedAt) {
+            position--;
+        }
+        if (insertedAt >= 0 && position >= insertedAt) {
+            position++;
+        }
+        return position;
+    }
+
+    /**
+     * @param position A position in {@link #order}.
+     * @return Index of the last checkpoint starting at or before the position (0 if there are none).
+     */
+    private int lastCheckpointAtOrBefore(int position) {
+        int low = 0;
+        int high = periods;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (periodStarts[mid] <= position) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return periods == 0 ? -1 : Math.max(low - 1, 0);
+    }
+
+    /**
+     * Builds the ready-queue key of a process. FCFS and Priority order by position (arrival, then id);
+     * SJF orders by burst time, then id, like {@link SJF}.
+     *
+     * @param position Position of the process in {@link #order}.
+     * @return Packed key.
+     */
+    private long queueKey(int position) {
+        return switch (kind) {
+            case SJF -> LongMinHeap.pack(burstTimes[order[position]], order[position]);
+            case PRIORITY -> LongMinHeap.pack(priorities[order[position]], position);
+            default -> LongMinHeap.pack(0, position);
+        };
+    }
+
+    /**
+     * @param key Key polled from the ready queue.
+     * @return Id of the selected process.
+     */
+    private int select(long key) {
+        return kind == LocalPolicy.Kind.SJF ? LongMinHeap.row(key) : order[LongMinHeap.row(key)];
+    }
+
+    /**
+     * Inserts a live process into {@link #order}.
+     *
+     * @param id Id of the process, with its arrival time already set.
+     * @return Position it was inserted at.
+     */
+    private int insert(int id) {
+        int position = search(id);
+        if (live == order.length) {
+            order = Arrays.copyOf(order, Math.max(INITIAL_CAPACITY, live * 2));
+        }
+        System.arraycopy(order, position, order, position + 1, live - position);
+        order[position] = id;
+        live++;
+        return position;
+    }
+
+    /**
+     * Removes a live process from {@link #order}.
+     *
+     * @param id Id of the process.
+     * @return Position it was removed from.
+     */
+    private int delete(int id) {
+        checkLive(id);
+        int position = search(id);
+        System.arraycopy(order, position + 1, order, position, live - position - 1);
+        live--;
+        return position;
+    }
+
+    /**
+     * Finds by binary search where a process belongs in {@link #order}.
+     *
+     * @param id Id of the process.
+     * @return Position of the process, or where it would be inserted.
+     */
+    private int search(int id) {
+        long key = sortKey(id);
+        int low = 0;
+        int high = live;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sortKey(order[mid]) < key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * @param id Id of a process.
+     * @return Key ordering processes by arrival time, then id.
+     */
+    private long sortKey(int id) {
+        return ((long) arrivalTimes[id] << 32) | id;
+    }
+
+    /**
+     * Stores a checkpoint found while rescheduling.
+     *
+     * @param index    Index among the checkpoints found.
+     * @param position Position of the busy period's first process.
+     * @param idle     Time the CPU went idle before it.
+     */
+    private void addFound(int index, int position, long idle) {
+        if (index == foundStarts.length) {
+            foundStarts = Arrays.copyOf(foundStarts, index * 2);
+            foundIdle = Arrays.copyOf(foundIdle, index * 2);
+        }
+        foundStarts[index] = position;
+        foundIdle[index] = idle;
+    }
+
+    /**
+     * Grows the checkpoint arrays to hold at least the given number of busy periods.
+     *
+     * @param capacity Required capacity.
+     */
+    private void ensureCheckpointCapacity(int capacity) {
+        if (capacity > periodStarts.length) {
+            int length = Math.max(capacity, periodStarts.length * 2);
+            periodStarts = Arrays.copyOf(periodStarts, length);
+            idleSince = Arrays.copyOf(idleSince, length);
+        }
+    }
+
+    /**
+     * Grows the per-process arrays to hold at least the given number of ids.
+     *
+     * @param capacity Required capacity.
+     */
+    private void ensureCapacity(int capacity) {
+        if (capacity > arrivalTimes.length) {
+            int length = Math.max(capacity, arrivalTimes.length * 2);
+            names = Arrays.copyOf(names, length);
+            arrivalTimes = Arrays.copyOf(arrivalTimes, length);
+            burstTimes = Arrays.copyOf(burstTimes, length);
+            priorities = Arrays.copyOf(priorities, length);
+            startTimes = Arrays.copyOf(startTimes, length);
+            completionTimes = Arrays.copyOf(completionTimes, length);
+        }
+    }
+
+    /**
+     * @param arrivalTime Arrival time of a process.
+     * @param burstTime   Burst time of a process.
+     * @throws IllegalArgumentException If either is negative.
+     */
+    private static void validate(int arrivalTime, int burstTime) {
+        if (arrivalTime < 0 || burstTime < 0) {
+            throw new IllegalArgumentException("Arrival and burst times must not be negative: "
+                    + arrivalTime + ", " + burstTime);
+        }
+    }
+
+    /**
+     * @param id Id of a process.
+     * @throws IllegalArgumentException If no process has this id.
+     */
+    private void checkId(int id) {
+        if (id < 0 || id >= ids) {
+            throw new IllegalArgumentException("No process with id " + id);
+        }
+    }
+
+    /**
+     * @param id Id of a process.
+     * @throws IllegalArgumentException If there is no live process with this id.
+     */
+    private void checkLive(int id) {
+        checkId(id);
+        if (startTimes[id] < 0) {
+            throw new IllegalArgumentException("Process " + id + " has been removed");
+        }
+    }
+}
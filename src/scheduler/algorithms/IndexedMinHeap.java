@@ -0,0 +1,169 @@
+// File: scheduler/algorithms/IndexedMinHeap.java
+package scheduler.algorithms;
+
+import java.util.Arrays;
+
+/**
+ * Binary min-heap of rows ordered by a long key per row, with a position index so that a row
+ * already in the heap can have its key changed or be removed in O(log n).
+ * Rows must lie in {@code [0, capacity)}; each row is in the heap at most once.
+ */
+class IndexedMinHeap {
+    private final int[] heap; // Heap-ordered rows
+    private final int[] position; // Position of each row in the heap, or -1 if absent
+    private final long[] keys; // Current key of each row
+    private int size; // Number of rows in the heap
+
+    /**
+     * Constructor for IndexedMinHeap.
+     *
+     * @param capacity Number of distinct rows (rows must be below this value).
+     */
+    IndexedMinHeap(int capacity) {
+        heap = new int[capacity];
+        position = new int[capacity];
+        keys = new long[capacity];
+        Arrays.fill(position, -1);
+    }
+
+    /**
+     * Inserts a row.
+     *
+     * @param row Row to insert (must not already be in the heap).
+     * @param key Sort key of the row.
+     */
+    void add(int row, long key) {
+        keys[row] = key;
+        heap[size] = row;
+        position[row] = size;
+        siftUp(size++);
+    }
+
+    /**
+     * Changes the key of a row already in the heap.
+     *
+     * @param row Row to update.
+     * @param key New sort key.
+     */
+    void update(int row, long key) {
+        long old = keys[row];
+        keys[row] = key;
+        if (key < old) {
+            siftUp(position[row]);
+        } else if (key > old) {
+            siftDown(position[row]);
+        }
+    }
+
+    /**
+     * Removes a row from anywhere in the heap.
+     *
+     * @param row Row to remove (must be in the heap).
+     */
+    void remove(int row) {
+        int i = position[row];
+        position[row] = -1;
+        int last = heap[--size];
+        if (i == size) {
+            return;
+        }
+        heap[i] = last;
+        position[last] = i;
+        siftDown(i);
+        siftUp(position[last]);
+    }
+
+    /**
+     * @return The row with the smallest key, without removing it.
+     */
+    int peek() {
+        return heap[0];
+    }
+
+    /**
+     * Removes and returns the row with the smallest key.
+     *
+     * @return The row with the smallest key.
+     */
+    int poll() {
+        int min = heap[0];
+        remove(min);
+        return min;
+    }
+
+    /**
+     * @param row Row to look up.
+     * @return Current key of the row.
+     */
+    long key(int row) {
+        return keys[row];
+    }
+
+    /**
+     * @param row Row to look up.
+     * @return True if the row is in the heap.
+     */
+    boolean contains(int row) {
+        return position[row] >= 0;
+    }
+
+    /**
+     * @return True if the heap is empty.
+     */
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @return Number of rows in the heap.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Moves the row at a heap position up until its parent is not larger.
+     *
+     * @param i Heap position.
+     */
+    private void siftUp(int i) {
+        int row = heap[i];
+        long key = keys[row];
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (keys[heap[parent]] <= key) {
+                break;
+            }
+            heap[i] = heap[parent];
+            position[heap[i]] = i;
+            i = parent;
+        }
+        heap[i] = row;
+        position[row] = i;
+    }
+
+    /**
+     * Moves the row at a heap position down until neither child is smaller.
+     *
+     * @param i Heap position.
+     */
+    private void siftDown(int i) {
+        int row = heap[i];
+        long key = keys[row];
+        int half = size >>> 1;
+        while (i < half) {
+            int child = 2 * i + 1;
+            if (child + 1 < size && keys[heap[child + 1]] < keys[heap[child]]) {
+                child++;
+            }
+            if (key <= keys[heap[child]]) {
+                break;
+            }
+            heap[i] = heap[child];
+            position[heap[i]] = i;
+            i = child;
+        }
+        heap[i] = row;
+        position[row] = i;
+    }
+}
@@ -0,0 +1,93 @@
+// File: scheduler/algorithms/IntRingQueue.java
+package scheduler.algorithms;
+
+/**
+ * FIFO queue of primitive ints backed by a circular array.
+ * Schedulers size it for the largest number of rows that can be queued at once,
+ * so offering and polling never allocate; if the capacity is exceeded the array doubles.
+ */
+class IntRingQueue {
+    private int[] ring; // Circular buffer
+    private int head; // Position of the first element
+    private int size; // Number of elements
+
+    /**
+     * Constructor for IntRingQueue.
+     *
+     * @param capacity Number of elements held before the buffer has to grow.
+     */
+    IntRingQueue(int capacity) {
+        ring = new int[Math.max(1, capacity)];
+    }
+
+    /**
+     * Appends a value at the back of the queue.
+     *
+     * @param value Value to append.
+     */
+    void offer(int value) {
+        if (size == ring.length) {
+            grow();
+        }
+        int tail = head + size;
+        ring[tail >= ring.length ? tail - ring.length : tail] = value;
+        size++;
+    }
+
+    /**
+     * Removes and returns the value at the front of the queue. Only valid when the queue is not empty.
+     *
+     * @return The front value.
+     */
+    int poll() {
+        int value = ring[head];
+        head = head + 1 == ring.length ? 0 : head + 1;
+        size--;
+        return value;
+    }
+
+    /**
+     * Returns the value at a position counted from the front, without removing it.
+     *
+     * @param index Position (0 = front).
+     * @return The value at that position.
+     */
+    int get(int index) {
+        int position = head + index;
+        return ring[position >= ring.length ? position - ring.length : position];
+    }
+
+    /**
+     * @return Number of queued values.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * @return True if the queue is empty.
+     */
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes every value.
+     */
+    void clear() {
+        head = 0;
+        size = 0;
+    }
+
+    /**
+     * Doubles the buffer, unrolling the ring so the front is at index 0.
+     */
+    private void grow() {
+        int[] larger = new int[ring.length * 2];
+        for (int i = 0; i < size; i++) {
+            larger[i] = get(i);
+        }
+        ring = larger;
+        head = 0;
+    }
+}
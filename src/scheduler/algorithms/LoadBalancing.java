@@ -0,0 +1,24 @@
+// File: scheduler/algorithms/LoadBalancing.java
+package scheduler.algorithms;
+
+/**
+ * How a {@link MultiCoreScheduler} distributes processes over its CPUs.
+ */
+public enum LoadBalancing {
+
+    /** One run queue shared by all CPUs; any free CPU takes the next process. */
+    GLOBAL_QUEUE,
+
+    /**
+     * One run queue per CPU. Arrivals are spread round-robin over the CPUs, preempted processes
+     * return to the CPU they ran on, and an idle CPU with an empty queue steals from the longest queue.
+     */
+    WORK_STEALING,
+
+    /**
+     * One run queue per CPU. Arrivals go to the least-loaded CPU and preempted processes return
+     * to the CPU they ran on; an idle CPU only steals when another queue holds at least
+     * two waiting processes, trading some idle time for fewer migrations.
+     */
+    AFFINITY
+}
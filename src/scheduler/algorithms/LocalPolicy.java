@@ -0,0 +1,83 @@
+// File: scheduler/algorithms/LocalPolicy.java
+package scheduler.algorithms;
+
+/**
+ * Selection rule a {@link MultiCoreScheduler} applies to each run queue.
+ * The rules are those of the single-CPU schedulers: FCFS orders by arrival time, SJF by burst time,
+ * Priority by priority value (lower first) and Round Robin by queue order with a time quantum.
+ * Ties go to the earlier arrival.
+ */
+public final class LocalPolicy {
+
+    /**
+     * The kinds of selection rule.
+     */
+    public enum Kind {
+        FCFS, SJF, PRIORITY, ROUND_ROBIN
+    }
+
+    private final Kind kind; // Selection rule
+    private final int timeQuantum; // Time slice for Round Robin (0 for non-preemptive rules)
+
+    /**
+     * Constructor for LocalPolicy.
+     *
+     * @param kind        Selection rule.
+     * @param timeQuantum Time slice for Round Robin (0 for non-preemptive rules).
+     */
+    private LocalPolicy(Kind kind, int timeQuantum) {
+        this.kind = kind;
+        this.timeQuantum = timeQuantum;
+    }
+
+    /**
+     * @return First-Come, First-Served (non-preemptive).
+     */
+    public static LocalPolicy fcfs() {
+        return new LocalPolicy(Kind.FCFS, 0);
+    }
+
+    /**
+     * @return Shortest Job First (non-preemptive).
+     */
+    public static LocalPolicy sjf() {
+        return new LocalPolicy(Kind.SJF, 0);
+    }
+
+    /**
+     * @return Priority scheduling (non-preemptive, lower value first).
+     */
+    public static LocalPolicy priority() {
+        return new LocalPolicy(Kind.PRIORITY, 0);
+    }
+
+    /**
+     * @param timeQuantum The fixed time quantum for each process.
+     * @return Round Robin with the given quantum.
+     */
+    public static LocalPolicy roundRobin(int timeQuantum) {
+        if (timeQuantum <= 0) {
+            throw new IllegalArgumentException("Time quantum must be positive: " + timeQuantum);
+        }
+        return new LocalPolicy(Kind.ROUND_ROBIN, timeQuantum);
+    }
+
+    /**
+     * @return The selection rule.
+     */
+    public Kind getKind() {
+        return kind;
+    }
+
+    /**
+     * @return Time slice for Round Robin (0 for non-preemptive rules).
+     */
+    public int getTimeQuantum() {
+        return timeQuantum;
+    }
+
+    @Override
+    public String toString() {
+        return kind == Kind.ROUND_ROBIN ? "ROUND_ROBIN(q=" + timeQuantum + ")" : kind.name();
+    }
+}
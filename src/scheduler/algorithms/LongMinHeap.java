@@ -0,0 +1,111 @@
+// File: scheduler/algorithms/LongMinHeap.java
+package scheduler.algorithms;
+
+import java.util.Arrays;
+
+/**
+ * Array-backed binary min-heap of primitive long keys.
+ * Schedulers pack a sort key and a row number into one long (key in the high bits,
+ * row in the low 32 bits), so ordering and tie-breaking need no objects or comparators.
+ */
+class LongMinHeap {
+    private long[] heap; // Heap-ordered keys
+    private int size; // Number of keys in the heap
+
+    /**
+     * Constructor for LongMinHeap.
+     *
+     * @param capacity Initial capacity.
+     */
+    LongMinHeap(int capacity) {
+        heap = new long[Math.max(1, capacity)];
+    }
+
+    /**
+     * Packs a sort key and a row into one heap key.
+     *
+     * @param key Primary sort key.
+     * @param row Row number used to break ties (must be non-negative).
+     * @return The packed key.
+     */
+    static long pack(int key, int row) {
+        return ((long) key << 32) | row;
+    }
+
+    /**
+     * Extracts the row from a packed key.
+     *
+     * @param packed Packed key.
+     * @return The row number.
+     */
+    static int row(long packed) {
+        return (int) packed;
+    }
+
+    /**
+     * Inserts a key.
+     *
+     * @param key Key to insert.
+     */
+    void add(long key) {
+        if (size == heap.length) {
+            heap = Arrays.copyOf(heap, size * 2);
+        }
+        int i = size++;
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (heap[parent] <= key) {
+                break;
+            }
+            heap[i] = heap[parent];
+            i = parent;
+        }
+        heap[i] = key;
+    }
+
+    /**
+     * Removes and returns the smallest key.
+     *
+     * @return The smallest key.
+     */
+    long poll() {
+        long min = heap[0];
+        long last = heap[--size];
+        int i = 0;
+        int half = size >>> 1;
+        while (i < half) {
+            int child = 2 * i + 1;
+            if (child + 1 < size && heap[child + 1] < heap[child]) {
+                child++;
+            }
+            if (last <= heap[child]) {
+                break;
+            }
+            heap[i] = heap[child];
+            i = child;
+        }
+        heap[i] = last;
+        return min;
+    }
+
+    /**
+     * @return The smallest key without removing it.
+     */
+    long peek() {
+        return heap[0];
+    }
+
+    /**
+     * @return True if the heap is empty.
+     */
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @return Number of keys in the heap.
+     */
+    int size() {
+        return size;
+    }
+}
@@ -0,0 +1,123 @@
+// File: scheduler/algorithms/LotteryScheduler.java
+package scheduler.algorithms;
+
+import scheduler.models.Process;
+import scheduler.models.ProcessTable;
+import scheduler.models.ScheduleResults;
+import scheduler.models.Workload;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Lottery Scheduler implementation.
+ * A proportional-share algorithm: before every quantum one ticket is drawn at random from all ready
+ * processes' tickets, and its holder runs. Over time each process gets a share of the CPU proportional
+ * to its tickets, and no process starves.
+ * <p>
+ * The tickets of the ready processes are kept in a {@link FenwickTree} indexed by row, so adding a
+ * process on arrival, removing it on completion and finding the holder of a drawn ticket are all
+ * O(log n), even with millions of ready processes. The draws come from a {@link SplittableRandom}
+ * seeded afresh on every run, so the same seed always gives the same schedule.
+ */
+public class LotteryScheduler extends ProportionalShareScheduler {
+    private final long seed; // Seed of the random draws
+    private FenwickTree ready; // Tickets of the ready processes, by row
+    private long[] tickets; // Tickets of each row in the current run
+    private SplittableRandom random; // Source of the draws in the current run
+
+    /**
+     * Constructor for Lottery Scheduler.
+     *
+     * @param processes   List of processes to schedule.
+     * @param timeQuantum The time slice handed out at each draw.
+     * @param seed        Seed of the random draws.
+     */
+    public LotteryScheduler(List<Process> processes, int timeQuantum, long seed) {
+        super(processes, timeQuantum);
+        this.seed = seed;
+    }
+
+    /**
+     * Constructor for Lottery Scheduler running directly on a process table.
+     *
+     * @param table       Processes to schedule, one per row.
+     * @param timeQuantum The time slice handed out at each draw.
+     * @param seed        Seed of the random draws.
+     */
+    public LotteryScheduler(ProcessTable table, int timeQuantum, long seed) {
+        super(table, timeQuantum);
+        this.seed = seed;
+    }
+
+    /**
+     * Constructor for Lottery Scheduler running on separate input and output storage.
+     *
+     * @param workload    Processes to schedule, one per row.
+     * @param results     Destination for the computed metrics.
+     * @param timeQuantum The time slice handed out at each draw.
+     * @param seed        Seed of the random draws.
+     */
+    public LotteryScheduler(Workload workload, ScheduleResults results, int timeQuantum, long seed) {
+        super(workload, results, timeQuantum);
+        this.seed = seed;
+    }
+
+    /**
+     * Builds an empty ticket tree and reseeds the draws.
+     *
+     * @param count   Number of processes.
+     * @param tickets Tickets of each row.
+     */
+    @Override
+    protected void prepare(int count, long[] tickets) {
+        this.ready = new FenwickTree(count);
+        this.tickets = tickets;
+        this.random = new SplittableRandom(seed);
+    }
+
+    /**
+     * Adds the process's tickets to the tree.
+     *
+     * @param row Row of the process.
+     */
+    @Override
+    protected void join(int row) {
+        ready.add(row, tickets[row]);
+    }
+
+    /**
+     * Draws a ticket uniformly from the ready processes' tickets and returns its holder.
+     *
+     * @return Row of the winning process.
+     */
+    @Override
+    protected int select() {
+        return ready.find(random.nextLong(ready.total()));
+    }
+
+    /**
+     * @param row Row of the process.
+     */
+    @Override
+    protected void charge(int row) {
+        // A lottery keeps no history: the process that just ran is as likely as ever to win the next draw.
+    }
+
+    /**
+     * Removes the process's tickets from the tree.
+     *
+     * @param row Row of the process.
+     */
+    @Override
+    protected void leave(int row) {
+        ready.add(row, -tickets[row]);
+    }
+
+    /**
+     * @return Seed of the random draws.
+     */
+    public long getSeed() {
+        return seed;
+    }
+}
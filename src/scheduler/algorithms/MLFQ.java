@@ -0,0 +1,308 @@
+// File: scheduler/algorithms/MLFQ.java
+package scheduler.algorithms;
+
+import scheduler.models.Process;
+import scheduler.models.ProcessTable;
+import scheduler.models.ScheduleResults;
+import scheduler.models.Workload;
+
+import java.util.List;
+
+/**
+ * Multi-Level Feedback Queue (MLFQ) Scheduler implementation.
+ * <p>
+ * New processes enter the top level (0). The highest non-empty level always runs, round-robin
+ * within the level. A process that uses up its level's quantum is demoted one level (the bottom
+ * level is plain Round Robin); time used at a level accumulates across slices, so yielding early
+ * does not reset the allotment. A newly arrived process preempts a process running below the top
+ * level, which returns to the back of its own level. Every boost interval, all processes move back
+ * to the top level with a fresh allotment.
+ * <p>
+ * Level queues are {@link IntRingQueue} ring buffers of rows, so running the simulation does not
+ * allocate per slice. The simulation is event-driven: it wakes at slice ends, arrivals and boosts.
+ */
+public class MLFQ extends Scheduler {
+    private final int[] quanta; // Time quantum of each level (index 0 is the top level)
+    private final int boostInterval; // Time units between priority boosts (0 disables boosting)
+
+    // Metrics of the last run
+    private long[] timeAtLevel; // CPU time spent running processes at each level
+    private double[] occupancyArea; // Integral over time of the processes resident at each level
+    private int[] peakOccupancy; // Largest number of processes resident at each level
+    private long demotions; // Number of times a process moved down a level
+    private long boosts; // Number of priority boosts performed
+    private long makespan; // Time at which the last process completed
+
+    /**
+     * Constructor for MLFQ Scheduler.
+     *
+     * @param processes     List of processes to be scheduled.
+     * @param quanta        Time quantum of each level, from the top level down.
+     * @param boostInterval Time units between priority boosts (0 disables boosting).
+     */
+    public MLFQ(List<Process> processes, int[] quanta, int boostInterval) {
+        super(processes);
+        this.quanta = checkQuanta(quanta);
+        this.boostInterval = checkBoostInterval(boostInterval);
+    }
+
+    /**
+     * Constructor for MLFQ Scheduler running directly on a process table.
+     *
+     * @param table         Processes to be scheduled, one per row.
+     * @param quanta        Time quantum of each level, from the top level down.
+     * @param boostInterval Time units between priority boosts (0 disables boosting).
+     */
+    public MLFQ(ProcessTable table, int[] quanta, int boostInterval) {
+        super(table);
+        this.quanta = checkQuanta(quanta);
+        this.boostInterval = checkBoostInterval(boostInterval);
+    }
+
+    /**
+     * Constructor for MLFQ Scheduler running on separate input and output storage.
+     *
+     * @param workload      Processes to be scheduled, one per row.
+     * @param results       Destination for the computed metrics.
+     * @param quanta        Time quantum of each level, from the top level down.
+     * @param boostInterval Time units between priority boosts (0 disables boosting).
+     */
+    public MLFQ(Workload workload, ScheduleResults results, int[] quanta, int boostInterval) {
+        super(workload, results);
+        this.quanta = checkQuanta(quanta);
+        this.boostInterval = checkBoostInterval(boostInterval);
+    }
+
+    /**
+     * Validates the per-level quanta.
+     *
+     * @param quanta Requested quanta, from the top level down.
+     * @return A copy of the quanta.
+     */
+    private static int[] checkQuanta(int[] quanta) {
+        if (quanta.length == 0) {
+            throw new IllegalArgumentException("At least one level is required");
+        }
+        for (int quantum : quanta) {
+            if (quantum <= 0) {
+                throw new IllegalArgumentException("Time quantum must be positive: " + quantum);
+            }
+        }
+        return quanta.clone();
+    }
+
+    /**
+     * Validates a boost interval.
+     *
+     * @param boostInterval Requested boost interval.
+     * @return The boost interval.
+     */
+    private static int checkBoostInterval(int boostInterval) {
+        if (boostInterval < 0) {
+            throw new IllegalArgumentException("Boost interval must not be negative: " + boostInterval);
+        }
+        return boostInterval;
+    }
+
+    /**
+     * Implements the MLFQ scheduling algorithm.
+     *
+     * @param workload Processes to be scheduled, one per row.
+     */
+    @Override
+    protected void schedule(Workload workload) {
+        int count = workload.size();
+        int levels = quanta.length;
+
+        // Step 1: Sort arrivals once and create the level queues and per-row state.
+        int[] arrivalOrder = workload.rowsByArrival();
+        IntRingQueue[] queues = new IntRingQueue[levels];
+        queues[0] = new IntRingQueue(count);
+        for (int level = 1; level < levels; level++) {
+            queues[level] = new IntRingQueue(Math.min(count, 1024));
+        }
+        int[] remainingTime = new int[count]; // Remaining execution time of each row
+        int[] levelOf = new int[count]; // Current level of each row
+        int[] allotmentUsed = new int[count]; // Time used at the current level
+        for (int row = 0; row < count; row++) {
+            remainingTime[row] = workload.getBurstTime(row);
+        }
+
+        timeAtLevel = new long[levels];
+        occupancyArea = new double[levels];
+        peakOccupancy = new int[levels];
+        demotions = 0;
+        boosts = 0;
+
+        long currentTime = 0; // Tracks the current system time.
+        long nextBoost = boostInterval > 0 ? boostInterval : Long.MAX_VALUE; // Time of the next boost.
+        int nextArrival = 0; // Position in arrivalOrder of the next process not yet admitted.
+        int finished = 0; // Number of completed processes.
+        int preempted = -1; // Row whose slice just ended without completing, or -1.
+
+        while (finished < count) {
+            // Step 2: Admit arrivals to the top level, ahead of the process whose slice just ended.
+            while (nextArrival < count && workload.getArrivalTime(arrivalOrder[nextArrival]) <= currentTime) {
+                int row = arrivalOrder[nextArrival++];
+                queues[0].offer(row);
+            }
+            if (preempted >= 0) {
+                queues[levelOf[preempted]].offer(preempted);
+                preempted = -1;
+            }
+
+            // Step 3: Boost every process back to the top level when the boost interval has elapsed.
+            if (currentTime >= nextBoost) {
+                boost(queues, levelOf, allotmentUsed);
+                nextBoost = (currentTime / boostInterval + 1) * boostInterval;
+            }
+
+            // Step 4: Find the highest non-empty level; if all are empty, jump to the next arrival.
+            int level = 0;
+            while (level < levels && queues[level].isEmpty()) {
+                level++;
+            }
+            if (level == levels) {
+                notifyIdle(currentTime, workload.getArrivalTime(arrivalOrder[nextArrival]));
+                currentTime = workload.getArrivalTime(arrivalOrder[nextArrival]);
+                continue;
+            }
+            for (int l = 0; l < levels; l++) {
+                peakOccupancy[l] = Math.max(peakOccupancy[l], queues[l].size());
+            }
+
+            // Step 5: Run the front process until its allotment runs out, it completes,
+            // or (below the top level) an arrival or boost preempts it.
+            int row = queues[level].poll();
+            if (isObserved()) {
+                int waiting = 0;
+                for (IntRingQueue queue : queues) {
+                    waiting += queue.size();
+                }
+                notifyDispatch(row, currentTime, waiting);
+            }
+            if (remainingTime[row] == workload.getBurstTime(row)) {
+                start(row, currentTime);
+            }
+            long sliceEnd = currentTime + Math.min(quanta[level] - allotmentUsed[row], remainingTime[row]);
+            if (level > 0 && nextArrival < count) {
+                sliceEnd = Math.min(sliceEnd, workload.getArrivalTime(arrivalOrder[nextArrival]));
+            }
+            sliceEnd = Math.min(sliceEnd, nextBoost);
+
+            int ran = (int) (sliceEnd - currentTime);
+            for (int l = 0; l < levels; l++) {
+                occupancyArea[l] += (double) ran * (queues[l].size() + (l == level ? 1 : 0));
+            }
+            recordSegment(row, currentTime, sliceEnd);
+            timeAtLevel[level] += ran;
+            remainingTime[row] -= ran;
+            allotmentUsed[row] += ran;
+            currentTime = sliceEnd;
+
+            // Step 6: Complete the process, or demote it if its allotment is used up, then re-queue it.
+            if (remainingTime[row] == 0) {
+                complete(row, currentTime);
+                finished++;
+                continue;
+            }
+            if (allotmentUsed[row] == quanta[level]) {
+                if (level + 1 < levels) {
+                    levelOf[row] = level + 1;
+                    demotions++;
+                }
+                allotmentUsed[row] = 0;
+            }
+            notifyPreemption(row, currentTime);
+            preempted = row;
+        }
+
+        makespan = currentTime;
+    }
+
+    /**
+     * Moves every queued process to the back of the top level, in level order, and resets all allotments.
+     *
+     * @param queues        Level queues.
+     * @param levelOf       Current level of each row.
+     * @param allotmentUsed Time used at the current level by each row.
+     */
+    private void boost(IntRingQueue[] queues, int[] levelOf, int[] allotmentUsed) {
+        IntRingQueue top = queues[0];
+        for (int i = 0; i < top.size(); i++) {
+            allotmentUsed[top.get(i)] = 0;
+        }
+        for (int level = 1; level < queues.length; level++) {
+            IntRingQueue queue = queues[level];
+            while (!queue.isEmpty()) {
+                int row = queue.poll();
+                levelOf[row] = 0;
+                allotmentUsed[row] = 0;
+                top.offer(row);
+            }
+        }
+        boosts++;
+    }
+
+    // ----------- Configuration and metrics of the last run -----------
+
+    /**
+     * @return Number of levels.
+     */
+    public int getLevels() {
+        return quanta.length;
+    }
+
+    /**
+     * @param level Level index (0 is the top level).
+     * @return Time quantum of the level.
+     */
+    public int getTimeQuantum(int level) {
+        return quanta[level];
+    }
+
+    /**
+     * @return Time units between priority boosts (0 if boosting is disabled).
+     */
+    public int getBoostInterval() {
+        return boostInterval;
+    }
+
+    /**
+     * @param level Level index (0 is the top level).
+     * @return CPU time spent running processes at the level.
+     */
+    public long getTimeAtLevel(int level) {
+        return timeAtLevel[level];
+    }
+
+    /**
+     * @param level Level index (0 is the top level).
+     * @return Time-weighted average number of processes at the level (waiting or running) over the makespan.
+     */
+    public double getAverageOccupancy(int level) {
+        return makespan == 0 ? 0 : occupancyArea[level] / makespan;
+    }
+
+    /**
+     * @param level Level index (0 is the top level).
+     * @return Largest number of processes at the level at a dispatch.
+     */
+    public int getPeakOccupancy(int level) {
+        return peakOccupancy[level];
+    }
+
+    /**
+     * @return Number of times a process moved down a level.
+     */
+    public long getDemotions() {
+        return demotions;
+    }
+
+    /**
+     * @return Number of priority boosts performed.
+     */
+    public long getBoosts() {
+        return boosts;
+    }
+}
@@ -0,0 +1,399 @@
+// File: scheduler/algorithms/MultiCoreScheduler.java
+package scheduler.algorithms;
+
+import scheduler.models.Process;
+import scheduler.models.ProcessTable;
+import scheduler.models.ScheduleResults;
+import scheduler.models.Workload;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Multi-processor scheduler simulating several CPUs, each applying a {@link LocalPolicy}
+ * (FCFS, SJF, Priority or Round Robin) to its run queue, with a configurable {@link LoadBalancing} strategy.
+ * <p>
+ * The simulation is event-driven: time only advances to the next arrival or the next end of a slice.
+ * At each event, finished slices are closed first, then new arrivals are queued, then preempted
+ * processes are re-queued, and finally idle CPUs pick (or steal) their next process.
+ * After a run, per-CPU busy time, utilization and migration counts are available.
+ */
+public class MultiCoreScheduler extends Scheduler {
+    private static final int AFFINITY_STEAL_THRESHOLD = 2; // Waiting processes a victim needs before an AFFINITY steal
+    private static final int IDLE = -1; // Marks an idle CPU or a process that has not run yet
+
+    private final int cores; // Number of simulated CPUs
+    private final LocalPolicy policy; // Selection rule on each run queue
+    private final LoadBalancing balancing; // Distribution of processes over CPUs
+
+    // Per-run state
+    private int[] arrivalOrder; // Rows sorted by arrival time
+    private int[] arrivalRank; // Position of each row in arrivalOrder (tie-breaker)
+    private LongMinHeap[] heaps; // Run queues for FCFS/SJF/Priority
+    private IntRingQueue[] rings; // Run queues for Round Robin
+
+    // Metrics of the last run
+    private long[] busyTime; // Time each CPU spent running processes
+    private long[] migrations; // Processes that resumed on each CPU after last running on another
+    private long steals; // Processes taken from another CPU's queue
+    private long makespan; // Time at which the last process completed
+
+    /**
+     * Constructor for MultiCoreScheduler.
+     *
+     * @param processes List of processes to schedule.
+     * @param cores     Number of simulated CPUs.
+     * @param policy    Selection rule applied to each run queue.
+     * @param balancing Distribution of processes over the CPUs.
+     */
+    public MultiCoreScheduler(List<Process> processes, int cores, LocalPolicy policy, LoadBalancing balancing) {
+        super(processes);
+        this.cores = checkCores(cores);
+        this.policy = policy;
+        this.balancing = balancing;
+    }
+
+    /**
+     * Constructor for MultiCoreScheduler running directly on a process table.
+     *
+     * @param table     Processes to schedule, one per row.
+     * @param cores     Number of simulated CPUs.
+     * @param policy    Selection rule applied to each run queue.
+     * @param balancing Distribution of processes over the CPUs.
+     */
+    public MultiCoreScheduler(ProcessTable table, int cores, LocalPolicy policy, LoadBalancing balancing) {
+        super(table);
+        this.cores = checkCores(cores);
+        this.policy = policy;
+        this.balancing = balancing;
+    }
+
+    /**
+     * Constructor for MultiCoreScheduler running on separate input and output storage.
+     *
+     * @param workload  Processes to schedule, one per row.
+     * @param results   Destination for the computed metrics.
+     * @param cores     Number of simulated CPUs.
+     * @param policy    Selection rule applied to each run queue.
+     * @param balancing Distribution of processes over the CPUs.
+     */
+    public MultiCoreScheduler(Workload workload, ScheduleResults results, int cores, LocalPolicy policy,
+                              LoadBalancing balancing) {
+        super(workload, results);
+        this.cores = checkCores(cores);
+        this.policy = policy;
+        this.balancing = balancing;
+    }
+
+    /**
+     * Validates a CPU count.
+     *
+     * @param cores Requested number of CPUs.
+     * @return The number of CPUs.
+     */
+    private static int checkCores(int cores) {
+        if (cores < 1) {
+            throw new IllegalArgumentException("At least one CPU is required: " + cores);
+        }
+        return cores;
+    }
+
+    /**
+     * Simulates the CPUs until every process has completed.
+     *
+     * @param workload Processes to schedule, one per row.
+     */
+    @Override
+    protected void schedule(Workload workload) {
+        int count = workload.size();
+        int queues = balancing == LoadBalancing.GLOBAL_QUEUE ? 1 : cores;
+
+        // Step 1: Sort arrivals once and remember each row's rank, used to break ties in the run queues.
+        arrivalOrder = workload.rowsByArrival();
+        arrivalRank = new int[count];
+        for (int rank = 0; rank < count; rank++) {
+            arrivalRank[arrivalOrder[rank]] = rank;
+        }
+
+        // Step 2: Create the run queues and per-run bookkeeping.
+        heaps = null;
+        rings = null;
+        if (policy.getKind() == LocalPolicy.Kind.ROUND_ROBIN) {
+            rings = new IntRingQueue[queues];
+            for (int q = 0; q < queues; q++) {
+                rings[q] = new IntRingQueue(Math.max(16, count / queues));
+            }
+        } else {
+            heaps = new LongMinHeap[queues];
+            for (int q = 0; q < queues; q++) {
+                heaps[q] = new LongMinHeap(Math.max(16, count / queues));
+            }
+        }
+
+        int[] remainingTime = new int[count]; // Remaining execution time of each row
+        int[] lastCore = new int[count]; // CPU each row last ran on
+        for (int row = 0; row < count; row++) {
+            remainingTime[row] = workload.getBurstTime(row);
+        }
+        Arrays.fill(lastCore, IDLE);
+
+        int[] running = new int[cores]; // Row running on each CPU
+        long[] sliceEnd = new long[cores]; // End of the running slice on each CPU
+        int[] sliceLength = new int[cores]; // Length of the running slice on each CPU
+        int[] preempted = new int[cores]; // Rows whose slice ended without completing
+        Arrays.fill(running, IDLE);
+
+        busyTime = new long[cores];
+        migrations = new long[cores];
+        steals = 0;
+
+        long currentTime = 0; // Tracks the current system time.
+        int nextArrival = 0; // Position in arrivalOrder of the next process not yet admitted.
+        int nextTarget = 0; // CPU receiving the next arrival under WORK_STEALING.
+        int finished = 0; // Number of completed processes.
+
+        while (finished < count) {
+            // Step 3: Close the slices ending now; completed processes are recorded, the rest wait to be re-queued.
+            int preemptedCount = 0;
+            for (int core = 0; core < cores; core++) {
+                if (running[core] != IDLE && sliceEnd[core] == currentTime) {
+                    int row = running[core];
+                    running[core] = IDLE;
+                    remainingTime[row] -= sliceLength[core];
+                    if (remainingTime[row] == 0) {
+                        complete(row, currentTime);
+                        finished++;
+                    } else {
+                        notifyPreemption(row, currentTime);
+                        preempted[preemptedCount++] = row;
+                    }
+                }
+            }
+
+            // Step 4: Queue every process that has arrived by now, ahead of preempted processes.
+            while (nextArrival < count && workload.getArrivalTime(arrivalOrder[nextArrival]) <= currentTime) {
+                int row = arrivalOrder[nextArrival++];
+                int target;
+                switch (balancing) {
+                    case GLOBAL_QUEUE -> target = 0;
+                    case WORK_STEALING -> {
+                        target = nextTarget;
+                        nextTarget = nextTarget + 1 == cores ? 0 : nextTarget + 1;
+                    }
+                    default -> target = leastLoadedCore(running);
+                }
+                enqueue(target, workload, row);
+            }
+
+            // Step 5: Preempted processes return to their CPU's queue (or the global queue).
+            for (int i = 0; i < preemptedCount; i++) {
+                int row = preempted[i];
+                enqueue(balancing == LoadBalancing.GLOBAL_QUEUE ? 0 : lastCore[row], workload, row);
+            }
+
+            // Step 6: Idle CPUs take the next process from their own queue, then steal if still idle.
+            for (int core = 0; core < cores; core++) {
+                int queue = balancing == LoadBalancing.GLOBAL_QUEUE ? 0 : core;
+                if (running[core] == IDLE && queueSize(queue) > 0) {
+                    dispatch(core, dequeue(queue), currentTime, workload, remainingTime, lastCore,
+                            running, sliceEnd, sliceLength);
+                }
+            }
+            if (balancing != LoadBalancing.GLOBAL_QUEUE) {
+                int threshold = balancing == LoadBalancing.AFFINITY ? AFFINITY_STEAL_THRESHOLD : 1;
+                for (int core = 0; core < cores; core++) {
+                    if (running[core] != IDLE) {
+                        continue;
+                    }
+                    int victim = longestQueue();
+                    if (queueSize(victim) >= threshold) {
+                        steals++;
+                        dispatch(core, dequeue(victim), currentTime, workload, remainingTime, lastCore,
+                                running, sliceEnd, sliceLength);
+                    }
+                }
+            }
+
+            if (finished == count) {
+                break;
+            }
+
+            // Step 7: Advance to the next event: the earliest slice end or arrival.
+            long nextEvent = nextArrival < count ? workload.getArrivalTime(arrivalOrder[nextArrival]) : Long.MAX_VALUE;
+            boolean busy = false;
+            for (int core = 0; core < cores; core++) {
+                if (running[core] != IDLE) {
+                    nextEvent = Math.min(nextEvent, sliceEnd[core]);
+                    busy = true;
+                }
+            }
+            if (!busy) {
+                notifyIdle(currentTime, nextEvent);
+            }
+            currentTime = nextEvent;
+        }
+
+        makespan = currentTime;
+        heaps = null;
+        rings = null;
+    }
+
+    /**
+     * Starts a slice of a process on a CPU.
+     *
+     * @param core          CPU running the slice.
+     * @param row           Row being dispatched.
+     * @param currentTime   Current system time.
+     * @param workload      Processes being scheduled.
+     * @param remainingTime Remaining execution time of each row.
+     * @param lastCore      CPU each row last ran on.
+     * @param running       Row running on each CPU.
+     * @param sliceEnd      End of the running slice on each CPU.
+     * @param sliceLength   Length of the running slice on each CPU.
+     */
+    private void dispatch(int core, int row, long currentTime, Workload workload, int[] remainingTime,
+                          int[] lastCore, int[] running, long[] sliceEnd, int[] sliceLength) {
+        if (remainingTime[row] == workload.getBurstTime(row)) {
+            start(row, currentTime);
+        }
+        if (lastCore[row] != IDLE && lastCore[row] != core) {
+            migrations[core]++;
+        }
+        lastCore[row] = core;
+
+        int slice = policy.getKind() == LocalPolicy.Kind.ROUND_ROBIN
+                ? Math.min(policy.getTimeQuantum(), remainingTime[row])
+                : remainingTime[row];
+        recordSegment(row, currentTime, currentTime + slice);
+        if (isObserved()) {
+            int waiting = 0;
+            for (int queue = 0; queue < (heaps != null ? heaps.length : rings.length); queue++) {
+                waiting += queueSize(queue);
+            }
+            notifyDispatch(row, currentTime, waiting);
+        }
+        running[core] = row;
+        sliceLength[core] = slice;
+        sliceEnd[core] = currentTime + slice;
+        busyTime[core] += slice;
+    }
+
+    /**
+     * Adds a row to a run queue, keyed according to the local policy.
+     *
+     * @param queue    Run queue index.
+     * @param workload Processes being scheduled.
+     * @param row      Row to queue.
+     */
+    private void enqueue(int queue, Workload workload, int row) {
+        int rank = arrivalRank[row];
+        switch (policy.getKind()) {
+            case ROUND_ROBIN -> rings[queue].offer(row);
+            case FCFS -> heaps[queue].add(LongMinHeap.pack(0, rank));
+            case SJF -> heaps[queue].add(LongMinHeap.pack(workload.getBurstTime(row), rank));
+            case PRIORITY -> heaps[queue].add(LongMinHeap.pack(workload.getPriority(row), rank));
+        }
+    }
+
+    /**
+     * Removes the next row from a run queue according to the local policy.
+     *
+     * @param queue Run queue index.
+     * @return The dequeued row.
+     */
+    private int dequeue(int queue) {
+        return rings != null ? rings[queue].poll() : arrivalOrder[LongMinHeap.row(heaps[queue].poll())];
+    }
+
+    /**
+     * @param queue Run queue index.
+     * @return Number of rows waiting in the run queue.
+     */
+    private int queueSize(int queue) {
+        return rings != null ? rings[queue].size() : heaps[queue].size();
+    }
+
+    /**
+     * @return The CPU whose queue holds the most waiting rows (lowest index on ties).
+     */
+    private int longestQueue() {
+        int longest = 0;
+        for (int core = 1; core < cores; core++) {
+            if (queueSize(core) > queueSize(longest)) {
+                longest = core;
+            }
+        }
+        return longest;
+    }
+
+    /**
+     * @param running Row running on each CPU.
+     * @return The CPU with the fewest waiting plus running rows (lowest index on ties).
+     */
+    private int leastLoadedCore(int[] running) {
+        int best = 0;
+        int bestLoad = Integer.MAX_VALUE;
+        for (int core = 0; core < cores; core++) {
+            int load = queueSize(core) + (running[core] != IDLE ? 1 : 0);
+            if (load < bestLoad) {
+                best = core;
+                bestLoad = load;
+            }
+        }
+        return best;
+    }
+
+    // ----------- Metrics of the last run -----------
+
+    /**
+     * @return Number of simulated CPUs.
+     */
+    public int getCores() {
+        return cores;
+    }
+
+    /**
+     * @param core CPU index.
+     * @return Time the CPU spent running processes.
+     */
+    public long getBusyTime(int core) {
+        return busyTime[core];
+    }
+
+    /**
+     * @param core CPU index.
+     * @return Fraction of the makespan the CPU was busy (0 if nothing ran).
+     */
+    public double getUtilization(int core) {
+        return makespan == 0 ? 0 : (double) busyTime[core] / makespan;
+    }
+
+    /**
+     * @param core CPU index.
+     * @return Number of times a process resumed on this CPU after last running on a different one.
+     */
+    public long getMigrations(int core) {
+        return migrations[core];
+    }
+
+    /**
+     * @return Total number of migrations across all CPUs.
+     */
+    public long getMigrations() {
+        return Arrays.stream(migrations).sum();
+    }
+
+    /**
+     * @return Number of processes an idle CPU took from another CPU's queue.
+     */
+    public long getSteals() {
+        return steals;
+    }
+
+    /**
+     * @return Time at which the last process completed.
+     */
+    public long getMakespan() {
+        return makespan;
+    }
+}
@@ -0,0 +1,182 @@
+// File: scheduler/algorithms/ParallelFCFS.java
+package scheduler.algorithms;
+
+import scheduler.models.Process;
+import scheduler.models.ProcessTable;
+import scheduler.models.ScheduleResults;
+import scheduler.models.Workload;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * FCFS scheduler for very large workloads, computed as a parallel prefix scan on all cores.
+ * <p>
+ * Under FCFS each completion time is {@code c = max(c', a) + b}, where {@code c'} is the previous
+ * completion, {@code a} the arrival and {@code b} the burst time. Every process is therefore the function
+ * {@code x -> max(x + b, a + b)} of the time the CPU frees up, and such functions compose into functions
+ * of the same form ({@code max(x + B, A)}, associative in max-plus algebra). The workload is cut into
+ * chunks; each chunk's composed function is computed in parallel, a short sequential scan over the
+ * chunks gives the time each chunk starts, and the chunks then fill in their start and completion times
+ * in parallel.
+ * <p>
+ * Unlike {@link FCFS}, which serves rows in table order, this scheduler serves processes in arrival
+ * order (ties in row order), sorting unsorted input in parallel first. On arrival-ordered input both
+ * give the same schedule. When segments, metrics or a listener are attached, the final pass runs in
+ * order on one thread so they see the processes in schedule order.
+ */
+public class ParallelFCFS extends Scheduler {
+    private static final int CHUNK_SIZE = 1 << 16; // Processes per chunk of the scan
+
+    /**
+     * Constructor for ParallelFCFS Scheduler.
+     *
+     * @param processes List of processes to schedule.
+     */
+    public ParallelFCFS(List<Process> processes) {
+        super(processes);
+    }
+
+    /**
+     * Constructor for ParallelFCFS Scheduler running directly on a process table.
+     *
+     * @param table Processes to schedule, one per row.
+     */
+    public ParallelFCFS(ProcessTable table) {
+        super(table);
+    }
+
+    /**
+     * Constructor for ParallelFCFS Scheduler running on separate input and output storage.
+     *
+     * @param workload Processes to schedule, one per row.
+     * @param results  Destination for the computed metrics.
+     */
+    public ParallelFCFS(Workload workload, ScheduleResults results) {
+        super(workload, results);
+    }
+
+    /**
+     * Computes the FCFS schedule with a parallel prefix scan. Runs in O(n) work (O(n log n) to sort
+     * unsorted input), spread over all cores.
+     */
+    @Override
+    protected void schedule(Workload workload) {
+        int count = workload.size();
+
+        // Step 1: Sort by arrival time in parallel, unless the rows already are (then order is null).
+        long[] order = isArrivalOrdered(workload) ? null : sortByArrival(workload);
+
+        // Step 2: Compose each chunk's processes into one function x -> max(x + total, latest).
+        int chunks = (count + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        long[] total = new long[chunks]; // Burst time of each chunk
+        long[] latest = new long[chunks]; // Completion of each chunk if the CPU were free from the start
+        IntStream.range(0, chunks).parallel().forEach(chunk -> {
+            long sum = 0;
+            long end = Long.MIN_VALUE;
+            for (int position = chunk * CHUNK_SIZE; position < chunkEnd(chunk, count); position++) {
+                int row = rowAt(order, position);
+                int burst = workload.getBurstTime(row);
+                sum += burst;
+                end = Math.max(end, workload.getArrivalTime(row)) + burst;
+            }
+            total[chunk] = sum;
+            latest[chunk] = end;
+        });
+
+        // Step 3: Scan the chunks in order for the time the CPU frees up before each.
+        long[] free = new long[chunks];
+        long currentTime = 0;
+        for (int chunk = 0; chunk < chunks; chunk++) {
+            free[chunk] = currentTime;
+            currentTime = Math.max(currentTime + total[chunk], latest[chunk]);
+        }
+
+        // Step 4: Fill in the start and completion times, in parallel unless the run is tracked.
+        if (isTracking()) {
+            reportInOrder(workload, order);
+            return;
+        }
+        IntStream.range(0, chunks).parallel().forEach(chunk -> {
+            long time = free[chunk];
+            for (int position = chunk * CHUNK_SIZE; position < chunkEnd(chunk, count); position++) {
+                int row = rowAt(order, position);
+                time = Math.max(time, workload.getArrivalTime(row));
+                results.setStartTime(row, time);
+                time += workload.getBurstTime(row);
+                results.setCompletionTime(row, time);
+            }
+        });
+    }
+
+    /**
+     * Reports the schedule through {@link #start} and {@link #complete} in order, on one thread.
+     *
+     * @param workload The processes to schedule.
+     * @param order    Sorted arrival keys, or null if the rows are in arrival order.
+     */
+    private void reportInOrder(Workload workload, long[] order) {
+        int count = workload.size();
+        long currentTime = 0;
+        int arrived = 0; // Positions that have arrived by the current time (only tracked for the listener)
+        for (int position = 0; position < count; position++) {
+            int row = rowAt(order, position);
+            if (currentTime < workload.getArrivalTime(row)) {
+                notifyIdle(currentTime, workload.getArrivalTime(row));
+                currentTime = workload.getArrivalTime(row);
+            }
+            if (isObserved()) {
+                arrived = Math.max(arrived, position + 1);
+                while (arrived < count && workload.getArrivalTime(rowAt(order, arrived)) <= currentTime) {
+                    arrived++;
+                }
+                notifyDispatch(row, currentTime, arrived - position - 1);
+            }
+            start(row, currentTime);
+            recordSegment(row, currentTime, currentTime + workload.getBurstTime(row));
+            currentTime += workload.getBurstTime(row);
+            complete(row, currentTime);
+        }
+    }
+
+    /**
+     * @param workload The processes to schedule.
+     * @return True if the rows are already in non-decreasing arrival order.
+     */
+    private static boolean isArrivalOrdered(Workload workload) {
+        return IntStream.range(1, workload.size()).parallel()
+                .allMatch(row -> workload.getArrivalTime(row - 1) <= workload.getArrivalTime(row));
+    }
+
+    /**
+     * Sorts the rows by arrival time in parallel, breaking ties by row.
+     *
+     * @param workload The processes to schedule.
+     * @return Keys packing arrival time (high bits) and row (low bits), sorted.
+     */
+    private static long[] sortByArrival(Workload workload) {
+        long[] keys = new long[workload.size()];
+        Arrays.parallelSetAll(keys, row -> ((long) workload.getArrivalTime(row) << 32) | row);
+        Arrays.parallelSort(keys);
+        return keys;
+    }
+
+    /**
+     * @param chunk Chunk index.
+     * @param count Number of processes.
+     * @return End position of the chunk.
+     */
+    private static int chunkEnd(int chunk, int count) {
+        return (int) Math.min(count, (long) (chunk + 1) * CHUNK_SIZE);
+    }
+
+    /**
+     * @param order    Sorted arrival keys, or null if the rows are in arrival order.
+     * @param position Position in arrival order.
+     * @return Row at the position.
+     */
+    private static int rowAt(long[] order, int position) {
+        return order == null ? position : (int) order[position];
+    }
+}
@@ -0,0 +1,57 @@
+// File: scheduler/algorithms/PreemptivePriorityScheduler.java
+package scheduler.algorithms;
+
+import scheduler.models.Process;
+import scheduler.models.ProcessTable;
+import scheduler.models.ScheduleResults;
+import scheduler.models.Workload;
+
+import java.util.List;
+
+/**
+ * Preemptive Priority Scheduler implementation.
+ * A preemptive algorithm: the process with the lowest priority value runs;
+ * a newly arrived process with a strictly lower priority value preempts the running process.
+ * Ties go to the process listed first, and never preempt the running process.
+ */
+public class PreemptivePriorityScheduler extends PreemptiveScheduler {
+
+    /**
+     * Constructor for preemptive Priority Scheduler.
+     *
+     * @param processes List of processes to be scheduled.
+     */
+    public PreemptivePriorityScheduler(List<Process> processes) {
+        super(processes);
+    }
+
+    /**
+     * Constructor for preemptive Priority Scheduler running directly on a process table.
+     *
+     * @param table Processes to be scheduled, one per row.
+     */
+    public PreemptivePriorityScheduler(ProcessTable table) {
+        super(table);
+    }
+
+    /**
+     * Constructor for preemptive Priority Scheduler running on separate input and output storage.
+     *
+     * @param workload Processes to be scheduled, one per row.
+     * @param results  Destination for the computed metrics.
+     */
+    public PreemptivePriorityScheduler(Workload workload, ScheduleResults results) {
+        super(workload, results);
+    }
+
+    /**
+     * @param workload      Processes being scheduled.
+     * @param row           Row of the process.
+     * @param remainingTime Remaining execution time of the process.
+     * @return Priority value (lower runs first).
+     */
+    @Override
+    protected int selectionKey(Workload workload, int row, int remainingTime) {
+        return workload.getPriority(row);
+    }
+}
@@ -0,0 +1,193 @@
+// File: scheduler/algorithms/PreemptiveScheduler.java
+package scheduler.algorithms;
+
+import scheduler.models.Process;
+import scheduler.models.ProcessTable;
+import scheduler.models.ScheduleResults;
+import scheduler.models.Workload;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Abstract base class for preemptive schedulers that always run the ready process with the
+ * smallest selection key, preempting the running process when a strictly smaller key arrives.
+ * <p>
+ * The simulation is event-driven: it wakes only on an arrival or a completion. Every ready
+ * process, including the running one, lives in an {@link IndexedMinHeap}, so updating the running
+ * process's key, preempting it and removing it on completion are all O(log n).
+ * Every preemption is recorded as (time, preempted row, preempting row).
+ */
+public abstract class PreemptiveScheduler extends Scheduler {
+    private long[] preemptionTimes = new long[0]; // Time of each preemption
+    private int[] preemptedRows = new int[0]; // Row that lost the CPU at each preemption
+    private int[] preemptingRows = new int[0]; // Row that took the CPU at each preemption
+    private int preemptions; // Number of preemptions recorded in the last run
+
+    /**
+     * Constructor for PreemptiveScheduler.
+     *
+     * @param processes List of processes to be scheduled.
+     */
+    protected PreemptiveScheduler(List<Process> processes) {
+        super(processes);
+    }
+
+    /**
+     * Constructor for PreemptiveScheduler running directly on a process table.
+     *
+     * @param table Processes to be scheduled, one per row.
+     */
+    protected PreemptiveScheduler(ProcessTable table) {
+        super(table);
+    }
+
+    /**
+     * Constructor for PreemptiveScheduler running on separate input and output storage.
+     *
+     * @param workload Processes to be scheduled, one per row.
+     * @param results  Destination for the computed metrics.
+     */
+    protected PreemptiveScheduler(Workload workload, ScheduleResults results) {
+        super(workload, results);
+    }
+
+    /**
+     * Selection key of a ready process; the smallest key runs. Ties go to the lower row, but
+     * never preempt the running process.
+     *
+     * @param workload      Processes being scheduled.
+     * @param row           Row of the process.
+     * @param remainingTime Remaining execution time of the process.
+     * @return The selection key.
+     */
+    protected abstract int selectionKey(Workload workload, int row, int remainingTime);
+
+    /**
+     * Runs the preemptive event loop. Runs in O((n + p) log n) for n processes and p preemptions.
+     *
+     * @param workload Processes to be scheduled, one per row.
+     */
+    @Override
+    protected void schedule(Workload workload) {
+        int count = workload.size();
+
+        // Step 1: Sort rows by arrival time once and set up the ready heap and remaining times.
+        int[] arrivalOrder = workload.rowsByArrival();
+        IndexedMinHeap readyQueue = new IndexedMinHeap(count);
+        int[] remainingTime = new int[count];
+        for (int row = 0; row < count; row++) {
+            remainingTime[row] = workload.getBurstTime(row);
+        }
+        preemptions = 0;
+
+        int finished = 0; // Number of completed processes.
+        int running = -1; // Row holding the CPU, or -1 when idle.
+        long currentTime = 0; // Tracks the current system time.
+        int nextArrival = 0; // Position in arrivalOrder of the next process not yet admitted.
+
+        while (finished < count) {
+            // Step 2: If the CPU is idle with nothing ready, jump the clock to the next arrival.
+            if (running < 0 && readyQueue.isEmpty()) {
+                long arrival = workload.getArrivalTime(arrivalOrder[nextArrival]);
+                if (arrival > currentTime) {
+                    notifyIdle(currentTime, arrival);
+                    currentTime = arrival;
+                }
+            }
+
+            // Step 3: Admit every process that has arrived by the current time.
+            while (nextArrival < count && workload.getArrivalTime(arrivalOrder[nextArrival]) <= currentTime) {
+                int row = arrivalOrder[nextArrival++];
+                readyQueue.add(row, LongMinHeap.pack(selectionKey(workload, row, remainingTime[row]), row));
+            }
+
+            // Step 4: Dispatch the best ready process, preempting the running one only for a strictly smaller key.
+            int best = readyQueue.peek();
+            if (running < 0) {
+                running = best;
+                notifyDispatch(running, currentTime, readyQueue.size() - 1);
+            } else if (best != running && (readyQueue.key(best) >> 32) < (readyQueue.key(running) >> 32)) {
+                recordPreemption(currentTime, running, best);
+                notifyPreemption(running, currentTime);
+                running = best;
+                notifyDispatch(running, currentTime, readyQueue.size() - 1);
+            }
+            if (remainingTime[running] == workload.getBurstTime(running)) {
+                start(running, currentTime);
+            }
+
+            // Step 5: Run until the process completes or the next arrival, whichever comes first.
+            long completionTime = currentTime + remainingTime[running];
+            if (nextArrival == count || completionTime <= workload.getArrivalTime(arrivalOrder[nextArrival])) {
+                recordSegment(running, currentTime, completionTime);
+                currentTime = completionTime;
+                remainingTime[running] = 0;
+                readyQueue.remove(running);
+                complete(running, currentTime);
+                finished++;
+                running = -1;
+            } else {
+                long nextTime = workload.getArrivalTime(arrivalOrder[nextArrival]);
+                recordSegment(running, currentTime, nextTime);
+                remainingTime[running] -= (int) (nextTime - currentTime);
+                currentTime = nextTime;
+                readyQueue.update(running,
+                        LongMinHeap.pack(selectionKey(workload, running, remainingTime[running]), running));
+            }
+        }
+    }
+
+    /**
+     * Appends a preemption to the log, growing it by doubling.
+     *
+     * @param time      Time of the preemption.
+     * @param preempted Row that lost the CPU.
+     * @param by        Row that took the CPU.
+     */
+    private void recordPreemption(long time, int preempted, int by) {
+        if (preemptions == preemptionTimes.length) {
+            int capacity = Math.max(16, preemptions * 2);
+            preemptionTimes = Arrays.copyOf(preemptionTimes, capacity);
+            preemptedRows = Arrays.copyOf(preemptedRows, capacity);
+            preemptingRows = Arrays.copyOf(preemptingRows, capacity);
+        }
+        preemptionTimes[preemptions] = time;
+        preemptedRows[preemptions] = preempted;
+        preemptingRows[preemptions] = by;
+        preemptions++;
+    }
+
+    // ----------- Preemption log of the last run -----------
+
+    /**
+     * @return Number of preemptions in the last run.
+     */
+    public int getPreemptionCount() {
+        return preemptions;
+    }
+
+    /**
+     * @param i Preemption index, in time order.
+     * @return Time at which the preemption happened.
+     */
+    public long getPreemptionTime(int i) {
+        return preemptionTimes[i];
+    }
+
+    /**
+     * @param i Preemption index, in time order.
+     * @return Workload row (input list index in list mode) of the process that lost the CPU.
+     */
+    public int getPreemptedRow(int i) {
+        return preemptedRows[i];
+    }
+
+    /**
+     * @param i Preemption index, in time order.
+     * @return Workload row (input list index in list mode) of the process that took the CPU.
+     */
+    public int getPreemptingRow(int i) {
+        return preemptingRows[i];
+    }
+}
@@ -2,78 +2,367 @@
 package scheduler.algorithms;
 
 import scheduler.models.Process;
+import scheduler.models.ProcessTable;
+import scheduler.models.ScheduleResults;
+import scheduler.models.Workload;
 
-import java.util.ArrayList;
-import java.util.Comparator;
+import java.util.Arrays;
 import java.util.List;
 
 /**
  * Priority Scheduler implementation.
  * Processes are executed based on their priority, where a lower priority value indicates higher priority.
  * Non-preemptive scheduling is applied.
+ * <p>
+ * Ready processes are kept in a {@link BucketPriorityQueue} with one FIFO bucket per priority value,
+ * so selection is O(1) amortized for small priority ranges. Optional aging prevents starvation:
+ * at every multiple of the aging interval, every waiting process moves up one priority level.
+ * Without aging, ties go to the process listed first, as in {@link SJF}; the FIFO buckets give that
+ * order only when the processes are listed in arrival order, so other input uses a heap keyed on
+ * (level, row) instead.
  */
 public class PriorityScheduler extends Scheduler {
+    private static final int MAX_LEVELS = 1 << 16; // Largest priority range served by direct bucket indexing.
+    private static final int MAX_PARALLEL_LEVELS = 1 << 12; // Most levels scheduled in parallel (buckets per range).
+
+    private final int agingInterval; // Time units between aging steps (0 disables aging).
+    private boolean parallel; // Schedule busy periods in parallel.
 
     /**
-     * Constructor for PriorityScheduler.
+     * Constructor for PriorityScheduler without aging.
      *
      * @param processes List of processes to schedule.
      */
     public PriorityScheduler(List<Process> processes) {
+        this(processes, 0);
+    }
+
+    /**
+     * Constructor for PriorityScheduler with aging.
+     *
+     * @param processes     List of processes to schedule.
+     * @param agingInterval Time units after which every waiting process gains one priority level (0 disables aging).
+     */
+    public PriorityScheduler(List<Process> processes, int agingInterval) {
         super(processes);
+        this.agingInterval = checkAgingInterval(agingInterval);
+    }
+
+    /**
+     * Constructor for PriorityScheduler running directly on a process table, without aging.
+     *
+     * @param table Processes to schedule, one per row.
+     */
+    public PriorityScheduler(ProcessTable table) {
+        this(table, 0);
+    }
+
+    /**
+     * Constructor for PriorityScheduler running directly on a process table, with aging.
+     *
+     * @param table         Processes to schedule, one per row.
+     * @param agingInterval Time units after which every waiting process gains one priority level (0 disables aging).
+     */
+    public PriorityScheduler(ProcessTable table, int agingInterval) {
+        super(table);
+        this.agingInterval = checkAgingInterval(agingInterval);
+    }
+
+    /**
+     * Constructor for PriorityScheduler running on separate input and output storage.
+     *
+     * @param workload      Processes to schedule, one per row.
+     * @param results       Destination for the computed metrics.
+     * @param agingInterval Time units after which every waiting process gains one priority level (0 disables aging).
+     */
+    public PriorityScheduler(Workload workload, ScheduleResults results, int agingInterval) {
+        super(workload, results);
+        this.agingInterval = checkAgingInterval(agingInterval);
+    }
+
+    /**
+     * Validates an aging interval.
+     *
+     * @param agingInterval Requested aging interval.
+     * @return The aging interval.
+     */
+    private static int checkAgingInterval(int agingInterval) {
+        if (agingInterval < 0) {
+            throw new IllegalArgumentException("Aging interval must not be negative: " + agingInterval);
+        }
+        return agingInterval;
+    }
+
+    /**
+     * Enables or disables parallel scheduling. In parallel mode, large workloads are split at the CPU's
+     * idle gaps into busy periods, which are scheduled concurrently (see {@link BusyPeriods}); the result
+     * is identical to the sequential run, with or without aging. It pays off on workloads with many idle gaps;
+     * workloads with more than {@code MAX_PARALLEL_LEVELS} (4096) distinct priority levels are still scheduled
+     * sequentially, since every busy period allocates its own buckets.
+     *
+     * @param parallel True to schedule busy periods in parallel.
+     */
+    public void setParallel(boolean parallel) {
+        this.parallel = parallel;
     }
 
     /**
      * Implements the Priority Scheduling algorithm (non-preemptive).
      * Processes are executed in the order of their priority, considering their arrival times.
+     * With an aging interval of 0, ties go to the process listed first, which is the original selection
+     * order; for arrival-ordered input that is the earliest arrival. With aging, processes that reach the
+     * same level are served in the order they got there, earliest arrival first.
      */
     @Override
-    public void schedule() {
-        List<Process> scheduledProcesses = new ArrayList<>(); // Stores the scheduled processes in order.
-        int currentTime = 0; // Tracks the current system time.
-
-        while (!processes.isEmpty()) {
-            // Step 1: Collect all processes that have arrived by the current time.
-            List<Process> availableProcesses = new ArrayList<>();
-            for (Process process : processes) {
-                if (process.getArrivalTime() <= currentTime) {
-                    availableProcesses.add(process);
+    protected void schedule(Workload workload) {
+        // Step 1: Sort rows by arrival time once (stable, so row order breaks arrival ties).
+        int[] arrivalOrder = workload.rowsByArrival();
+
+        // Step 2: Map every priority value to a bucket level (level 0 = highest priority).
+        int[] level = computeLevels(workload);
+        int levels = 1;
+        for (int value : level) {
+            levels = Math.max(levels, value + 1);
+        }
+        int[] next = new int[arrivalOrder.length]; // Bucket lists, shared by the queues of parallel ranges
+        boolean rowTies = agingInterval == 0 && !isIdentity(arrivalOrder); // FIFO buckets would break ties by arrival
+
+        // Every range gets its own bucket arrays, so very wide priority ranges stay sequential.
+        if (parallel && arrivalOrder.length >= BusyPeriods.MIN_PARALLEL_SIZE
+                && levels <= MAX_PARALLEL_LEVELS) {
+            int levelCount = levels;
+            BusyPeriods.schedule(this, workload, arrivalOrder, (from, to, sequence, waiting) -> scheduleRange(
+                    workload, arrivalOrder, level, new ReadyQueue(levelCount, next, rowTies ? to - from : -1),
+                    from, to, sequence, waiting));
+        } else {
+            scheduleRange(workload, arrivalOrder, level,
+                    new ReadyQueue(levels, next, rowTies ? arrivalOrder.length : -1), 0,
+                    arrivalOrder.length, null, null);
+        }
+    }
+
+    /**
+     * @param order Rows sorted by arrival time.
+     * @return True if the rows are already listed in arrival order.
+     */
+    private static boolean isIdentity(int[] order) {
+        for (int i = 0; i < order.length; i++) {
+            if (order[i] != i) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Schedules the processes at positions {@code [from, to)} of the arrival order, which must begin
+     * at a busy-period start. Aging steps stay on multiples of the aging interval, so a range started
+     * on its own ages exactly as it would within the whole run.
+     *
+     * @param workload     The processes to schedule.
+     * @param arrivalOrder Rows sorted by arrival time.
+     * @param level        Bucket level of each row.
+     * @param readyQueue   Empty ready queue for the range.
+     * @param from         First position.
+     * @param to           End position.
+     * @param sequence     Null to report processes through {@link #start} and {@link #complete};
+     *                     otherwise receives the rows in dispatch order at {@code from, from + 1, ...}.
+     * @param waiting      If not null, receives the ready-queue size after each dispatch, like sequence.
+     */
+    private void scheduleRange(Workload workload, int[] arrivalOrder, int[] level, ReadyQueue readyQueue,
+                               int from, int to, int[] sequence, int[] waiting) {
+        int count = to - from;
+        int levels = readyQueue.levels();
+
+        int scheduled = 0; // Number of processes scheduled so far.
+        long currentTime = 0; // Tracks the current system time.
+        int nextArrival = from; // Position in arrivalOrder of the next process not yet admitted.
+        long nextAging = agingInterval; // Time of the next aging step.
+        int quietAgings = 0; // Aging steps since the last admission; after levels - 1 of them all waiting processes are at the top.
+
+        while (scheduled < count) {
+            // Step 3: Apply aging steps up to the current time, admitting processes that arrived before each step.
+            while (agingInterval > 0 && nextAging <= currentTime) {
+                int admittedBefore = nextArrival;
+                while (nextArrival < to && workload.getArrivalTime(arrivalOrder[nextArrival]) < nextAging) {
+                    readyQueue.add(arrivalOrder[nextArrival], level[arrivalOrder[nextArrival]]);
+                    nextArrival++;
+                }
+                if (nextArrival != admittedBefore) {
+                    quietAgings = 0;
+                }
+
+                if (quietAgings < levels - 1) {
+                    readyQueue.age();
+                    quietAgings++;
+                    nextAging += agingInterval;
+                } else {
+                    // Further aging is a no-op until something new arrives: skip to the first step after it.
+                    long until = nextArrival < to
+                            ? Math.min(currentTime, workload.getArrivalTime(arrivalOrder[nextArrival]))
+                            : currentTime;
+                    nextAging = (until / agingInterval + 1) * agingInterval;
+                }
+            }
+
+            // Step 4: Admit every process that has arrived by the current time.
+            while (nextArrival < to && workload.getArrivalTime(arrivalOrder[nextArrival]) <= currentTime) {
+                readyQueue.add(arrivalOrder[nextArrival], level[arrivalOrder[nextArrival]]);
+                nextArrival++;
+                quietAgings = 0;
+            }
+
+            // Step 5: If no process has arrived, jump the clock to the next arrival (idle state).
+            if (readyQueue.isEmpty()) {
+                if (sequence == null) {
+                    notifyIdle(currentTime, workload.getArrivalTime(arrivalOrder[nextArrival]));
                 }
+                currentTime = workload.getArrivalTime(arrivalOrder[nextArrival]);
+                continue;
             }
 
-            // Step 2: If no process has arrived, increment time (idle state).
-            if (availableProcesses.isEmpty()) {
-                currentTime++;
+            // Step 6: Select the highest-priority process from the available processes.
+            int highestPriorityProcess = readyQueue.poll();
+            if (sequence != null) {
+                sequence[from + scheduled] = highestPriorityProcess;
+                if (waiting != null) {
+                    waiting[from + scheduled] = readyQueue.size();
+                }
+                currentTime += workload.getBurstTime(highestPriorityProcess);
+                scheduled++;
                 continue;
             }
+            notifyDispatch(highestPriorityProcess, currentTime, readyQueue.size());
+
+            // Step 7: Compute and set scheduling attributes for the selected process.
+            start(highestPriorityProcess, currentTime);
+            recordSegment(highestPriorityProcess, currentTime,
+                    currentTime + workload.getBurstTime(highestPriorityProcess));
+            currentTime += workload.getBurstTime(highestPriorityProcess);
+            complete(highestPriorityProcess, currentTime);
+            scheduled++;
+        }
+    }
+
+    /**
+     * Computes the bucket level of every process. Levels are offsets from the smallest priority value,
+     * so aging by one level equals raising the priority by one. Without aging, very wide priority ranges
+     * are compressed to the ranks of the distinct values instead, which preserves the selection order.
+     *
+     * @param workload The processes to schedule.
+     * @return The bucket level of each row.
+     */
+    private int[] computeLevels(Workload workload) {
+        int count = workload.size();
+        int[] level = new int[count];
+        if (count == 0) {
+            return level;
+        }
+
+        int min = Integer.MAX_VALUE;
+        int max = Integer.MIN_VALUE;
+        for (int row = 0; row < count; row++) {
+            min = Math.min(min, workload.getPriority(row));
+            max = Math.max(max, workload.getPriority(row));
+        }
+
+        if ((long) max - min < MAX_LEVELS) {
+            for (int i = 0; i < count; i++) {
+                level[i] = workload.getPriority(i) - min;
+            }
+            return level;
+        }
+
+        if (agingInterval > 0) {
+            throw new IllegalArgumentException("Priority range " + min + ".." + max
+                    + " is too wide for aging (at most " + MAX_LEVELS + " levels)");
+        }
+
+        // Rank-compress the distinct priority values.
+        int[] distinct = new int[count];
+        for (int i = 0; i < count; i++) {
+            distinct[i] = workload.getPriority(i);
+        }
+        Arrays.sort(distinct);
+        int unique = 0;
+        for (int i = 0; i < count; i++) {
+            if (unique == 0 || distinct[unique - 1] != distinct[i]) {
+                distinct[unique++] = distinct[i];
+            }
+        }
+        for (int i = 0; i < count; i++) {
+            level[i] = Arrays.binarySearch(distinct, 0, unique, workload.getPriority(i));
+        }
+        return level;
+    }
 
-            // Step 3: Select the highest-priority process from the available processes.
-            Process highestPriorityProcess = availableProcesses.stream()
-                    .min(Comparator.comparingInt(Process::getPriority)) // Lower priority value = higher priority.
-                    .orElseThrow(); // Safe to use as availableProcesses is not empty.
+    /**
+     * Ready queue of a range: FIFO buckets, or a heap keyed on (level, row) when ties must go to the
+     * process listed first. The heap is only used without aging, so it never ages.
+     */
+    private static final class ReadyQueue {
+        private final BucketPriorityQueue buckets; // FIFO bucket per level, or null
+        private final LongMinHeap byRow; // Packed (level, row) keys, or null
+        private final int levels; // Number of priority levels
 
-            // Remove the selected process from the list of unscheduled processes.
-            processes.remove(highestPriorityProcess);
+        /**
+         * Constructor for ReadyQueue.
+         *
+         * @param levels   Number of priority levels.
+         * @param next     Successor array shared by the bucket queues of parallel ranges.
+         * @param capacity Heap capacity to break ties by row, or -1 for FIFO buckets.
+         */
+        ReadyQueue(int levels, int[] next, int capacity) {
+            this.buckets = capacity < 0 ? new BucketPriorityQueue(levels, next) : null;
+            this.byRow = capacity < 0 ? null : new LongMinHeap(capacity);
+            this.levels = levels;
+        }
 
-            // Step 4: Handle any idle time before starting the process.
-            if (currentTime < highestPriorityProcess.getArrivalTime()) {
-                currentTime = highestPriorityProcess.getArrivalTime();
+        /**
+         * @param row   Row to queue.
+         * @param level Priority level of the row.
+         */
+        void add(int row, int level) {
+            if (byRow != null) {
+                byRow.add(LongMinHeap.pack(level, row));
+            } else {
+                buckets.add(row, level);
             }
+        }
 
-            // Step 5: Compute and set scheduling attributes for the selected process.
-            highestPriorityProcess.setStartTime(currentTime);
-            highestPriorityProcess.setCompletionTime(currentTime + highestPriorityProcess.getBurstTime());
-            highestPriorityProcess.setTurnaroundTime(highestPriorityProcess.getCompletionTime() - highestPriorityProcess.getArrivalTime());
-            highestPriorityProcess.setWaitingTime(highestPriorityProcess.getTurnaroundTime() - highestPriorityProcess.getBurstTime());
+        /**
+         * @return The next row to run.
+         */
+        int poll() {
+            return byRow != null ? LongMinHeap.row(byRow.poll()) : buckets.poll();
+        }
 
-            // Update the current time to reflect the process completion.
-            currentTime = highestPriorityProcess.getCompletionTime();
+        /**
+         * Raises every waiting row by one level.
+         */
+        void age() {
+            buckets.age();
+        }
 
-            // Add the scheduled process to the final list.
-            scheduledProcesses.add(highestPriorityProcess);
+        /**
+         * @return Number of queued rows.
+         */
+        int size() {
+            return byRow != null ? byRow.size() : buckets.size();
         }
 
-        // Step 6: Restore processes back to the original list for consistency.
-        processes.addAll(scheduledProcesses);
+        /**
+         * @return True if no row is queued.
+         */
+        boolean isEmpty() {
+            return size() == 0;
+        }
+
+        /**
+         * @return Number of priority levels.
+         */
+        int levels() {
+            return levels;
+        }
     }
 }
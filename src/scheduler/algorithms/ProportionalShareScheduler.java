@@ -0,0 +1,220 @@
+// File: scheduler/algorithms/ProportionalShareScheduler.java
+package scheduler.algorithms;
+
+import scheduler.models.Process;
+import scheduler.models.ProcessTable;
+import scheduler.models.ScheduleResults;
+import scheduler.models.Workload;
+
+import java.util.List;
+
+/**
+ * Abstract base class for proportional-share schedulers, which give each ready process a share of
+ * the CPU proportional to its tickets.
+ * <p>
+ * Time is handed out in quanta. Before every quantum the subclass selects one ready process, which
+ * runs for the quantum (or less, if it finishes sooner) and is then charged for it; processes join
+ * the ready set when they arrive and leave it when they finish. By default a process holds
+ * {@code maxPriority - priority + 1} tickets, so the highest priority (lowest number) gets the most
+ * and the lowest priority one; {@link #setTickets} assigns tickets explicitly.
+ */
+public abstract class ProportionalShareScheduler extends Scheduler {
+    private final int timeQuantum; // The time slice handed out at each decision
+    private int[] tickets; // Tickets of each row, or null to derive them from the priorities
+
+    /**
+     * Constructor for ProportionalShareScheduler.
+     *
+     * @param processes   List of processes to be scheduled.
+     * @param timeQuantum The time slice handed out at each decision.
+     */
+    protected ProportionalShareScheduler(List<Process> processes, int timeQuantum) {
+        super(processes);
+        this.timeQuantum = checkTimeQuantum(timeQuantum);
+    }
+
+    /**
+     * Constructor for ProportionalShareScheduler running directly on a process table.
+     *
+     * @param table       Processes to be scheduled, one per row.
+     * @param timeQuantum The time slice handed out at each decision.
+     */
+    protected ProportionalShareScheduler(ProcessTable table, int timeQuantum) {
+        super(table);
+        this.timeQuantum = checkTimeQuantum(timeQuantum);
+    }
+
+    /**
+     * Constructor for ProportionalShareScheduler running on separate input and output storage.
+     *
+     * @param workload    Processes to be scheduled, one per row.
+     * @param results     Destination for the computed metrics.
+     * @param timeQuantum The time slice handed out at each decision.
+     */
+    protected ProportionalShareScheduler(Workload workload, ScheduleResults results, int timeQuantum) {
+        super(workload, results);
+        this.timeQuantum = checkTimeQuantum(timeQuantum);
+    }
+
+    /**
+     * Validates a time quantum.
+     *
+     * @param timeQuantum Requested time quantum.
+     * @return The time quantum.
+     */
+    private static int checkTimeQuantum(int timeQuantum) {
+        if (timeQuantum <= 0) {
+            throw new IllegalArgumentException("Time quantum must be positive: " + timeQuantum);
+        }
+        return timeQuantum;
+    }
+
+    /**
+     * Assigns tickets explicitly, one per workload row (input list index in list mode).
+     *
+     * @param tickets Positive ticket count of each row, or null to derive tickets from the priorities.
+     */
+    public void setTickets(int[] tickets) {
+        if (tickets != null) {
+            for (int row = 0; row < tickets.length; row++) {
+                if (tickets[row] <= 0) {
+                    throw new IllegalArgumentException("Tickets must be positive: " + tickets[row] + " at row " + row);
+                }
+            }
+        }
+        this.tickets = tickets == null ? null : tickets.clone();
+    }
+
+    /**
+     * Prepares the selection structures for a run.
+     *
+     * @param count   Number of processes.
+     * @param tickets Tickets of each row.
+     */
+    protected abstract void prepare(int count, long[] tickets);
+
+    /**
+     * Adds a process to the ready set when it arrives.
+     *
+     * @param row Row of the process.
+     */
+    protected abstract void join(int row);
+
+    /**
+     * Selects the ready process to run the next quantum; it stays in the ready set.
+     *
+     * @return Row of the selected process.
+     */
+    protected abstract int select();
+
+    /**
+     * Charges a process for a full quantum it has just run without finishing.
+     *
+     * @param row Row of the process.
+     */
+    protected abstract void charge(int row);
+
+    /**
+     * Removes a finished process from the ready set.
+     *
+     * @param row Row of the process.
+     */
+    protected abstract void leave(int row);
+
+    /**
+     * Runs the quantum-by-quantum loop. Every decision costs one selection, so a run takes
+     * O(n log n + d * s) for n processes, d quanta and a selection cost s.
+     *
+     * @param workload Processes to be scheduled, one per row.
+     */
+    @Override
+    protected void schedule(Workload workload) {
+        int count = workload.size();
+
+        // Step 1: Resolve the tickets and set up the arrival order, remaining times and selection structures.
+        long[] rowTickets = ticketsOf(workload);
+        int[] arrivalOrder = workload.rowsByArrival(); // Rows sorted by arrival time
+        int[] remainingTime = new int[count]; // Remaining execution time of each row
+        for (int row = 0; row < count; row++) {
+            remainingTime[row] = workload.getBurstTime(row);
+        }
+        prepare(count, rowTickets);
+
+        long currentTime = 0; // Tracks the current time in the system
+        int nextArrival = 0; // Position in arrivalOrder of the next process not yet admitted
+        int ready = 0; // Processes in the ready set
+        int finished = 0; // Number of completed processes
+        while (finished < count) {
+            // Step 2: Admit every process that has arrived by the current time.
+            while (nextArrival < count && workload.getArrivalTime(arrivalOrder[nextArrival]) <= currentTime) {
+                join(arrivalOrder[nextArrival++]);
+                ready++;
+            }
+
+            // Step 3: If no process is ready, the CPU idles until the next arrival.
+            if (ready == 0) {
+                notifyIdle(currentTime, workload.getArrivalTime(arrivalOrder[nextArrival]));
+                currentTime = workload.getArrivalTime(arrivalOrder[nextArrival]);
+                continue;
+            }
+
+            // Step 4: Select a process and run it for one quantum (or less, if it finishes sooner).
+            int row = select();
+            notifyDispatch(row, currentTime, ready - 1);
+            if (remainingTime[row] == workload.getBurstTime(row)) {
+                start(row, currentTime);
+            }
+            int executionTime = Math.min(timeQuantum, remainingTime[row]);
+            recordSegment(row, currentTime, currentTime + executionTime);
+            currentTime += executionTime;
+            remainingTime[row] -= executionTime;
+
+            // Step 5: Charge an unfinished process for its quantum, or retire a finished one.
+            if (remainingTime[row] > 0) {
+                notifyPreemption(row, currentTime);
+                charge(row);
+            } else {
+                leave(row);
+                complete(row, currentTime);
+                ready--;
+                finished++;
+            }
+        }
+    }
+
+    /**
+     * Resolves the tickets of each row for a run.
+     *
+     * @param workload Processes being scheduled.
+     * @return Tickets of each row.
+     */
+    private long[] ticketsOf(Workload workload) {
+        int count = workload.size();
+        long[] rowTickets = new long[count];
+        if (tickets != null) {
+            if (tickets.length != count) {
+                throw new IllegalArgumentException(
+                        "Expected tickets for " + count + " processes, got " + tickets.length);
+            }
+            for (int row = 0; row < count; row++) {
+                rowTickets[row] = tickets[row];
+            }
+            return rowTickets;
+        }
+        long maxPriority = Long.MIN_VALUE;
+        for (int row = 0; row < count; row++) {
+            maxPriority = Math.max(maxPriority, workload.getPriority(row));
+        }
+        for (int row = 0; row < count; row++) {
+            rowTickets[row] = maxPriority - workload.getPriority(row) + 1;
+        }
+        return rowTickets;
+    }
+
+    /**
+     * @return The time slice handed out at each decision.
+     */
+    public int getTimeQuantum() {
+        return timeQuantum;
+    }
+}
@@ -3,18 +3,23 @@
 package scheduler.algorithms;
 
 import scheduler.models.Process;
+import scheduler.models.ProcessTable;
+import scheduler.models.ScheduleResults;
+import scheduler.models.Workload;
 
-import java.util.LinkedList;
-import java.util.Queue;
 import java.util.List;
 
 /**
  * RR (Round Robin) scheduling algorithm.
  * Processes are executed in a cyclic order, each receiving a fixed time quantum for execution.
  * This approach ensures fair CPU allocation among processes.
+ * Processes enter the ready queue at their arrival time.
  */
 public class RR extends Scheduler {
-    private int timeQuantum; // The time slice allocated to each process.
+    private static final int ROUND_MARKER = -1; // Queue entry separating one round from the next.
+
+    private final int timeQuantum; // The time slice allocated to each process.
+    private long contextSwitches; // Number of times the CPU switched between different processes.
 
     /**
      * Constructor for RR Scheduler.
@@ -24,51 +29,220 @@ public class RR extends Scheduler {
      */
     public RR(List<Process> processes, int timeQuantum) {
         super(processes);
-        this.timeQuantum = timeQuantum;
+        this.timeQuantum = checkTimeQuantum(timeQuantum);
+    }
+
+    /**
+     * Constructor for RR Scheduler running directly on a process table.
+     *
+     * @param table       Processes to schedule, one per row.
+     * @param timeQuantum The fixed time quantum for each process.
+     */
+    public RR(ProcessTable table, int timeQuantum) {
+        super(table);
+        this.timeQuantum = checkTimeQuantum(timeQuantum);
+    }
+
+    /**
+     * Constructor for RR Scheduler running on separate input and output storage.
+     *
+     * @param workload    Processes to schedule, one per row.
+     * @param results     Destination for the computed metrics.
+     * @param timeQuantum The fixed time quantum for each process.
+     */
+    public RR(Workload workload, ScheduleResults results, int timeQuantum) {
+        super(workload, results);
+        this.timeQuantum = checkTimeQuantum(timeQuantum);
+    }
+
+    /**
+     * Validates a time quantum.
+     *
+     * @param timeQuantum Requested time quantum.
+     * @return The time quantum.
+     */
+    private static int checkTimeQuantum(int timeQuantum) {
+        if (timeQuantum <= 0) {
+            throw new IllegalArgumentException("Time quantum must be positive: " + timeQuantum);
+        }
+        return timeQuantum;
     }
 
     /**
      * Implements the Round Robin scheduling logic.
      * Each process gets a fixed time quantum for execution. If a process is not
      * finished within its time quantum, it is re-added to the queue for the next round.
+     * <p>
+     * Processes join the queue when they arrive; processes arriving by the end of a slice are queued
+     * ahead of the preempted process. A marker in the queue splits it into rounds: every process behind
+     * the marker is served exactly once in the next round, so a process admitted during round k runs in
+     * rounds k + 1 onwards and completes in round k + ceil(burst / quantum). That completion round never
+     * changes, so a min-heap of completion rounds (updated only on admission and completion) bounds how
+     * many whole rounds can pass before the next completion, and remaining times follow from the round
+     * counter instead of being stored. At each round boundary the scheduler advances every round that
+     * ends before the next arrival and completion in one step, touching only the processes admitted
+     * during the previous round (whose first dispatch falls in it). The result is identical to a
+     * slice-by-slice simulation; only rounds containing an arrival or a completion are run slice by slice.
      */
     @Override
-    public void schedule() {
-        Queue<Process> queue = new LinkedList<>(processes); // Queue to manage process execution.
-        int currentTime = 0; // Tracks the current time in the system.
+    protected void schedule(Workload workload) {
+        int count = workload.size();
+        int[] arrivalOrder = workload.rowsByArrival(); // Rows sorted by arrival time.
+        IntRingQueue queue = new IntRingQueue(count + 1); // Ready queue of rows in round order, plus the marker.
+        long[] admittedRound = new long[count]; // Round during which each row joined the queue.
+        LongMinHeap completionRounds = new LongMinHeap(count); // Round in which each queued row completes.
+        int[] newcomers = new int[count]; // Rows admitted during the current round, in queue order.
+        int[] newcomerSlots = new int[count]; // Position of each newcomer in the next round.
+        int newcomerCount = 0;
+        long round = 0; // Current round; the marker is polled when it ends.
+        int ready = 0; // Queued rows, excluding the marker.
+        int behindMarker = 0; // Entries queued behind the marker, i.e. already placed in the next round.
+        long currentTime = 0; // Tracks the current time in the system.
+        int nextArrival = 0; // Position in arrivalOrder of the next process not yet admitted.
+        int finished = 0; // Number of completed processes.
+        int previousRow = -1; // Row that ran the previous slice.
+        contextSwitches = 0;
 
-        // Initialize each process's remaining time with its burst time.
-        processes.forEach(process -> process.setRemainingTime(process.getBurstTime()));
+        queue.offer(ROUND_MARKER);
+        while (finished < count) {
+            // Admit every process that has arrived by the current time.
+            while (nextArrival < count && workload.getArrivalTime(arrivalOrder[nextArrival]) <= currentTime) {
+                int row = arrivalOrder[nextArrival++];
+                admit(workload, row, round, queue, admittedRound, completionRounds);
+                newcomerSlots[newcomerCount] = behindMarker;
+                newcomers[newcomerCount++] = row;
+                ready++;
+                behindMarker++;
+            }
 
-        while (!queue.isEmpty()) {
-            Process process = queue.poll(); // Get the next process in the queue.
+            // If no process is ready, the CPU idles until the next arrival.
+            if (ready == 0) {
+                notifyIdle(currentTime, workload.getArrivalTime(arrivalOrder[nextArrival]));
+                currentTime = workload.getArrivalTime(arrivalOrder[nextArrival]);
+                continue;
+            }
 
-            // If the process arrives after the current time, CPU idles until its arrival.
-            if (process.getArrivalTime() > currentTime) {
-                currentTime = process.getArrivalTime();
+            int row = queue.poll(); // Get the next process in the queue.
+
+            // At a round boundary, skip whole rounds in which nothing arrives and nothing completes.
+            if (row == ROUND_MARKER) {
+                round++;
+                queue.offer(ROUND_MARKER);
+                behindMarker = 0;
+                long roundLength = (long) ready * timeQuantum;
+                long rounds = completionRounds.peek() - round;
+
+                // Every skipped slice must end before the next arrival.
+                if (nextArrival < count) {
+                    long untilArrival = workload.getArrivalTime(arrivalOrder[nextArrival]) - currentTime;
+                    rounds = Math.min(rounds, (untilArrival - 1) / roundLength);
+                }
+
+                if (rounds > 0) {
+                    // Only the newcomers have their first dispatch in the skipped rounds.
+                    for (int i = 0; i < newcomerCount; i++) {
+                        start(newcomers[i], currentTime + (long) newcomerSlots[i] * timeQuantum);
+                    }
+                    if (isRecordingSegments() || isObserved()) {
+                        // Recording needs every skipped slice, so this costs O(rounds * ready) only when enabled.
+                        for (long skipped = 0; skipped < rounds; skipped++) {
+                            long roundStart = currentTime + skipped * roundLength;
+                            for (int i = 0; i < ready; i++) {
+                                long sliceStart = roundStart + (long) i * timeQuantum;
+                                recordSegment(queue.get(i), sliceStart, sliceStart + timeQuantum);
+                                notifyDispatch(queue.get(i), sliceStart, ready - 1);
+                                notifyPreemption(queue.get(i), sliceStart + timeQuantum);
+                            }
+                        }
+                    }
+                    if (previousRow != -1 && previousRow != queue.get(0)) {
+                        contextSwitches++;
+                    }
+                    if (ready > 1) {
+                        contextSwitches += rounds * ready - 1;
+                    }
+                    previousRow = queue.get(ready - 1);
+                    currentTime += rounds * roundLength;
+                    round += rounds;
+                }
+                newcomerCount = 0;
+                continue;
             }
 
-            // Determine the time the process will execute in this round.
-            int executionTime = Math.min(timeQuantum, process.getRemainingTime());
+            ready--;
+            notifyDispatch(row, currentTime, ready);
+
+            // Count a context switch whenever a different process takes over the CPU.
+            if (previousRow != -1 && previousRow != row) {
+                contextSwitches++;
+            }
+            previousRow = row;
 
-            // Set the start time of the process (only if it hasn't started yet).
-            process.setStartTime(process.getStartTime() == 0 ? currentTime : process.getStartTime());
+            // Set the start time of the process on its first dispatch (the round after it was admitted).
+            long slicesServed = round - admittedRound[row] - 1;
+            if (slicesServed == 0) {
+                start(row, currentTime);
+            }
 
-            // Update the current time after the process executes.
+            // Run the process for one quantum (or less, if it finishes sooner).
+            long remainingTime = workload.getBurstTime(row) - slicesServed * timeQuantum;
+            int executionTime = (int) Math.min(timeQuantum, remainingTime);
+            recordSegment(row, currentTime, currentTime + executionTime);
             currentTime += executionTime;
 
-            // Update the process's remaining time.
-            process.setRemainingTime(process.getRemainingTime() - executionTime);
+            // Processes arriving during the slice queue up ahead of the preempted process.
+            while (nextArrival < count && workload.getArrivalTime(arrivalOrder[nextArrival]) <= currentTime) {
+                int arrived = arrivalOrder[nextArrival++];
+                admit(workload, arrived, round, queue, admittedRound, completionRounds);
+                newcomerSlots[newcomerCount] = behindMarker;
+                newcomers[newcomerCount++] = arrived;
+                ready++;
+                behindMarker++;
+            }
 
             // If the process is not finished, re-add it to the queue for the next round.
-            if (process.getRemainingTime() > 0) {
-                queue.offer(process);
+            if (remainingTime > executionTime) {
+                notifyPreemption(row, currentTime);
+                queue.offer(row);
+                ready++;
+                behindMarker++;
             } else {
-                // If the process is finished, calculate its completion, turnaround, and waiting times.
-                process.setCompletionTime(currentTime);
-                process.setTurnaroundTime(process.getCompletionTime() - process.getArrivalTime());
-                process.setWaitingTime(process.getTurnaroundTime() - process.getBurstTime());
+                // If the process is finished, record its completion; turnaround and waiting times follow.
+                complete(row, currentTime);
+                completionRounds.poll(); // Every row completing in this round shares the minimum key.
+                finished++;
             }
         }
     }
+
+    /**
+     * Queues a newly arrived process behind the marker, so it is first served in the next round.
+     *
+     * @param workload         The processes being scheduled.
+     * @param row              Row of the arriving process.
+     * @param round            Current round.
+     * @param queue            Ready queue.
+     * @param admittedRound    Round during which each row joined the queue.
+     * @param completionRounds Completion rounds of the queued rows.
+     */
+    private void admit(Workload workload, int row, long round, IntRingQueue queue, long[] admittedRound,
+                       LongMinHeap completionRounds) {
+        queue.offer(row);
+        admittedRound[row] = round;
+        completionRounds.add(round + (workload.getBurstTime(row) + timeQuantum - 1L) / timeQuantum);
+    }
+
+    /**
+     * @return Number of times the CPU switched from one process to a different one during the last run.
+     */
+    public long getContextSwitches() {
+        return contextSwitches;
+    }
+
+    /**
+     * @return The fixed time quantum for each process.
+     */
+    public int getTimeQuantum() {
+        return timeQuantum;
+    }
 }
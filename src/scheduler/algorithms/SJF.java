@@ -2,16 +2,20 @@
 package scheduler.algorithms;
 
 import scheduler.models.Process;
+import scheduler.models.ProcessTable;
+import scheduler.models.ScheduleResults;
+import scheduler.models.Workload;
 
-import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.List;
 
 /**
  * Shortest Job First (SJF) Scheduler implementation.
  * SJF is a non-preemptive scheduling algorithm where processes with the shortest burst time are executed first.
+ * The scheduler is event-driven: arrivals are sorted once and fed into a binary heap keyed on burst time,
+ * and the clock jumps straight to the next arrival whenever the CPU goes idle.
  */
 public class SJF extends Scheduler {
+    private boolean parallel; // Schedule busy periods in parallel
 
     /**
      * Constructor for SJF Scheduler.
@@ -22,57 +26,113 @@ public class SJF extends Scheduler {
         super(processes);
     }
 
+    /**
+     * Constructor for SJF Scheduler running directly on a process table.
+     *
+     * @param table Processes to be scheduled, one per row.
+     */
+    public SJF(ProcessTable table) {
+        super(table);
+    }
+
+    /**
+     * Constructor for SJF Scheduler running on separate input and output storage.
+     *
+     * @param workload Processes to be scheduled, one per row.
+     * @param results  Destination for the computed metrics.
+     */
+    public SJF(Workload workload, ScheduleResults results) {
+        super(workload, results);
+    }
+
+    /**
+     * Enables or disables parallel scheduling. In parallel mode, large workloads are split at the CPU's
+     * idle gaps into busy periods, which are scheduled concurrently (see {@link BusyPeriods}); the result
+     * is identical to the sequential run. It pays off on workloads with many idle gaps.
+     *
+     * @param parallel True to schedule busy periods in parallel.
+     */
+    public void setParallel(boolean parallel) {
+        this.parallel = parallel;
+    }
+
     /**
      * Implements the SJF scheduling algorithm (non-preemptive).
      * Processes are executed based on their burst time, considering their arrival times.
+     * Ties on burst time go to the process listed first, which for arrival-ordered input is the earliest arrival.
+     * Runs in O(n log n) overall.
      */
     @Override
-    public void schedule() {
-        List<Process> scheduledProcesses = new ArrayList<>(); // Stores the scheduled processes in order.
-        int currentTime = 0; // Tracks the current system time.
-
-        while (!processes.isEmpty()) {
-            // Step 1: Collect all processes that have arrived by the current time.
-            List<Process> availableProcesses = new ArrayList<>();
-            for (Process process : processes) {
-                if (process.getArrivalTime() <= currentTime) {
-                    availableProcesses.add(process);
-                }
-            }
+    protected void schedule(Workload workload) {
+        // Step 1: Sort rows by arrival time once (stable, so row order breaks arrival ties).
+        int[] arrivalOrder = workload.rowsByArrival();
 
-            // Step 2: If no process is available, increment time to handle idle state.
-            if (availableProcesses.isEmpty()) {
-                currentTime++;
-                continue;
-            }
+        if (parallel && arrivalOrder.length >= BusyPeriods.MIN_PARALLEL_SIZE) {
+            BusyPeriods.schedule(this, workload, arrivalOrder, (from, to, sequence, waiting) ->
+                    scheduleRange(workload, arrivalOrder, from, to, sequence, waiting));
+        } else {
+            scheduleRange(workload, arrivalOrder, 0, arrivalOrder.length, null, null);
+        }
+    }
+
+    /**
+     * Schedules the processes at positions {@code [from, to)} of the arrival order, which must begin
+     * at a busy-period start.
+     *
+     * @param workload     The processes to schedule.
+     * @param arrivalOrder Rows sorted by arrival time.
+     * @param from         First position.
+     * @param to           End position.
+     * @param sequence     Null to report processes through {@link #start} and {@link #complete};
+     *                     otherwise receives the rows in dispatch order at {@code from, from + 1, ...}.
+     * @param waiting      If not null, receives the ready-queue size after each dispatch, like sequence.
+     */
+    private void scheduleRange(Workload workload, int[] arrivalOrder, int from, int to, int[] sequence,
+                               int[] waiting) {
+        int count = to - from;
 
-            // Step 3: Select the process with the shortest burst time among available processes.
-            Process shortestJob = availableProcesses.stream()
-                    .min(Comparator.comparingInt(Process::getBurstTime)) // Compare by burst time.
-                    .orElseThrow(); // Safe as availableProcesses is not empty.
+        // Step 2: Ready queue (binary heap) ordered by burst time, then by row.
+        LongMinHeap readyQueue = new LongMinHeap(count);
 
-            // Remove the selected process from the original list.
-            processes.remove(shortestJob);
+        int scheduled = 0; // Number of processes scheduled so far.
+        long currentTime = 0; // Tracks the current system time.
+        int nextArrival = from; // Position in arrivalOrder of the next process not yet admitted.
 
-            // Step 4: Handle any idle time before starting the process.
-            if (currentTime < shortestJob.getArrivalTime()) {
-                currentTime = shortestJob.getArrivalTime();
+        while (scheduled < count) {
+            // Step 3: Admit every process that has arrived by the current time.
+            while (nextArrival < to && workload.getArrivalTime(arrivalOrder[nextArrival]) <= currentTime) {
+                int row = arrivalOrder[nextArrival++];
+                readyQueue.add(LongMinHeap.pack(workload.getBurstTime(row), row));
             }
 
-            // Step 5: Compute and set scheduling metrics for the selected process.
-            shortestJob.setStartTime(currentTime);
-            shortestJob.setCompletionTime(currentTime + shortestJob.getBurstTime());
-            shortestJob.setTurnaroundTime(shortestJob.getCompletionTime() - shortestJob.getArrivalTime());
-            shortestJob.setWaitingTime(shortestJob.getTurnaroundTime() - shortestJob.getBurstTime());
+            // Step 4: If no process is available, jump the clock to the next arrival (idle state).
+            if (readyQueue.isEmpty()) {
+                if (sequence == null) {
+                    notifyIdle(currentTime, workload.getArrivalTime(arrivalOrder[nextArrival]));
+                }
+                currentTime = workload.getArrivalTime(arrivalOrder[nextArrival]);
+                continue;
+            }
 
-            // Update the current time to the completion time of the process.
-            currentTime = shortestJob.getCompletionTime();
+            // Step 5: Select the process with the shortest burst time among available processes.
+            int shortestJob = LongMinHeap.row(readyQueue.poll());
+            if (sequence != null) {
+                sequence[from + scheduled] = shortestJob;
+                if (waiting != null) {
+                    waiting[from + scheduled] = readyQueue.size();
+                }
+                currentTime += workload.getBurstTime(shortestJob);
+                scheduled++;
+                continue;
+            }
+            notifyDispatch(shortestJob, currentTime, readyQueue.size());
 
-            // Add the scheduled process to the final list.
-            scheduledProcesses.add(shortestJob);
+            // Step 6: Compute and set scheduling metrics for the selected process.
+            start(shortestJob, currentTime);
+            recordSegment(shortestJob, currentTime, currentTime + workload.getBurstTime(shortestJob));
+            currentTime += workload.getBurstTime(shortestJob);
+            complete(shortestJob, currentTime);
+            scheduled++;
         }
-
-        // Step 6: Restore the scheduled processes back to the original list.
-        processes.addAll(scheduledProcesses);
     }
 }
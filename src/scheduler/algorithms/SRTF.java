@@ -0,0 +1,57 @@
+// File: scheduler/algorithms/SRTF.java
+package scheduler.algorithms;
+
+import scheduler.models.Process;
+import scheduler.models.ProcessTable;
+import scheduler.models.ScheduleResults;
+import scheduler.models.Workload;
+
+import java.util.List;
+
+/**
+ * Shortest Remaining Time First (SRTF) Scheduler implementation.
+ * A preemptive algorithm: the process with the least remaining execution time runs;
+ * a newly arrived process with strictly less remaining time than the running process preempts it.
+ * Ties go to the process listed first, and never preempt the running process.
+ */
+public class SRTF extends PreemptiveScheduler {
+
+    /**
+     * Constructor for SRTF Scheduler.
+     *
+     * @param processes List of processes to be scheduled.
+     */
+    public SRTF(List<Process> processes) {
+        super(processes);
+    }
+
+    /**
+     * Constructor for SRTF Scheduler running directly on a process table.
+     *
+     * @param table Processes to be scheduled, one per row.
+     */
+    public SRTF(ProcessTable table) {
+        super(table);
+    }
+
+    /**
+     * Constructor for SRTF Scheduler running on separate input and output storage.
+     *
+     * @param workload Processes to be scheduled, one per row.
+     * @param results  Destination for the computed metrics.
+     */
+    public SRTF(Workload workload, ScheduleResults results) {
+        super(workload, results);
+    }
+
+    /**
+     * @param workload      Processes being scheduled.
+     * @param row           Row of the process.
+     * @param remainingTime Remaining execution time of the process.
+     * @return Remaining execution time.
+     */
+    @Override
+    protected int selectionKey(Workload workload, int row, int remainingTime) {
+        return remainingTime;
+    }
+}
@@ -2,19 +2,56 @@
 
 package scheduler.algorithms;
 
+import scheduler.instrumentation.SchedulerListener;
+import scheduler.metrics.ScheduleMetrics;
 import scheduler.models.Process;
+import scheduler.models.ProcessTable;
+import scheduler.models.ScheduleResults;
+import scheduler.models.SegmentLog;
+import scheduler.models.Workload;
+
 import java.util.List;
+import java.util.ListIterator;
 
 /**
  * Abstract base class for scheduling algorithms.
  * This class provides the foundation for various scheduling strategies
  * by defining shared functionality and enforcing the `schedule` method.
+ * <p>
+ * Every algorithm reads a row-indexed {@link Workload} and writes to {@link ScheduleResults},
+ * usually both backed by one columnar {@link ProcessTable}. A scheduler built from a list of
+ * {@link Process} objects copies them into a table, schedules it, and writes the results back.
+ * <p>
+ * When a {@link SegmentLog} is attached, every algorithm also records each stretch of time a
+ * process held the CPU, so preempted and time-sliced schedules can be drawn faithfully.
+ * When a {@link ScheduleMetrics} aggregator is attached, it is updated as processes start and complete.
+ * When a {@link SchedulerListener} is attached, it is told of every dispatch, preemption, idle gap and
+ * completion; without one, each of these costs a single null check.
  */
 public abstract class Scheduler {
 
-    // List of processes to be scheduled
+    // List of processes to be scheduled (null when the scheduler was built on a table)
     protected List<Process> processes;
 
+    // Processes the algorithm reads, one per row
+    protected Workload workload;
+
+    // Destination for the computed metrics, indexed like the workload
+    protected ScheduleResults results;
+
+    // Execution segments of the last run (null when not recording)
+    private SegmentLog segmentLog;
+
+    // Streaming summary of the last run (null when not collected)
+    private ScheduleMetrics metrics;
+
+    // Receiver of the decisions made during each run (null when not observed)
+    private SchedulerListener listener;
+
+    // Rows in the order they were first dispatched (only tracked when writing back to a list)
+    private int[] dispatchOrder;
+    private int dispatched;
+
     /**
      * Constructor to initialize the Scheduler with a list of processes.
      *
@@ -25,17 +62,307 @@ public abstract class Scheduler {
     }
 
     /**
-     * Abstract method to implement the scheduling logic.
-     * Subclasses must override this method to provide specific scheduling behavior.
+     * Constructor to initialize the Scheduler directly on a process table.
+     *
+     * @param table The processes that need to be scheduled, one per row.
+     */
+    public Scheduler(ProcessTable table) {
+        this(table, table);
+    }
+
+    /**
+     * Constructor to initialize the Scheduler on separate input and output storage,
+     * such as a memory-mapped workload file and result file.
+     *
+     * @param workload The processes that need to be scheduled, one per row.
+     * @param results  Destination for the computed metrics, indexed like the workload.
+     */
+    public Scheduler(Workload workload, ScheduleResults results) {
+        this.workload = workload;
+        this.results = results;
+    }
+
+    /**
+     * Runs the scheduling algorithm. For a list-backed scheduler the processes are updated
+     * with their metrics and the list is reordered by the time each process was first dispatched.
+     * The list is only modified, through {@link ListIterator#set}, when that order differs from the
+     * list order, so fixed-size lists are always accepted and unmodifiable lists are accepted when
+     * they are already in dispatch order (as FCFS input sorted by arrival is).
+     */
+    public void schedule() {
+        if (segmentLog != null) {
+            segmentLog.clear();
+        }
+        if (metrics != null) {
+            metrics.reset();
+        }
+        if (processes == null) {
+            run(workload);
+            return;
+        }
+
+        ProcessTable table = ProcessTable.from(processes);
+        workload = table;
+        results = table;
+        dispatchOrder = new int[table.size()];
+        dispatched = 0;
+        run(table);
+
+        // Write the results back to the processes, then reorder the list only if the order changed.
+        int row = 0;
+        for (Process process : processes) {
+            table.copyTo(row++, process);
+        }
+        int[] order = dispatchOrder;
+        dispatchOrder = null;
+        if (!isReordering(order)) {
+            return;
+        }
+
+        Process[] ordered = new Process[table.size()]; // Processes in dispatch order
+        int[] position = new int[table.size()]; // New list index of each row
+        boolean[] placed = new boolean[table.size()];
+        int next = 0;
+        for (int i = 0; i < dispatched; i++) {
+            placed[order[i]] = true;
+            position[order[i]] = next;
+            ordered[next++] = processes.get(order[i]);
+        }
+        for (row = 0; row < table.size(); row++) {
+            if (!placed[row]) {
+                // Processes never dispatched keep their relative order at the end.
+                position[row] = next;
+                ordered[next++] = processes.get(row);
+            }
+        }
+        if (segmentLog != null) {
+            segmentLog.remapRows(position);
+        }
+        ListIterator<Process> iterator = processes.listIterator();
+        for (Process process : ordered) {
+            iterator.next();
+            iterator.set(process);
+        }
+    }
+
+    /**
+     * @param order Rows in the order they were first dispatched.
+     * @return True if the dispatch order differs from the list order.
+     */
+    private boolean isReordering(int[] order) {
+        for (int i = 0; i < dispatched; i++) {
+            if (order[i] != i) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Runs the algorithm on a workload, telling the listener when the run starts and ends.
+     *
+     * @param workload The processes to schedule.
+     */
+    private void run(Workload workload) {
+        if (listener == null) {
+            schedule(workload);
+            return;
+        }
+        listener.runStarted(getClass().getSimpleName(), workload.size());
+        schedule(workload);
+        listener.runFinished();
+    }
+
+    /**
+     * Abstract method to implement the scheduling logic on a workload.
+     * Subclasses must override this method to provide specific scheduling behavior,
+     * calling {@link #start} and {@link #complete} as processes are dispatched and finish, and
+     * {@link #notifyDispatch}, {@link #notifyPreemption} and {@link #notifyIdle} for the listener.
+     *
+     * @param workload The processes to schedule.
+     */
+    protected abstract void schedule(Workload workload);
+
+    /**
+     * Records the first dispatch of a process.
+     *
+     * @param row       Row of the process.
+     * @param startTime Time at which the process first runs.
+     */
+    protected void start(int row, long startTime) {
+        results.setStartTime(row, startTime);
+        if (dispatchOrder != null) {
+            dispatchOrder[dispatched++] = row;
+        }
+        if (metrics != null) {
+            metrics.recordStart(workload.getArrivalTime(row), startTime);
+        }
+    }
+
+    /**
+     * Records the completion of a process; turnaround and waiting times are derived from it.
+     *
+     * @param row            Row of the process.
+     * @param completionTime Time at which the process finishes.
+     */
+    protected void complete(int row, long completionTime) {
+        results.setCompletionTime(row, completionTime);
+        if (metrics != null) {
+            metrics.recordCompletion(workload.getArrivalTime(row), workload.getBurstTime(row), completionTime);
+        }
+        if (listener != null) {
+            listener.completed(row, completionTime);
+        }
+    }
+
+    /**
+     * Reports that a process gets the CPU, on its first dispatch and on every later one.
+     * Does nothing unless a listener is attached.
+     *
+     * @param row     Row of the process.
+     * @param time    Time the process starts running.
+     * @param waiting Ready processes left waiting after this one was selected.
+     */
+    protected void notifyDispatch(int row, long time, int waiting) {
+        if (listener != null) {
+            listener.dispatched(row, time, waiting);
+        }
+    }
+
+    /**
+     * Reports that a process loses the CPU before it has finished. Does nothing unless a listener is attached.
+     *
+     * @param row  Row of the process.
+     * @param time Time the process stops running.
+     */
+    protected void notifyPreemption(int row, long time) {
+        if (listener != null) {
+            listener.preempted(row, time);
+        }
+    }
+
+    /**
+     * Reports that the CPU idles until the next arrival. Does nothing unless a listener is attached.
+     *
+     * @param from Time the CPU goes idle.
+     * @param to   Time the next process arrives.
+     */
+    protected void notifyIdle(long from, long to) {
+        if (listener != null) {
+            listener.idle(from, to);
+        }
+    }
+
+    /**
+     * @return True if anything besides the results follows the {@link #start} and {@link #complete} calls
+     *         (segments, metrics, a listener, or writing back to a list), so they must come in schedule order.
+     */
+    protected boolean isTracking() {
+        return segmentLog != null || metrics != null || listener != null || dispatchOrder != null;
+    }
+
+    /**
+     * @return True if a listener is attached; algorithms check it before computing event details
+     *         that cost more than a field read.
+     */
+    protected boolean isObserved() {
+        return listener != null;
+    }
+
+    /**
+     * Records that a process held the CPU for a stretch of time. Does nothing unless a segment log is attached.
+     * Segments must be recorded in non-decreasing start order.
+     *
+     * @param row   Row of the process.
+     * @param start Time the process started running.
+     * @param end   Time the process stopped running.
+     */
+    protected void recordSegment(int row, long start, long end) {
+        if (segmentLog != null) {
+            segmentLog.append(row, start, end);
+        }
+    }
+
+    /**
+     * @return True if execution segments are being recorded.
+     */
+    protected boolean isRecordingSegments() {
+        return segmentLog != null;
+    }
+
+    /**
+     * Attaches a log that receives the execution segments of each run; it is cleared when a run starts.
+     * For a list-backed scheduler, segment rows are indices into the reordered list after the run;
+     * otherwise they are workload rows.
+     *
+     * @param segmentLog The log to record into, or null to stop recording.
+     */
+    public void setSegmentLog(SegmentLog segmentLog) {
+        this.segmentLog = segmentLog;
+    }
+
+    /**
+     * @return The attached segment log, or null if segments are not recorded.
+     */
+    public SegmentLog getSegmentLog() {
+        return segmentLog;
+    }
+
+    /**
+     * Attaches an aggregator that summarizes each run; it is reset when a run starts.
+     *
+     * @param metrics The aggregator to update, or null to stop collecting.
      */
-    public abstract void schedule();
+    public void setMetrics(ScheduleMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * @return The attached metrics aggregator, or null if none is attached.
+     */
+    public ScheduleMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Attaches a listener that is told of every decision of each run.
+     *
+     * @param listener The listener, or null to stop observing.
+     */
+    public void setListener(SchedulerListener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * @return The attached listener, or null if none is attached.
+     */
+    public SchedulerListener getListener() {
+        return listener;
+    }
 
     /**
      * Get the list of processes being managed by the scheduler.
+     * A table-backed scheduler returns a read-only view of its table.
      *
      * @return The list of processes.
+     * @throws UnsupportedOperationException If the scheduler writes to storage other than a process table.
      */
     public List<Process> getProcesses() {
-        return processes;
+        if (processes != null) {
+            return processes;
+        }
+        if (workload instanceof ProcessTable table && results == table) {
+            return table.asProcessList();
+        }
+        throw new UnsupportedOperationException("Scheduler results are not held in a process table");
+    }
+
+    /**
+     * Get the process table the scheduler runs on.
+     *
+     * @return The process table, or null if the scheduler runs on other storage or has not run yet.
+     */
+    public ProcessTable getTable() {
+        return workload instanceof ProcessTable table ? table : null;
     }
 }
@@ -0,0 +1,116 @@
+// File: scheduler/algorithms/StrideScheduler.java
+package scheduler.algorithms;
+
+import scheduler.models.Process;
+import scheduler.models.ProcessTable;
+import scheduler.models.ScheduleResults;
+import scheduler.models.Workload;
+
+import java.util.List;
+
+/**
+ * Stride Scheduler implementation.
+ * The deterministic counterpart of lottery scheduling: each process has a stride inversely
+ * proportional to its tickets and a pass value. The ready process with the smallest pass runs the
+ * next quantum, after which its pass grows by its stride, so over any interval each process gets a
+ * share of the CPU proportional to its tickets, with an error that does not grow over time.
+ * <p>
+ * The ready processes live in an {@link IndexedMinHeap} keyed by pass, so every decision is
+ * O(log n). A process joining the ready set starts at the pass of the most recently selected process,
+ * so it competes from now on without being owed the time it was absent. Schedules involve no
+ * randomness and are reproducible; equal passes go to whichever process the heap holds first.
+ */
+public class StrideScheduler extends ProportionalShareScheduler {
+    private static final long STRIDE1 = 1L << 30; // Stride of a process holding one ticket
+    private IndexedMinHeap ready; // Ready processes, by pass
+    private long[] strides; // Stride of each row in the current run
+    private long globalPass; // Pass of the most recently selected process
+
+    /**
+     * Constructor for Stride Scheduler.
+     *
+     * @param processes   List of processes to schedule.
+     * @param timeQuantum The time slice handed out at each decision.
+     */
+    public StrideScheduler(List<Process> processes, int timeQuantum) {
+        super(processes, timeQuantum);
+    }
+
+    /**
+     * Constructor for Stride Scheduler running directly on a process table.
+     *
+     * @param table       Processes to schedule, one per row.
+     * @param timeQuantum The time slice handed out at each decision.
+     */
+    public StrideScheduler(ProcessTable table, int timeQuantum) {
+        super(table, timeQuantum);
+    }
+
+    /**
+     * Constructor for Stride Scheduler running on separate input and output storage.
+     *
+     * @param workload    Processes to schedule, one per row.
+     * @param results     Destination for the computed metrics.
+     * @param timeQuantum The time slice handed out at each decision.
+     */
+    public StrideScheduler(Workload workload, ScheduleResults results, int timeQuantum) {
+        super(workload, results, timeQuantum);
+    }
+
+    /**
+     * Builds an empty pass heap and computes each row's stride.
+     *
+     * @param count   Number of processes.
+     * @param tickets Tickets of each row.
+     */
+    @Override
+    protected void prepare(int count, long[] tickets) {
+        ready = new IndexedMinHeap(count);
+        strides = new long[count];
+        for (int row = 0; row < count; row++) {
+            // Processes with more tickets than STRIDE1 share the smallest stride.
+            strides[row] = Math.max(1, STRIDE1 / tickets[row]);
+        }
+        globalPass = 0;
+    }
+
+    /**
+     * Enters the process at the global pass.
+     *
+     * @param row Row of the process.
+     */
+    @Override
+    protected void join(int row) {
+        ready.add(row, globalPass);
+    }
+
+    /**
+     * Selects the process with the smallest pass, which becomes the global pass.
+     *
+     * @return Row of the selected process.
+     */
+    @Override
+    protected int select() {
+        int row = ready.peek();
+        globalPass = ready.key(row);
+        return row;
+    }
+
+    /**
+     * Advances the process's pass by its stride.
+     *
+     * @param row Row of the process.
+     */
+    @Override
+    protected void charge(int row) {
+        ready.update(row, ready.key(row) + strides[row]);
+    }
+
+    /**
+     * @param row Row of the process.
+     */
+    @Override
+    protected void leave(int row) {
+        ready.remove(row);
+    }
+}
@@ -0,0 +1,233 @@
+// File: scheduler/cache/CachedResult.java
+
+package scheduler.cache;
+
+import scheduler.models.ResultTable;
+import scheduler.models.SegmentLog;
+import scheduler.models.Workload;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * One cached schedule: the start and completion time of every row and, if they were recorded,
+ * the execution segments. Turnaround and waiting times are derived again from the workload.
+ * <p>
+ * On disk a result is stored compactly: a header (magic, version, row count, segment count) followed
+ * by variable-length integers (7 bits per byte): each row's start time as a zig-zag delta from the
+ * previous row's and its completion time as an offset from its start, then each segment's row, start
+ * as a delta from the previous segment's start, and length.
+ */
+final class CachedResult {
+    private static final int MAGIC = 0x4D415443; // "MATC"
+    private static final int VERSION = 1;
+    private static final int OVERHEAD_BYTES = 64; // Estimated object overhead of an entry
+
+    private final long[] startTimes; // Start time of each row
+    private final long[] completionTimes; // Completion time of each row
+    private final SegmentLog segments; // Execution segments, or null if they were not recorded
+
+    /**
+     * Constructor for CachedResult.
+     *
+     * @param startTimes      Start time of each row.
+     * @param completionTimes Completion time of each row.
+     * @param segments        Execution segments, or null if they were not recorded.
+     */
+    private CachedResult(long[] startTimes, long[] completionTimes, SegmentLog segments) {
+        this.startTimes = startTimes;
+        this.completionTimes = completionTimes;
+        this.segments = segments;
+    }
+
+    /**
+     * Copies the results of a finished run.
+     *
+     * @param results      Results of the run.
+     * @param withSegments True to keep the execution segments as well.
+     * @return The cached copy.
+     */
+    static CachedResult of(ResultTable results, boolean withSegments) {
+        int rows = results.size();
+        long[] startTimes = new long[rows];
+        long[] completionTimes = new long[rows];
+        for (int row = 0; row < rows; row++) {
+            startTimes[row] = results.getStartTime(row);
+            completionTimes[row] = results.getCompletionTime(row);
+        }
+        return new CachedResult(startTimes, completionTimes, withSegments ? results.getSegments().copy() : null);
+    }
+
+    /**
+     * @return True if the execution segments are cached too.
+     */
+    boolean hasSegments() {
+        return segments != null;
+    }
+
+    /**
+     * @return Number of rows.
+     */
+    int size() {
+        return startTimes.length;
+    }
+
+    /**
+     * @return Approximate heap footprint in bytes, used for size-based eviction.
+     */
+    long sizeInBytes() {
+        return OVERHEAD_BYTES + 16L * startTimes.length + (segments != null ? 16L * segments.size() : 0);
+    }
+
+    /**
+     * Writes the cached result into a result table, as if the scheduler had just run. The table's
+     * segments and metrics are replaced.
+     *
+     * @param results Destination, for a workload with the same contents.
+     */
+    void copyTo(ResultTable results) {
+        Workload workload = results.getWorkload();
+        results.getMetrics().reset();
+        for (int row = 0; row < startTimes.length; row++) {
+            results.setStartTime(row, startTimes[row]);
+            results.setCompletionTime(row, completionTimes[row]);
+            results.getMetrics().recordStart(workload.getArrivalTime(row), startTimes[row]);
+            results.getMetrics().recordCompletion(workload.getArrivalTime(row), workload.getBurstTime(row),
+                    completionTimes[row]);
+        }
+        SegmentLog target = results.getSegments();
+        target.clear();
+        if (segments != null) {
+            segments.forEach(target::append);
+        }
+    }
+
+    /**
+     * Writes the result in the compact file format.
+     *
+     * @param stream Destination (not closed).
+     * @throws IOException If writing fails.
+     */
+    void write(OutputStream stream) throws IOException {
+        DataOutputStream out = new DataOutputStream(stream);
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeInt(startTimes.length);
+        out.writeInt(segments != null ? segments.size() : -1);
+        long previous = 0;
+        for (int row = 0; row < startTimes.length; row++) {
+            writeVarLong(out, zigZag(startTimes[row] - previous));
+            writeVarLong(out, zigZag(completionTimes[row] - startTimes[row]));
+            previous = startTimes[row];
+        }
+        if (segments != null) {
+            long previousStart = 0;
+            for (int i = 0; i < segments.size(); i++) {
+                writeVarLong(out, segments.getRow(i));
+                writeVarLong(out, segments.getStart(i) - previousStart);
+                writeVarLong(out, segments.getEnd(i) - segments.getStart(i));
+                previousStart = segments.getStart(i);
+            }
+        }
+        out.flush();
+    }
+
+    /**
+     * Reads a result written by {@link #write}.
+     *
+     * @param stream Source (not closed).
+     * @return The result.
+     * @throws IOException If reading fails or the data is not a cached result.
+     */
+    static CachedResult read(InputStream stream) throws IOException {
+        DataInputStream in = new DataInputStream(stream);
+        if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+            throw new IOException("Not a cached result file");
+        }
+        int rows = in.readInt();
+        int segmentCount = in.readInt();
+        if (rows < 0) {
+            throw new IOException("Corrupt cached result: " + rows + " rows");
+        }
+        long[] startTimes = new long[rows];
+        long[] completionTimes = new long[rows];
+        long previous = 0;
+        for (int row = 0; row < rows; row++) {
+            startTimes[row] = previous + unZigZag(readVarLong(in));
+            completionTimes[row] = startTimes[row] + unZigZag(readVarLong(in));
+            previous = startTimes[row];
+        }
+        SegmentLog segments = null;
+        if (segmentCount >= 0) {
+            segments = new SegmentLog();
+            long start = 0;
+            for (int i = 0; i < segmentCount; i++) {
+                long row = readVarLong(in);
+                start += readVarLong(in);
+                long length = readVarLong(in);
+                if (row >= rows) {
+                    throw new IOException("Corrupt cached result: segment row " + row);
+                }
+                segments.append((int) row, start, start + length);
+            }
+        }
+        return new CachedResult(startTimes, completionTimes, segments);
+    }
+
+    /**
+     * Writes a non-negative long in 7-bit groups, low group first; the high bit marks a continuation.
+     *
+     * @param out   Destination.
+     * @param value Value to write.
+     * @throws IOException If writing fails.
+     */
+    private static void writeVarLong(DataOutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) (value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    /**
+     * Reads a long written by {@link #writeVarLong}.
+     *
+     * @param in Source.
+     * @return The value.
+     * @throws IOException If reading fails or the encoding is too long.
+     */
+    private static long readVarLong(DataInputStream in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = in.read();
+            if (b < 0) {
+                throw new EOFException("Truncated cached result");
+            }
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Corrupt cached result: variable-length integer too long");
+    }
+
+    /**
+     * @param value Signed value.
+     * @return The value mapped to a non-negative one (0, -1, 1, -2, ... to 0, 1, 2, 3, ...).
+     */
+    private static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    /**
+     * @param value Value produced by {@link #zigZag}.
+     * @return The original signed value.
+     */
+    private static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
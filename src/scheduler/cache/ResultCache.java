@@ -0,0 +1,363 @@
+// File: scheduler/cache/ResultCache.java
+
+package scheduler.cache;
+
+import scheduler.models.ResultTable;
+import scheduler.models.Workload;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/**
+ * Content-addressed cache of schedule results, so repeated runs of the same workload, algorithm and
+ * parameters are answered without simulating again.
+ * <p>
+ * A key is the SHA-256 of the workload's contents (arrival time, burst time and priority of every row;
+ * names do not affect a schedule) and a configuration string naming the algorithm and its parameters,
+ * such as {@code "RR(q=4)"}. Results live in an in-memory LRU tier bounded by an approximate byte size
+ * and, optionally, in a directory of compact result files that survives restarts. A memory miss falls
+ * back to the disk tier and promotes what it finds. The cache is safe for concurrent use.
+ * <p>
+ * Disk tier failures never fail a lookup or a store; they are counted and passed to an optional
+ * error handler, so the application decides whether and how to report them.
+ */
+public class ResultCache {
+    private static final int DIGEST_BUFFER_ROWS = 1 << 12; // Rows hashed per buffer fill
+    private static final String FILE_SUFFIX = ".sched"; // Extension of result files
+
+    private final long maxBytes; // Size bound of the memory tier
+    private final Path directory; // Directory of the disk tier, or null
+    private final LinkedHashMap<String, CachedResult> memory = new LinkedHashMap<>(16, 0.75f, true); // LRU order
+    private long bytes; // Approximate size of the memory tier
+    private long hits; // Lookups answered from memory
+    private long diskHits; // Lookups answered from disk
+    private long misses; // Lookups that found nothing
+    private long readFailures; // Result files that could not be read
+    private long writeFailures; // Result files that could not be written
+    private volatile BiConsumer<String, IOException> errorHandler; // Receives disk tier failures, or null
+
+    /**
+     * Constructor for a memory-only ResultCache.
+     *
+     * @param maxBytes Approximate memory bound; least recently used results are evicted beyond it.
+     */
+    public ResultCache(long maxBytes) {
+        this(maxBytes, null);
+    }
+
+    /**
+     * Constructor for a ResultCache backed by a directory of result files.
+     *
+     * @param maxBytes  Approximate memory bound; least recently used results are evicted beyond it.
+     * @param directory Directory of the disk tier (created if missing), or null for memory only.
+     * @throws UncheckedIOException If the directory cannot be created.
+     */
+    public ResultCache(long maxBytes, Path directory) {
+        if (maxBytes < 0) {
+            throw new IllegalArgumentException("Cache size must not be negative: " + maxBytes);
+        }
+        this.maxBytes = maxBytes;
+        this.directory = directory;
+        if (directory != null) {
+            try {
+                Files.createDirectories(directory);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot create cache directory " + directory, e);
+            }
+        }
+    }
+
+    /**
+     * Hashes the contents of a workload. Compute it once per workload and derive a {@link #key} for each
+     * algorithm run on it.
+     *
+     * @param workload The workload.
+     * @return SHA-256 of the row count and every row's arrival time, burst time and priority.
+     */
+    public static byte[] digest(Workload workload) {
+        MessageDigest sha = sha256();
+        ByteBuffer buffer = ByteBuffer.allocate(DIGEST_BUFFER_ROWS * 12);
+        buffer.putInt(workload.size());
+        for (int row = 0; row < workload.size(); row++) {
+            if (buffer.remaining() < 12) {
+                sha.update(buffer.array(), 0, buffer.position());
+                buffer.clear();
+            }
+            buffer.putInt(workload.getArrivalTime(row))
+                    .putInt(workload.getBurstTime(row))
+                    .putInt(workload.getPriority(row));
+        }
+        sha.update(buffer.array(), 0, buffer.position());
+        return sha.digest();
+    }
+
+    /**
+     * Combines a workload digest and an algorithm configuration into a cache key.
+     *
+     * @param workloadDigest Result of {@link #digest} for the workload.
+     * @param configuration  Algorithm name and every parameter that affects its schedule, e.g. "RR(q=4)".
+     * @return The key, as 64 hexadecimal digits.
+     */
+    public static String key(byte[] workloadDigest, String configuration) {
+        MessageDigest sha = sha256();
+        sha.update(workloadDigest);
+        sha.update(configuration.getBytes(StandardCharsets.UTF_8));
+        return HexFormat.of().formatHex(sha.digest());
+    }
+
+    /**
+     * Looks up a result and, if found, writes it into a result table as if the scheduler had run,
+     * including its metrics and, when requested, its execution segments.
+     *
+     * @param key          Cache key from {@link #key}.
+     * @param results      Destination, for the workload the key was computed from.
+     * @param needSegments True if the execution segments are required; results cached without them
+     *                     then count as a miss.
+     * @return True on a hit; on a miss the table is left untouched.
+     */
+    public boolean load(String key, ResultTable results, boolean needSegments) {
+        // Step 1: Memory tier.
+        CachedResult cached;
+        synchronized (this) {
+            cached = memory.get(key);
+        }
+        if (cached != null && isUsable(cached, results, needSegments)) {
+            cached.copyTo(results);
+            synchronized (this) {
+                hits++;
+            }
+            return true;
+        }
+
+        // Step 2: Disk tier, promoting a hit into memory.
+        cached = readFile(key);
+        if (cached != null && isUsable(cached, results, needSegments)) {
+            cached.copyTo(results);
+            synchronized (this) {
+                diskHits++;
+                putInMemory(key, cached);
+            }
+            return true;
+        }
+        synchronized (this) {
+            misses++;
+        }
+        return false;
+    }
+
+    /**
+     * Stores the results of a finished run in both tiers. Failing to write the disk tier is not an
+     * error; the result simply stays in memory and the failure is reported as a write failure.
+     *
+     * @param key          Cache key from {@link #key}.
+     * @param results      Results of the run.
+     * @param withSegments True to cache the execution segments as well.
+     */
+    public void store(String key, ResultTable results, boolean withSegments) {
+        CachedResult cached = CachedResult.of(results, withSegments);
+        synchronized (this) {
+            putInMemory(key, cached);
+        }
+        writeFile(key, cached);
+    }
+
+    /**
+     * Sets the receiver of disk tier failures. It is called with the cache key and the exception,
+     * on the thread that looked up or stored the result.
+     *
+     * @param errorHandler The handler, or null to only count failures.
+     */
+    public void setErrorHandler(BiConsumer<String, IOException> errorHandler) {
+        this.errorHandler = errorHandler;
+    }
+
+    /**
+     * Empties the memory tier. Result files on disk are kept.
+     */
+    public synchronized void clear() {
+        memory.clear();
+        bytes = 0;
+    }
+
+    /**
+     * @return Number of lookups answered from memory.
+     */
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    /**
+     * @return Number of lookups answered from disk.
+     */
+    public synchronized long getDiskHits() {
+        return diskHits;
+    }
+
+    /**
+     * @return Number of lookups that found nothing usable.
+     */
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    /**
+     * @return Number of result files that existed but could not be read.
+     */
+    public synchronized long getReadFailures() {
+        return readFailures;
+    }
+
+    /**
+     * @return Number of results that could not be written to the disk tier.
+     */
+    public synchronized long getWriteFailures() {
+        return writeFailures;
+    }
+
+    /**
+     * @return Approximate size of the memory tier in bytes.
+     */
+    public synchronized long getSizeInBytes() {
+        return bytes;
+    }
+
+    /**
+     * @return Number of results in the memory tier.
+     */
+    public synchronized int size() {
+        return memory.size();
+    }
+
+    /**
+     * Adds a result to the memory tier and evicts least recently used results beyond the size bound.
+     * A result larger than the whole bound is not kept in memory. Callers hold the lock.
+     *
+     * @param key    Cache key.
+     * @param cached The result.
+     */
+    private void putInMemory(String key, CachedResult cached) {
+        if (cached.sizeInBytes() > maxBytes) {
+            return;
+        }
+        CachedResult previous = memory.put(key, cached);
+        bytes += cached.sizeInBytes() - (previous != null ? previous.sizeInBytes() : 0);
+        Iterator<Map.Entry<String, CachedResult>> eldest = memory.entrySet().iterator();
+        while (bytes > maxBytes) {
+            bytes -= eldest.next().getValue().sizeInBytes();
+            eldest.remove();
+        }
+    }
+
+    /**
+     * @param cached       A cached result.
+     * @param results      Table it would be written into.
+     * @param needSegments True if execution segments are required.
+     * @return True if the cached result can serve the lookup.
+     */
+    private static boolean isUsable(CachedResult cached, ResultTable results, boolean needSegments) {
+        return cached.size() == results.size() && (cached.hasSegments() || !needSegments);
+    }
+
+    /**
+     * Reads a result file of the disk tier. A missing, unreadable or corrupt file counts as a miss;
+     * an unreadable or corrupt one is also reported as a read failure.
+     *
+     * @param key Cache key.
+     * @return The result, or null.
+     */
+    private CachedResult readFile(String key) {
+        if (directory == null) {
+            return null;
+        }
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(directory.resolve(key + FILE_SUFFIX)))) {
+            return CachedResult.read(in);
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException e) {
+            synchronized (this) {
+                readFailures++;
+            }
+            reportError(key, e);
+            return null;
+        }
+    }
+
+    /**
+     * Writes a result file of the disk tier through a temporary file, so readers never see a partial file.
+     *
+     * @param key    Cache key.
+     * @param cached The result.
+     */
+    private void writeFile(String key, CachedResult cached) {
+        if (directory == null) {
+            return;
+        }
+        Path file = directory.resolve(key + FILE_SUFFIX);
+        Path temporary = null;
+        try {
+            temporary = Files.createTempFile(directory, key, ".tmp");
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(temporary), 1 << 16)) {
+                cached.write(out);
+            }
+            try {
+                Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            synchronized (this) {
+                writeFailures++;
+            }
+            try {
+                if (temporary != null) {
+                    Files.deleteIfExists(temporary);
+                }
+            } catch (IOException ignored) {
+                // Nothing more to do; the temporary file is only wasted space
+            }
+            reportError(key, e);
+        }
+    }
+
+    /**
+     * Passes a disk tier failure to the error handler, if one is set.
+     *
+     * @param key Cache key of the result being read or written.
+     * @param e   The failure.
+     */
+    private void reportError(String key, IOException e) {
+        BiConsumer<String, IOException> handler = errorHandler;
+        if (handler != null) {
+            handler.accept(key, e);
+        }
+    }
+
+    /**
+     * @return A new SHA-256 digest.
+     */
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
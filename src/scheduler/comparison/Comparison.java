@@ -0,0 +1,63 @@
+// File: scheduler/comparison/Comparison.java
+
+package scheduler.comparison;
+
+import scheduler.models.ResultTable;
+import scheduler.models.WorkloadSnapshot;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Results of running several scheduling algorithms on the same workload.
+ * Algorithms are kept in the order they were registered with the {@link ComparisonEngine}.
+ */
+public class Comparison {
+    private final WorkloadSnapshot workload; // Workload every algorithm ran on
+    private final Map<String, ResultTable> results; // Results per algorithm name
+    private final Map<String, Long> elapsedNanos; // Wall-clock run time per algorithm name
+
+    /**
+     * Constructor for Comparison.
+     *
+     * @param workload     Workload every algorithm ran on.
+     * @param results      Results per algorithm name, in registration order.
+     * @param elapsedNanos Wall-clock run time per algorithm name.
+     */
+    Comparison(WorkloadSnapshot workload, Map<String, ResultTable> results, Map<String, Long> elapsedNanos) {
+        this.workload = workload;
+        this.results = Collections.unmodifiableMap(results);
+        this.elapsedNanos = Collections.unmodifiableMap(elapsedNanos);
+    }
+
+    /**
+     * @return The workload every algorithm ran on.
+     */
+    public WorkloadSnapshot getWorkload() {
+        return workload;
+    }
+
+    /**
+     * @return Names of the compared algorithms, in registration order.
+     */
+    public List<String> getAlgorithms() {
+        return List.copyOf(results.keySet());
+    }
+
+    /**
+     * @param algorithm Name of the algorithm.
+     * @return The algorithm's results.
+     */
+    public ResultTable getResults(String algorithm) {
+        return results.get(algorithm);
+    }
+
+    /**
+     * @param algorithm Name of the algorithm.
+     * @return Wall-clock time the algorithm took, in nanoseconds.
+     */
+    public long getElapsedNanos(String algorithm) {
+        return elapsedNanos.get(algorithm);
+    }
+}
@@ -0,0 +1,175 @@
+// File: scheduler/comparison/ComparisonEngine.java
+
+package scheduler.comparison;
+
+import scheduler.algorithms.FCFS;
+import scheduler.algorithms.PriorityScheduler;
+import scheduler.algorithms.RR;
+import scheduler.algorithms.SJF;
+import scheduler.algorithms.Scheduler;
+import scheduler.cache.ResultCache;
+import scheduler.models.ResultTable;
+import scheduler.models.WorkloadSnapshot;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Runs several scheduling algorithms on one immutable workload in parallel.
+ * Every algorithm reads the shared {@link WorkloadSnapshot} and writes only into its own
+ * {@link ResultTable}, so runs never interfere and the total wall-clock time is close to
+ * that of the slowest algorithm rather than the sum.
+ * <p>
+ * With a {@link ResultCache} attached, algorithms registered with a configuration string are looked
+ * up by workload contents and configuration first, and only simulated on a miss.
+ */
+public class ComparisonEngine {
+    private final ForkJoinPool pool; // Pool the algorithms run on
+    private final Map<String, SchedulerFactory> algorithms = new LinkedHashMap<>(); // Registered algorithms
+    private final Map<String, String> configurations = new LinkedHashMap<>(); // Cache configuration per algorithm
+    private boolean recordSegments; // Record execution segments into each ResultTable
+    private ResultCache cache; // Cache of earlier runs, or null
+
+    /**
+     * Constructor for a ComparisonEngine running on the common fork-join pool.
+     */
+    public ComparisonEngine() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructor for a ComparisonEngine running on the given pool.
+     *
+     * @param pool Pool the algorithms run on.
+     */
+    public ComparisonEngine(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Creates an engine comparing FCFS, SJF, Round Robin and Priority scheduling.
+     *
+     * @param timeQuantum Time quantum for Round Robin.
+     * @return A new engine with the four standard algorithms registered.
+     */
+    public static ComparisonEngine withStandardAlgorithms(int timeQuantum) {
+        return new ComparisonEngine()
+                .addAlgorithm("FCFS", "FCFS", FCFS::new)
+                .addAlgorithm("SJF", "SJF", SJF::new)
+                .addAlgorithm("Round Robin", "RR(q=" + timeQuantum + ")",
+                        (workload, results) -> new RR(workload, results, timeQuantum))
+                .addAlgorithm("Priority", "PRIORITY(aging=0)",
+                        (workload, results) -> new PriorityScheduler(workload, results, 0));
+    }
+
+    /**
+     * Registers an algorithm to compare.
+     *
+     * @param name    Display name of the algorithm (must be unique).
+     * @param factory Creates the scheduler for a run.
+     * @return This engine, for chaining.
+     */
+    public ComparisonEngine addAlgorithm(String name, SchedulerFactory factory) {
+        if (algorithms.putIfAbsent(name, factory) != null) {
+            throw new IllegalArgumentException("Algorithm already registered: " + name);
+        }
+        return this;
+    }
+
+    /**
+     * Registers an algorithm whose results may be cached.
+     *
+     * @param name          Display name of the algorithm (must be unique).
+     * @param configuration Algorithm and every parameter that affects its schedule, e.g. "RR(q=4)";
+     *                      two registrations with equal configurations must produce equal schedules.
+     * @param factory       Creates the scheduler for a run.
+     * @return This engine, for chaining.
+     */
+    public ComparisonEngine addAlgorithm(String name, String configuration, SchedulerFactory factory) {
+        addAlgorithm(name, factory);
+        configurations.put(name, configuration);
+        return this;
+    }
+
+    /**
+     * Attaches a cache of results. Only algorithms registered with a configuration are cached.
+     *
+     * @param cache The cache, or null to always simulate.
+     * @return This engine, for chaining.
+     */
+    public ComparisonEngine setCache(ResultCache cache) {
+        this.cache = cache;
+        return this;
+    }
+
+    /**
+     * Makes every run record its execution segments into {@link ResultTable#getSegments()}.
+     * Recording costs memory proportional to the number of slices, so it is off by default.
+     *
+     * @param recordSegments True to record execution segments.
+     * @return This engine, for chaining.
+     */
+    public ComparisonEngine setRecordSegments(boolean recordSegments) {
+        this.recordSegments = recordSegments;
+        return this;
+    }
+
+    /**
+     * Starts every registered algorithm on the workload in parallel.
+     *
+     * @param workload The workload to schedule.
+     * @return A future completing with the combined results once every algorithm has finished.
+     */
+    public CompletableFuture<Comparison> compare(WorkloadSnapshot workload) {
+        List<String> names = new ArrayList<>(algorithms.keySet());
+        List<CompletableFuture<ResultTable>> runs = new ArrayList<>(names.size());
+        long[] elapsed = new long[names.size()];
+
+        // The workload is hashed once, on the pool, and only if some run can use the cache.
+        ResultCache runCache = cache;
+        boolean caching = runCache != null && !configurations.isEmpty();
+        CompletableFuture<byte[]> digest = caching
+                ? CompletableFuture.supplyAsync(() -> ResultCache.digest(workload), pool)
+                : CompletableFuture.completedFuture(null);
+
+        for (int i = 0; i < names.size(); i++) {
+            SchedulerFactory factory = algorithms.get(names.get(i));
+            String configuration = caching ? configurations.get(names.get(i)) : null;
+            int index = i;
+            runs.add(digest.thenApplyAsync(workloadDigest -> {
+                long begin = System.nanoTime();
+                ResultTable results = new ResultTable(workload);
+                String key = configuration != null ? ResultCache.key(workloadDigest, configuration) : null;
+                if (key != null && runCache.load(key, results, recordSegments)) {
+                    elapsed[index] = System.nanoTime() - begin;
+                    return results;
+                }
+                Scheduler scheduler = factory.create(workload, results);
+                scheduler.setMetrics(results.getMetrics());
+                if (recordSegments) {
+                    scheduler.setSegmentLog(results.getSegments());
+                }
+                scheduler.schedule();
+                if (key != null) {
+                    runCache.store(key, results, recordSegments);
+                }
+                elapsed[index] = System.nanoTime() - begin;
+                return results;
+            }, pool));
+        }
+
+        return CompletableFuture.allOf(runs.toArray(new CompletableFuture<?>[0])).thenApply(done -> {
+            Map<String, ResultTable> results = new LinkedHashMap<>();
+            Map<String, Long> elapsedNanos = new LinkedHashMap<>();
+            for (int i = 0; i < names.size(); i++) {
+                results.put(names.get(i), runs.get(i).join());
+                elapsedNanos.put(names.get(i), elapsed[i]);
+            }
+            return new Comparison(workload, results, elapsedNanos);
+        });
+    }
+}
@@ -0,0 +1,149 @@
+// File: scheduler/comparison/QuantumStats.java
+
+package scheduler.comparison;
+
+import scheduler.models.ResultTable;
+
+import java.util.Arrays;
+
+/**
+ * Summary of one Round Robin run with a particular time quantum.
+ */
+public class QuantumStats {
+    private final int quantum; // Time quantum of the run
+    private final long contextSwitches; // Switches between different processes
+    private final double averageWaitingTime; // Mean waiting time
+    private final long p50WaitingTime; // Waiting time percentiles
+    private final long p90WaitingTime;
+    private final long p99WaitingTime;
+    private final double averageTurnaroundTime; // Mean turnaround time
+    private final long p50TurnaroundTime; // Turnaround time percentiles
+    private final long p90TurnaroundTime;
+    private final long p99TurnaroundTime;
+
+    /**
+     * Constructor for QuantumStats; summarizes the results of one run.
+     *
+     * @param quantum         Time quantum of the run.
+     * @param results         Results of the run.
+     * @param contextSwitches Number of context switches in the run.
+     */
+    QuantumStats(int quantum, ResultTable results, long contextSwitches) {
+        int count = results.size();
+        long[] waiting = new long[count];
+        long[] turnaround = new long[count];
+        for (int row = 0; row < count; row++) {
+            waiting[row] = results.getWaitingTime(row);
+            turnaround[row] = results.getTurnaroundTime(row);
+        }
+        Arrays.sort(waiting);
+        Arrays.sort(turnaround);
+
+        this.quantum = quantum;
+        this.contextSwitches = contextSwitches;
+        this.averageWaitingTime = results.getAverageWaitingTime();
+        this.p50WaitingTime = percentile(waiting, 0.50);
+        this.p90WaitingTime = percentile(waiting, 0.90);
+        this.p99WaitingTime = percentile(waiting, 0.99);
+        this.averageTurnaroundTime = results.getAverageTurnaroundTime();
+        this.p50TurnaroundTime = percentile(turnaround, 0.50);
+        this.p90TurnaroundTime = percentile(turnaround, 0.90);
+        this.p99TurnaroundTime = percentile(turnaround, 0.99);
+    }
+
+    /**
+     * Nearest-rank percentile of sorted values.
+     *
+     * @param sorted   Values in ascending order.
+     * @param fraction Percentile as a fraction in (0, 1].
+     * @return The percentile, or 0 if there are no values.
+     */
+    private static long percentile(long[] sorted, double fraction) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(fraction * sorted.length);
+        return sorted[Math.max(0, rank - 1)];
+    }
+
+    // ----------- Getters -----------
+
+    /**
+     * @return Time quantum of the run.
+     */
+    public int getQuantum() {
+        return quantum;
+    }
+
+    /**
+     * @return Number of switches between different processes.
+     */
+    public long getContextSwitches() {
+        return contextSwitches;
+    }
+
+    /**
+     * @return Average waiting time.
+     */
+    public double getAverageWaitingTime() {
+        return averageWaitingTime;
+    }
+
+    /**
+     * @return Median waiting time.
+     */
+    public long getP50WaitingTime() {
+        return p50WaitingTime;
+    }
+
+    /**
+     * @return 90th percentile waiting time.
+     */
+    public long getP90WaitingTime() {
+        return p90WaitingTime;
+    }
+
+    /**
+     * @return 99th percentile waiting time.
+     */
+    public long getP99WaitingTime() {
+        return p99WaitingTime;
+    }
+
+    /**
+     * @return Average turnaround time.
+     */
+    public double getAverageTurnaroundTime() {
+        return averageTurnaroundTime;
+    }
+
+    /**
+     * @return Median turnaround time.
+     */
+    public long getP50TurnaroundTime() {
+        return p50TurnaroundTime;
+    }
+
+    /**
+     * @return 90th percentile turnaround time.
+     */
+    public long getP90TurnaroundTime() {
+        return p90TurnaroundTime;
+    }
+
+    /**
+     * @return 99th percentile turnaround time.
+     */
+    public long getP99TurnaroundTime() {
+        return p99TurnaroundTime;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+                "QuantumStats{quantum=%d, avgWaiting=%.2f, p50Waiting=%d, p90Waiting=%d, p99Waiting=%d, "
+                        + "avgTurnaround=%.2f, p50Turnaround=%d, p90Turnaround=%d, p99Turnaround=%d, contextSwitches=%d}",
+                quantum, averageWaitingTime, p50WaitingTime, p90WaitingTime, p99WaitingTime,
+                averageTurnaroundTime, p50TurnaroundTime, p90TurnaroundTime, p99TurnaroundTime, contextSwitches);
+    }
+}
@@ -0,0 +1,103 @@
+// File: scheduler/comparison/QuantumSweep.java
+
+package scheduler.comparison;
+
+import scheduler.algorithms.RR;
+import scheduler.models.ResultTable;
+import scheduler.models.WorkloadSnapshot;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Evaluates Round Robin over a range of time quanta in parallel and recommends the best one.
+ * Every run reads the same immutable {@link WorkloadSnapshot} and writes its own {@link ResultTable}.
+ */
+public class QuantumSweep {
+    private final ForkJoinPool pool; // Pool the runs execute on
+    private final List<QuantumStats> stats = new ArrayList<>(); // Results of the last sweep, by quantum
+
+    /**
+     * Constructor for a QuantumSweep running on the common fork-join pool.
+     */
+    public QuantumSweep() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructor for a QuantumSweep running on the given pool.
+     *
+     * @param pool Pool the runs execute on.
+     */
+    public QuantumSweep(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Runs Round Robin for every quantum from {@code minQuantum} to {@code maxQuantum} in steps of {@code step}.
+     *
+     * @param workload   The workload to schedule.
+     * @param minQuantum Smallest quantum (at least 1).
+     * @param maxQuantum Largest quantum.
+     * @param step       Distance between consecutive quanta (at least 1).
+     * @return Statistics per quantum, in ascending quantum order.
+     */
+    public List<QuantumStats> run(WorkloadSnapshot workload, int minQuantum, int maxQuantum, int step) {
+        if (minQuantum < 1 || step < 1 || maxQuantum < minQuantum) {
+            throw new IllegalArgumentException("Invalid quantum range " + minQuantum + ".." + maxQuantum + " step " + step);
+        }
+        List<Integer> quanta = new ArrayList<>();
+        for (long quantum = minQuantum; quantum <= maxQuantum; quantum += step) {
+            quanta.add((int) quantum);
+        }
+        return run(workload, quanta);
+    }
+
+    /**
+     * Runs Round Robin once per quantum, all in parallel.
+     *
+     * @param workload The workload to schedule.
+     * @param quanta   Quanta to evaluate (each at least 1).
+     * @return Statistics per quantum, in ascending quantum order.
+     */
+    public List<QuantumStats> run(WorkloadSnapshot workload, List<Integer> quanta) {
+        List<CompletableFuture<QuantumStats>> runs = new ArrayList<>(quanta.size());
+        for (int quantum : quanta) {
+            if (quantum < 1) {
+                throw new IllegalArgumentException("Time quantum must be positive: " + quantum);
+            }
+            runs.add(CompletableFuture.supplyAsync(() -> {
+                ResultTable results = new ResultTable(workload);
+                RR scheduler = new RR(workload, results, quantum);
+                scheduler.schedule();
+                return new QuantumStats(quantum, results, scheduler.getContextSwitches());
+            }, pool));
+        }
+
+        stats.clear();
+        for (CompletableFuture<QuantumStats> run : runs) {
+            stats.add(run.join());
+        }
+        stats.sort(Comparator.comparingInt(QuantumStats::getQuantum));
+        return List.copyOf(stats);
+    }
+
+    /**
+     * Recommends the quantum of the last sweep that minimizes the objective.
+     * Ties go to the run with fewer context switches, then to the larger quantum.
+     *
+     * @param objective Metric to minimize.
+     * @return Statistics of the recommended quantum.
+     * @throws IllegalStateException If no sweep has been run.
+     */
+    public QuantumStats recommend(SweepObjective objective) {
+        return stats.stream()
+                .min(Comparator.comparingDouble(objective::score)
+                        .thenComparingLong(QuantumStats::getContextSwitches)
+                        .thenComparing(Comparator.comparingInt(QuantumStats::getQuantum).reversed()))
+                .orElseThrow(() -> new IllegalStateException("No sweep has been run"));
+    }
+}
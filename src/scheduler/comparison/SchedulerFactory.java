@@ -0,0 +1,22 @@
+// File: scheduler/comparison/SchedulerFactory.java
+
+package scheduler.comparison;
+
+import scheduler.algorithms.Scheduler;
+import scheduler.models.ScheduleResults;
+import scheduler.models.Workload;
+
+/**
+ * Creates a scheduler that reads a workload and writes into the given results.
+ * Typically a constructor reference such as {@code FCFS::new}.
+ */
+@FunctionalInterface
+public interface SchedulerFactory {
+
+    /**
+     * @param workload Read-only processes to schedule.
+     * @param results  Destination for the computed metrics.
+     * @return A new scheduler instance.
+     */
+    Scheduler create(Workload workload, ScheduleResults results);
+}
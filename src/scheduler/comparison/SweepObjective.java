@@ -0,0 +1,35 @@
+// File: scheduler/comparison/SweepObjective.java
+
+package scheduler.comparison;
+
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Metric a {@link QuantumSweep} minimizes when recommending a time quantum.
+ */
+public enum SweepObjective {
+    /** Mean waiting time. */
+    AVERAGE_WAITING_TIME(QuantumStats::getAverageWaitingTime),
+    /** 99th percentile waiting time (tail latency). */
+    P99_WAITING_TIME(stats -> stats.getP99WaitingTime()),
+    /** Mean turnaround time. */
+    AVERAGE_TURNAROUND_TIME(QuantumStats::getAverageTurnaroundTime),
+    /** 99th percentile turnaround time. */
+    P99_TURNAROUND_TIME(stats -> stats.getP99TurnaroundTime()),
+    /** Number of context switches (scheduling overhead). */
+    CONTEXT_SWITCHES(stats -> stats.getContextSwitches());
+
+    private final ToDoubleFunction<QuantumStats> metric; // Lower is better
+
+    SweepObjective(ToDoubleFunction<QuantumStats> metric) {
+        this.metric = metric;
+    }
+
+    /**
+     * @param stats Summary of one run.
+     * @return The run's score under this objective (lower is better).
+     */
+    public double score(QuantumStats stats) {
+        return metric.applyAsDouble(stats);
+    }
+}
@@ -0,0 +1,309 @@
+// File: scheduler/execution/TaskExecutor.java
+
+package scheduler.execution;
+
+import scheduler.algorithms.LocalPolicy;
+import scheduler.models.Process;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Executes real work under one of the scheduling policies instead of simulating it.
+ * <p>
+ * Each submitted task runs on its own virtual thread, but at most {@code workers} tasks hold a
+ * worker slot at any time; the others wait in a ready queue ordered by the policy (FCFS by
+ * submission, SJF by declared cost, Priority by priority value, Round Robin by queue order).
+ * <p>
+ * Preemption is cooperative: a task calls {@link #yieldPoint()} at convenient points. Under
+ * Round Robin it gives up its slot once it has run for the time quantum (in milliseconds) and
+ * another task is waiting; under Priority it gives up its slot when a task with a strictly
+ * higher priority is waiting. FCFS and SJF never preempt, so yield points are free there.
+ * <p>
+ * Measured start, completion and waiting times are reported as {@link Process} objects.
+ */
+public final class TaskExecutor implements AutoCloseable {
+    private static final ThreadLocal<TaskHandle> CURRENT = new ThreadLocal<>(); // Task running on this thread
+
+    private final int workers; // Maximum number of tasks holding a slot at once
+    private final LocalPolicy policy; // Selection rule for the ready queue
+    private final long quantumNanos; // Round Robin time slice (0 for other policies)
+    private final long epochNanos = System.nanoTime(); // Time origin for reported times
+
+    private final ReentrantLock lock = new ReentrantLock(); // Guards all fields below
+    private final Condition idle = lock.newCondition(); // Signalled when no task is queued or running
+    private final PriorityQueue<TaskHandle> ready; // Tasks waiting for a slot
+    private final List<TaskHandle> finished = new ArrayList<>(); // Tasks that have completed
+    private long nextSequence; // Next ready-queue sequence number
+    private int running; // Tasks currently holding a slot
+    private int outstanding; // Tasks submitted but not finished
+    private boolean closed; // True once no more tasks are accepted
+
+    /**
+     * Constructor for TaskExecutor.
+     *
+     * @param workers Maximum number of tasks running at once.
+     * @param policy  Selection rule for waiting tasks; a Round Robin quantum is in milliseconds.
+     */
+    public TaskExecutor(int workers, LocalPolicy policy) {
+        if (workers < 1) {
+            throw new IllegalArgumentException("At least one worker is required: " + workers);
+        }
+        this.workers = workers;
+        this.policy = policy;
+        this.quantumNanos = policy.getTimeQuantum() * 1_000_000L;
+        this.ready = new PriorityQueue<>(comparator(policy.getKind()));
+    }
+
+    /**
+     * Builds the ready-queue order for a policy. Ties go to the task that entered the queue first.
+     *
+     * @param kind Selection rule.
+     * @return Ordering of waiting tasks.
+     */
+    private static Comparator<TaskHandle> comparator(LocalPolicy.Kind kind) {
+        Comparator<TaskHandle> bySequence = Comparator.comparingLong(task -> task.sequence);
+        return switch (kind) {
+            case FCFS, ROUND_ROBIN -> bySequence;
+            case SJF -> Comparator.<TaskHandle>comparingInt(task -> task.cost).thenComparing(bySequence);
+            case PRIORITY -> Comparator.<TaskHandle>comparingInt(task -> task.priority).thenComparing(bySequence);
+        };
+    }
+
+    /**
+     * Submits a task.
+     *
+     * @param name     Identifier for the task.
+     * @param cost     Declared or estimated cost, used by SJF.
+     * @param priority Priority of the task (lower value indicates higher priority).
+     * @param body     The work to run.
+     * @return Handle reporting the task's measured times.
+     * @throws IllegalStateException If the executor has been closed.
+     */
+    public TaskHandle submit(String name, int cost, int priority, Runnable body) {
+        lock.lock();
+        try {
+            if (closed) {
+                throw new IllegalStateException("No tasks are accepted after close()");
+            }
+            TaskHandle task = new TaskHandle(this, name, cost, priority, body);
+            task.submitNanos = System.nanoTime();
+            outstanding++;
+            enqueue(task);
+            dispatch();
+            return task;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Cooperative preemption point for the calling task. Does nothing when called outside a task
+     * or when the policy does not require the task to give up its slot; otherwise the task is
+     * re-queued and this call blocks until it is dispatched again.
+     */
+    public static void yieldPoint() {
+        TaskHandle task = CURRENT.get();
+        if (task != null) {
+            task.executor.yieldIfRequired(task);
+        }
+    }
+
+    /**
+     * Re-queues a running task if the policy says another task should take its slot.
+     *
+     * @param task The calling task.
+     */
+    private void yieldIfRequired(TaskHandle task) {
+        LocalPolicy.Kind kind = policy.getKind();
+        if (kind == LocalPolicy.Kind.FCFS || kind == LocalPolicy.Kind.SJF) {
+            return;
+        }
+
+        lock.lock();
+        try {
+            TaskHandle next = ready.peek();
+            long now = System.nanoTime();
+            boolean yield = next != null && (kind == LocalPolicy.Kind.ROUND_ROBIN
+                    ? now - task.sliceStartNanos >= quantumNanos
+                    : next.priority < task.priority);
+            if (!yield) {
+                return;
+            }
+            task.runNanos += now - task.sliceStartNanos;
+            task.preemptions++;
+            running--;
+            enqueue(task);
+            dispatch();
+        } finally {
+            lock.unlock();
+        }
+
+        // Wait outside the lock; the permit may already be available if the task was re-dispatched at once.
+        task.resume.acquireUninterruptibly();
+    }
+
+    /**
+     * Adds a task to the back of its position in the ready queue. Must hold the lock.
+     *
+     * @param task Task to queue.
+     */
+    private void enqueue(TaskHandle task) {
+        task.sequence = nextSequence++;
+        ready.add(task);
+    }
+
+    /**
+     * Hands free slots to the best waiting tasks, starting a virtual thread for tasks that have
+     * not run yet and waking yielded ones. Must hold the lock.
+     */
+    private void dispatch() {
+        while (running < workers && !ready.isEmpty()) {
+            TaskHandle task = ready.poll();
+            running++;
+            task.sliceStartNanos = System.nanoTime();
+            if (!task.started) {
+                task.started = true;
+                task.startNanos = task.sliceStartNanos;
+                Thread.ofVirtual().name("task-" + task.name).start(() -> run(task));
+            } else {
+                task.resume.release();
+            }
+        }
+    }
+
+    /**
+     * Body of a task's virtual thread: runs the work, then frees its slot.
+     *
+     * @param task Task to run.
+     */
+    private void run(TaskHandle task) {
+        Throwable failure = null;
+        CURRENT.set(task);
+        try {
+            task.body.run();
+        } catch (Throwable t) {
+            failure = t;
+        } finally {
+            CURRENT.remove();
+        }
+
+        lock.lock();
+        try {
+            long now = System.nanoTime();
+            task.runNanos += now - task.sliceStartNanos;
+            task.completionNanos = now;
+            finished.add(task);
+            running--;
+            outstanding--;
+            dispatch();
+            if (outstanding == 0) {
+                idle.signalAll();
+            }
+        } finally {
+            lock.unlock();
+        }
+        task.finish(failure);
+    }
+
+    /**
+     * Blocks until every submitted task has finished.
+     *
+     * @throws InterruptedException If the calling thread is interrupted while waiting.
+     */
+    public void awaitIdle() throws InterruptedException {
+        lock.lock();
+        try {
+            while (outstanding > 0) {
+                idle.await();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return Measured times of every finished task, in completion order.
+     */
+    public List<Process> getCompletedProcesses() {
+        lock.lock();
+        try {
+            List<Process> processes = new ArrayList<>(finished.size());
+            for (TaskHandle task : finished) {
+                processes.add(task.toProcess());
+            }
+            return processes;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return Total number of times tasks gave up their slot at a yield point.
+     */
+    public long getPreemptions() {
+        lock.lock();
+        try {
+            long preemptions = 0;
+            for (TaskHandle task : finished) {
+                preemptions += task.preemptions;
+            }
+            return preemptions;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return Maximum number of tasks running at once.
+     */
+    public int getWorkers() {
+        return workers;
+    }
+
+    /**
+     * @return Selection rule for waiting tasks.
+     */
+    public LocalPolicy getPolicy() {
+        return policy;
+    }
+
+    /**
+     * Converts a {@link System#nanoTime()} reading into milliseconds since the executor was created.
+     *
+     * @param nanos A nanoTime reading.
+     * @return Milliseconds since the executor was created.
+     */
+    int toMillis(long nanos) {
+        return Math.toIntExact((nanos - epochNanos) / 1_000_000);
+    }
+
+    /**
+     * Stops accepting tasks and waits for the submitted ones to finish.
+     */
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            closed = true;
+        } finally {
+            lock.unlock();
+        }
+        boolean interrupted = false;
+        while (true) {
+            try {
+                awaitIdle();
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
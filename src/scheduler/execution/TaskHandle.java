@@ -0,0 +1,113 @@
+// File: scheduler/execution/TaskHandle.java
+
+package scheduler.execution;
+
+import scheduler.models.Process;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+
+/**
+ * A task submitted to a {@link TaskExecutor}, with the times measured while it ran.
+ * <p>
+ * All times are in milliseconds since the executor was created. They are recorded by the
+ * executor under its lock; once {@link #completion()} has completed they no longer change.
+ */
+public final class TaskHandle {
+    final TaskExecutor executor; // Executor running this task
+    final String name; // Identifier for the task
+    final int cost; // Declared or estimated cost (SJF key)
+    final int priority; // Priority of the task (lower value indicates higher priority)
+    final Runnable body; // The work itself
+    final Semaphore resume = new Semaphore(0); // Released when a yielded task is dispatched again
+    private final CompletableFuture<Process> completion = new CompletableFuture<>(); // Measured times, once finished
+
+    long sequence; // Order in which the task last entered the ready queue
+    boolean started; // True once the task's virtual thread has been started
+    long submitNanos; // Time the task was submitted
+    long startNanos; // Time the task was first dispatched
+    long sliceStartNanos; // Time the current slice was dispatched
+    long runNanos; // Time spent holding a worker slot
+    long completionNanos; // Time the task finished
+    int preemptions; // Number of times the task yielded its slot
+
+    /**
+     * Constructor for TaskHandle.
+     *
+     * @param executor Executor running this task.
+     * @param name     Identifier for the task.
+     * @param cost     Declared or estimated cost.
+     * @param priority Priority of the task (lower value indicates higher priority).
+     * @param body     The work itself.
+     */
+    TaskHandle(TaskExecutor executor, String name, int cost, int priority, Runnable body) {
+        this.executor = executor;
+        this.name = name;
+        this.cost = cost;
+        this.priority = priority;
+        this.body = body;
+    }
+
+    /**
+     * @return Identifier for the task.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return Declared or estimated cost of the task.
+     */
+    public int getCost() {
+        return cost;
+    }
+
+    /**
+     * @return Priority of the task.
+     */
+    public int getPriority() {
+        return priority;
+    }
+
+    /**
+     * @return Future completed with the task's measured times when it finishes, or completed
+     * exceptionally with whatever the task threw.
+     */
+    public CompletableFuture<Process> completion() {
+        return completion;
+    }
+
+    /**
+     * Completes the future once the task has finished.
+     *
+     * @param failure Exception thrown by the task, or null if it returned normally.
+     */
+    void finish(Throwable failure) {
+        if (failure == null) {
+            completion.complete(toProcess());
+        } else {
+            completion.completeExceptionally(failure);
+        }
+    }
+
+    /**
+     * Converts the measured times into a {@link Process}: arrival is the submission time, burst is
+     * the time spent holding a worker slot, and start, completion, turnaround and waiting time follow
+     * the same definitions as the simulated schedulers.
+     *
+     * @return A new process with the measured times, in milliseconds since the executor was created.
+     */
+    public Process toProcess() {
+        int arrival = executor.toMillis(submitNanos);
+        int burst = Math.toIntExact(runNanos / 1_000_000);
+        int completionTime = executor.toMillis(completionNanos);
+
+        Process process = new Process(name, arrival, burst, priority);
+        process.setRemainingTime(0);
+        process.setStartTime(executor.toMillis(startNanos));
+        process.setCompletionTime(completionTime);
+        process.setTurnaroundTime(completionTime - arrival);
+        process.setWaitingTime(Math.max(0, completionTime - arrival - burst));
+        return process;
+    }
+}
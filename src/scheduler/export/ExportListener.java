@@ -0,0 +1,16 @@
+// File: scheduler/export/ExportListener.java
+
+package scheduler.export;
+
+/**
+ * Receives progress reports from a running export. Reports come from the exporting thread, in
+ * increasing order, and end with {@code done == total}.
+ */
+@FunctionalInterface
+public interface ExportListener {
+    /**
+     * @param done  Units of work finished so far.
+     * @param total Units of work in the whole export.
+     */
+    void progress(long done, long total);
+}
@@ -0,0 +1,182 @@
+// File: scheduler/export/PngStreamWriter.java
+
+package scheduler.export;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+/**
+ * Minimal streaming PNG encoder for 8-bit RGB images. Rows are compressed as they are written and
+ * emitted as a sequence of IDAT chunks, so an image of any height is encoded with memory for a
+ * single scanline plus the deflater's window.
+ * <p>
+ * Each row uses the PNG "Sub" filter, which turns the long runs of one color in a chart into runs
+ * of zeros that compress very well.
+ */
+final class PngStreamWriter {
+    private static final byte[] SIGNATURE = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+    private static final int CHUNK_SIZE = 1 << 16; // Largest IDAT chunk emitted
+
+    private final DataOutputStream out; // Destination of the encoded file
+    private final int width; // Image width in pixels
+    private final int height; // Image height in pixels
+    private final byte[] line; // Filter byte plus the filtered RGB bytes of one row
+    private final Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION);
+    private final IdatOutputStream idat = new IdatOutputStream(); // Cuts compressed data into IDAT chunks
+    private final DeflaterOutputStream compressed; // Compresses rows into the IDAT stream
+    private int rowsWritten; // Rows encoded so far
+
+    /**
+     * Constructor for PngStreamWriter; writes the file signature and header.
+     *
+     * @param out    Destination stream (not closed by this writer).
+     * @param width  Image width in pixels.
+     * @param height Image height in pixels.
+     * @throws IOException If writing fails.
+     */
+    PngStreamWriter(OutputStream out, int width, int height) throws IOException {
+        if (width <= 0 || height <= 0) {
+            throw new IllegalArgumentException("Image size must be positive: " + width + "x" + height);
+        }
+        this.out = new DataOutputStream(out);
+        this.width = width;
+        this.height = height;
+        this.line = new byte[1 + 3 * width];
+        this.compressed = new DeflaterOutputStream(idat, deflater, CHUNK_SIZE);
+
+        this.out.write(SIGNATURE);
+        byte[] header = new byte[13];
+        putInt(header, 0, width);
+        putInt(header, 4, height);
+        header[8] = 8; // Bit depth
+        header[9] = 2; // Color type: RGB
+        // Compression, filter and interlace methods are all 0
+        writeChunk("IHDR", header, header.length);
+    }
+
+    /**
+     * Encodes the next rows of the image.
+     *
+     * @param pixels RGB pixels ({@code 0xRRGGBB}), row after row, each row {@code width} pixels long.
+     * @param rows   Number of rows to take from the start of {@code pixels}.
+     * @throws IOException If writing fails.
+     */
+    void writeRows(int[] pixels, int rows) throws IOException {
+        if (rowsWritten + rows > height) {
+            throw new IllegalStateException("Image has only " + height + " rows");
+        }
+        for (int row = 0; row < rows; row++) {
+            int offset = row * width;
+            line[0] = 1; // Sub filter: each byte minus the same channel of the pixel to its left
+            int previous = 0;
+            for (int x = 0; x < width; x++) {
+                int rgb = pixels[offset + x];
+                int i = 1 + 3 * x;
+                line[i] = (byte) ((rgb >> 16) - (previous >> 16));
+                line[i + 1] = (byte) ((rgb >> 8) - (previous >> 8));
+                line[i + 2] = (byte) (rgb - previous);
+                previous = rgb;
+            }
+            compressed.write(line);
+        }
+        rowsWritten += rows;
+    }
+
+    /**
+     * Flushes the compressed data and writes the end of the file.
+     *
+     * @throws IOException If writing fails.
+     * @throws IllegalStateException If fewer rows than the image height were written.
+     */
+    void finish() throws IOException {
+        if (rowsWritten != height) {
+            throw new IllegalStateException("Only " + rowsWritten + " of " + height + " rows were written");
+        }
+        compressed.finish();
+        deflater.end();
+        idat.flush();
+        writeChunk("IEND", new byte[0], 0);
+        out.flush();
+    }
+
+    /**
+     * Writes one chunk: length, type, data and the CRC of type and data.
+     *
+     * @param type   Four-letter chunk type.
+     * @param data   Chunk data.
+     * @param length Number of bytes of {@code data} to write.
+     * @throws IOException If writing fails.
+     */
+    private void writeChunk(String type, byte[] data, int length) throws IOException {
+        byte[] typeBytes = type.getBytes(StandardCharsets.US_ASCII);
+        CRC32 crc = new CRC32();
+        crc.update(typeBytes);
+        crc.update(data, 0, length);
+        out.writeInt(length);
+        out.write(typeBytes);
+        out.write(data, 0, length);
+        out.writeInt((int) crc.getValue());
+    }
+
+    /**
+     * Stores a big-endian int.
+     *
+     * @param buffer Destination array.
+     * @param offset Position of the first byte.
+     * @param value  Value to store.
+     */
+    private static void putInt(byte[] buffer, int offset, int value) {
+        buffer[offset] = (byte) (value >>> 24);
+        buffer[offset + 1] = (byte) (value >>> 16);
+        buffer[offset + 2] = (byte) (value >>> 8);
+        buffer[offset + 3] = (byte) value;
+    }
+
+    /**
+     * Collects compressed bytes and writes them out as IDAT chunks of at most {@link #CHUNK_SIZE} bytes.
+     */
+    private final class IdatOutputStream extends OutputStream {
+        private final byte[] buffer = new byte[CHUNK_SIZE]; // Pending chunk data
+        private int size; // Bytes pending in the buffer
+
+        @Override
+        public void write(int b) throws IOException {
+            buffer[size++] = (byte) b;
+            if (size == CHUNK_SIZE) {
+                flush();
+            }
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            while (length > 0) {
+                int count = Math.min(length, CHUNK_SIZE - size);
+                System.arraycopy(bytes, offset, buffer, size, count);
+                size += count;
+                offset += count;
+                length -= count;
+                if (size == CHUNK_SIZE) {
+                    flush();
+                }
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            if (size > 0) {
+                writeChunk("IDAT", buffer, size);
+                size = 0;
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
+    }
+}
@@ -0,0 +1,478 @@
+// File: scheduler/export/TimelineExporter.java
+
+package scheduler.export;
+
+import scheduler.models.LaneIndex;
+import scheduler.models.Process;
+import scheduler.models.SegmentLog;
+
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntFunction;
+
+/**
+ * Writes a complete Gantt timeline (one lane per process, one bar per execution segment) to a PNG or
+ * SVG file, independently of what is on screen.
+ * <p>
+ * The PNG is rendered in horizontal bands of at most {@value #MAX_BAND_PIXELS} pixels, each band
+ * encoded and discarded before the next is drawn, and the SVG is written lane by lane; neither holds
+ * the whole image in memory. Both merge segments that fall into the same pixel column, so the output
+ * size grows with the image, not with the number of segments. Exports use no JavaFX classes and are
+ * meant to run on a background thread: they report progress to an {@link ExportListener} and stop
+ * with an {@link InterruptedIOException} when the thread is interrupted.
+ */
+public final class TimelineExporter {
+    private static final int GUTTER_WIDTH = 90; // Width of the lane-label column
+    private static final int AXIS_HEIGHT = 24; // Height of the time axis
+    private static final int RIGHT_MARGIN = 20; // Blank space after the last segment
+    private static final int LABEL_LANE_HEIGHT = 12; // Smallest lane height that still gets a label
+    private static final int DEFAULT_PLOT_WIDTH = 8192; // Widest plot chosen by the default scale
+    private static final double DEFAULT_MAX_SCALE = 10; // Pixels per time unit for short schedules
+    private static final int MAX_WIDTH = 1 << 20; // Widest image that can be exported
+    private static final int MAX_BAND_PIXELS = 1 << 22; // Pixels rendered at once (16 MB)
+    private static final int PROGRESS_LANES = 1024; // Lanes written between SVG progress reports
+
+    /**
+     * Receives the pixel runs of one lane.
+     */
+    @FunctionalInterface
+    private interface RunVisitor {
+        /**
+         * @param x0 First pixel column of the run.
+         * @param x1 Pixel column after the run.
+         * @throws IOException If writing the run fails.
+         */
+        void visit(int x0, int x1) throws IOException;
+    }
+
+    private final int lanes; // Number of lanes
+    private final IntFunction<String> laneNames; // Label of each lane
+    private final LaneIndex index; // Segments grouped by lane
+    private final String[] colors; // Lane colors in hex format, cycled across lanes
+    private final Color[] awtColors; // The same colors for raster rendering
+    private double scale; // Pixels per time unit
+    private int laneHeight = 18; // Height of one lane in pixels
+
+    /**
+     * Constructor for TimelineExporter over a list of processes, as shown by {@code GanttChart}.
+     *
+     * @param processes List of processes with scheduling details.
+     * @param segments  Execution segments whose rows index the process list (null: start to completion).
+     * @param colors    Lane colors in hex format, cycled across lanes.
+     */
+    public TimelineExporter(List<Process> processes, SegmentLog segments, String[] colors) {
+        this(processes.size(), row -> processes.get(row).getName(),
+                segments != null ? segments : spans(processes), colors);
+    }
+
+    /**
+     * Constructor for TimelineExporter over any row-indexed segments.
+     *
+     * @param lanes     Number of lanes.
+     * @param laneNames Label of each lane.
+     * @param segments  Execution segments whose rows are lane indices.
+     * @param colors    Lane colors in hex format, cycled across lanes.
+     */
+    public TimelineExporter(int lanes, IntFunction<String> laneNames, SegmentLog segments, String[] colors) {
+        if (colors.length == 0) {
+            throw new IllegalArgumentException("At least one lane color is required");
+        }
+        this.lanes = lanes;
+        this.laneNames = laneNames;
+        this.index = new LaneIndex(segments, lanes);
+        this.colors = colors.clone();
+        this.awtColors = new Color[colors.length];
+        for (int i = 0; i < colors.length; i++) {
+            awtColors[i] = Color.decode(colors[i]);
+        }
+        long endTime = Math.max(1, index.getEndTime());
+        this.scale = Math.min(DEFAULT_MAX_SCALE, (double) DEFAULT_PLOT_WIDTH / endTime);
+    }
+
+    /**
+     * Sets the horizontal scale. Segments shorter than a pixel are merged with their neighbors.
+     *
+     * @param pixelsPerTimeUnit Width of one time unit in pixels.
+     * @return This exporter.
+     * @throws IllegalArgumentException If the scale is not positive or makes the image too wide.
+     */
+    public TimelineExporter setScale(double pixelsPerTimeUnit) {
+        if (!(pixelsPerTimeUnit > 0)) {
+            throw new IllegalArgumentException("Scale must be positive: " + pixelsPerTimeUnit);
+        }
+        if (GUTTER_WIDTH + Math.ceil(index.getEndTime() * pixelsPerTimeUnit) + RIGHT_MARGIN > MAX_WIDTH) {
+            throw new IllegalArgumentException("Scale " + pixelsPerTimeUnit + " makes the image wider than "
+                    + MAX_WIDTH + " pixels");
+        }
+        this.scale = pixelsPerTimeUnit;
+        return this;
+    }
+
+    /**
+     * Sets the height of each lane. Lanes lower than {@value #LABEL_LANE_HEIGHT} pixels get no label.
+     *
+     * @param laneHeight Height of one lane in pixels.
+     * @return This exporter.
+     * @throws IllegalArgumentException If the height is not positive.
+     */
+    public TimelineExporter setLaneHeight(int laneHeight) {
+        if (laneHeight <= 0) {
+            throw new IllegalArgumentException("Lane height must be positive: " + laneHeight);
+        }
+        this.laneHeight = laneHeight;
+        return this;
+    }
+
+    /**
+     * @return Width of the exported image in pixels.
+     */
+    public int getWidth() {
+        return GUTTER_WIDTH + (int) Math.ceil(index.getEndTime() * scale) + RIGHT_MARGIN;
+    }
+
+    /**
+     * @return Height of the exported image in pixels.
+     * @throws IllegalStateException If the lanes do not fit in an image at the current lane height.
+     */
+    public int getHeight() {
+        long height = AXIS_HEIGHT + (long) lanes * laneHeight;
+        if (height > Integer.MAX_VALUE) {
+            throw new IllegalStateException(lanes + " lanes of " + laneHeight + " pixels do not fit in one image");
+        }
+        return (int) height;
+    }
+
+    /**
+     * Renders the timeline band by band and streams it into a PNG file.
+     *
+     * @param path     Destination file (replaced if it exists; deleted again if the export fails).
+     * @param listener Receives the number of bands written so far, or null.
+     * @throws IOException If writing fails or the thread is interrupted.
+     */
+    public void writePng(Path path, ExportListener listener) throws IOException {
+        int width = getWidth();
+        int height = getHeight();
+        int bandHeight = Math.max(1, Math.min(height, MAX_BAND_PIXELS / width));
+        int bands = (height + bandHeight - 1) / bandHeight;
+
+        BufferedImage band = new BufferedImage(width, bandHeight, BufferedImage.TYPE_INT_RGB);
+        int[] pixels = ((DataBufferInt) band.getRaster().getDataBuffer()).getData();
+        Graphics2D g = band.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+        g.setFont(new Font("Arial", Font.PLAIN, 11));
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(path), 1 << 16)) {
+            PngStreamWriter png = new PngStreamWriter(out, width, height);
+            for (int i = 0; i < bands; i++) {
+                checkInterrupted();
+                int top = i * bandHeight;
+                drawBand(g, top, width, bandHeight);
+                png.writeRows(pixels, Math.min(bandHeight, height - top));
+                report(listener, i + 1, bands);
+            }
+            png.finish();
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(path);
+            throw e;
+        } finally {
+            g.dispose();
+        }
+    }
+
+    /**
+     * Writes the timeline as an SVG file, one path per lane.
+     *
+     * @param path     Destination file (replaced if it exists; deleted again if the export fails).
+     * @param listener Receives the number of lanes written so far (bars, then labels), or null.
+     * @throws IOException If writing fails or the thread is interrupted.
+     */
+    public void writeSvg(Path path, ExportListener listener) throws IOException {
+        int width = getWidth();
+        int height = getHeight();
+        long total = 2L * lanes + 1;
+        StringBuilder d = new StringBuilder(); // Path data of the current lane
+        try (Writer out = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            // Step 1: Header, background, time axis and gutter line.
+            out.write("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
+            out.write("<svg xmlns=\"http://www.w3.org/2000/svg\" width=\"" + width + "\" height=\"" + height
+                    + "\" viewBox=\"0 0 " + width + " " + height + "\" font-family=\"Arial\" font-size=\"11\">\n");
+            out.write("<rect width=\"" + width + "\" height=\"" + height + "\" fill=\"white\"/>\n");
+            out.write("<g stroke=\"gray\">\n");
+            out.write(line(GUTTER_WIDTH, AXIS_HEIGHT, GUTTER_WIDTH, height));
+            long step = tickStep();
+            for (long tick = 0; xOf(tick) < width; tick += step) {
+                out.write(line((int) Math.round(xOf(tick)), AXIS_HEIGHT - 5, (int) Math.round(xOf(tick)), AXIS_HEIGHT));
+            }
+            out.write("</g>\n<g text-anchor=\"middle\" dominant-baseline=\"central\">\n");
+            for (long tick = 0; xOf(tick) < width; tick += step) {
+                out.write("<text x=\"" + Math.round(xOf(tick)) + "\" y=\"" + AXIS_HEIGHT / 2 + "\">"
+                        + tick + "</text>\n");
+            }
+            out.write("</g>\n");
+            report(listener, 1, total);
+
+            // Step 2: One path per lane holding all of its merged bars.
+            int barHeight = barHeight();
+            for (int lane = 0; lane < lanes; lane++) {
+                if (lane % PROGRESS_LANES == 0) {
+                    checkInterrupted();
+                    report(listener, 1 + lane, total);
+                }
+                int y = laneTop(lane) + (laneHeight - barHeight) / 2;
+                d.setLength(0);
+                forEachRun(lane, (x0, x1) -> d.append('M').append(x0).append(' ').append(y)
+                        .append('h').append(x1 - x0).append('v').append(barHeight)
+                        .append('h').append(x0 - x1).append('z'));
+                if (!d.isEmpty()) {
+                    out.write("<path fill=\"" + colors[lane % colors.length] + "\" d=\"");
+                    out.append(d);
+                    out.write("\"/>\n");
+                }
+            }
+
+            // Step 3: Lane labels, clipped to the gutter.
+            if (laneHeight >= LABEL_LANE_HEIGHT) {
+                out.write("<clipPath id=\"gutter\"><rect width=\"" + (GUTTER_WIDTH - 2) + "\" height=\"" + height
+                        + "\"/></clipPath>\n");
+                out.write("<g clip-path=\"url(#gutter)\" text-anchor=\"end\" dominant-baseline=\"central\">\n");
+                for (int lane = 0; lane < lanes; lane++) {
+                    if (lane % PROGRESS_LANES == 0) {
+                        checkInterrupted();
+                        report(listener, 1 + lanes + lane, total);
+                    }
+                    out.write("<text x=\"" + (GUTTER_WIDTH - 6) + "\" y=\"" + (laneTop(lane) + laneHeight / 2) + "\">"
+                            + escapeXml(laneNames.apply(lane)) + "</text>\n");
+                }
+                out.write("</g>\n");
+            }
+            out.write("</svg>\n");
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(path);
+            throw e;
+        }
+        report(listener, total, total);
+    }
+
+    /**
+     * Draws the horizontal band of the image starting at a given row into the band image.
+     *
+     * @param g          Graphics of the band image.
+     * @param top        Image row at the top of the band.
+     * @param width      Width of the image.
+     * @param bandHeight Height of the band image.
+     * @throws IOException Never; declared by the run visitor.
+     */
+    private void drawBand(Graphics2D g, int top, int width, int bandHeight) throws IOException {
+        g.setColor(Color.WHITE);
+        g.fillRect(0, 0, width, bandHeight);
+        g.translate(0, -top);
+        try {
+            // Step 1: Time axis, if the band reaches it.
+            FontMetrics metrics = g.getFontMetrics();
+            int textOffset = (metrics.getAscent() - metrics.getDescent()) / 2; // Baseline below the center
+            if (top < AXIS_HEIGHT) {
+                long step = tickStep();
+                for (long tick = 0; xOf(tick) < width; tick += step) {
+                    int x = (int) Math.round(xOf(tick));
+                    String text = String.valueOf(tick);
+                    g.setColor(Color.GRAY);
+                    g.drawLine(x, AXIS_HEIGHT - 5, x, AXIS_HEIGHT);
+                    g.setColor(Color.BLACK);
+                    g.drawString(text, x - metrics.stringWidth(text) / 2, AXIS_HEIGHT / 2 + textOffset);
+                }
+            }
+
+            // Step 2: The lanes crossing the band.
+            int bottom = top + bandHeight;
+            if (bottom <= AXIS_HEIGHT || lanes == 0) {
+                return;
+            }
+            int firstLane = Math.max(0, (top - AXIS_HEIGHT) / laneHeight);
+            int lastLane = Math.min(lanes - 1, (bottom - 1 - AXIS_HEIGHT) / laneHeight);
+            int barHeight = barHeight();
+            for (int lane = firstLane; lane <= lastLane; lane++) {
+                int y = laneTop(lane) + (laneHeight - barHeight) / 2;
+                g.setColor(awtColors[lane % awtColors.length]);
+                forEachRun(lane, (x0, x1) -> g.fillRect(x0, y, x1 - x0, barHeight));
+            }
+            g.setColor(Color.GRAY);
+            g.drawLine(GUTTER_WIDTH, Math.max(top, AXIS_HEIGHT), GUTTER_WIDTH, bottom);
+
+            // Step 3: Lane labels, right-aligned and clipped to the gutter.
+            if (laneHeight >= LABEL_LANE_HEIGHT) {
+                g.setColor(Color.BLACK);
+                g.clipRect(0, top, GUTTER_WIDTH - 2, bandHeight);
+                for (int lane = firstLane; lane <= lastLane; lane++) {
+                    String name = laneNames.apply(lane);
+                    g.drawString(name, GUTTER_WIDTH - 6 - metrics.stringWidth(name),
+                            laneTop(lane) + laneHeight / 2 + textOffset);
+                }
+                g.setClip(null);
+            }
+        } finally {
+            g.translate(0, top);
+        }
+    }
+
+    /**
+     * Walks the segments of a lane left to right, merging those that touch or share a pixel column,
+     * so a lane yields at most one run per pixel column no matter how many segments it has.
+     *
+     * @param lane    Lane index.
+     * @param visitor Receives each merged run.
+     * @throws IOException If the visitor fails.
+     */
+    private void forEachRun(int lane, RunVisitor visitor) throws IOException {
+        int end = index.getFirst(lane + 1);
+        int runStart = -1;
+        int runEnd = -1;
+        for (int i = index.getFirst(lane); i < end; i++) {
+            int x0 = (int) Math.floor(xOf(index.getStart(i)));
+            int x1 = Math.max(x0 + 1, (int) Math.ceil(xOf(index.getEnd(i))));
+            if (runStart >= 0 && x0 <= runEnd) {
+                runEnd = Math.max(runEnd, x1);
+                continue;
+            }
+            if (runStart >= 0) {
+                visitor.visit(runStart, runEnd);
+            }
+            runStart = x0;
+            runEnd = x1;
+        }
+        if (runStart >= 0) {
+            visitor.visit(runStart, runEnd);
+        }
+    }
+
+    /**
+     * Picks a tick step of 1, 2 or 5 times a power of ten, about 100 pixels apart.
+     *
+     * @return The tick step in time units.
+     */
+    private long tickStep() {
+        double raw = 100 / scale;
+        double magnitude = Math.pow(10, Math.floor(Math.log10(raw)));
+        double step = raw / magnitude < 2 ? magnitude : raw / magnitude < 5 ? 2 * magnitude : 5 * magnitude;
+        return Math.max(1, (long) step);
+    }
+
+    /**
+     * @param time A time.
+     * @return Horizontal pixel position of the time.
+     */
+    private double xOf(long time) {
+        return GUTTER_WIDTH + time * scale;
+    }
+
+    /**
+     * @param lane Lane index.
+     * @return Image row at the top of the lane.
+     */
+    private int laneTop(int lane) {
+        return AXIS_HEIGHT + lane * laneHeight;
+    }
+
+    /**
+     * @return Height of the bars, leaving a gap between lanes when they are tall enough.
+     */
+    private int barHeight() {
+        return laneHeight >= 4 ? laneHeight - 2 : laneHeight;
+    }
+
+    /**
+     * Formats an SVG line element.
+     *
+     * @param x1 Start column.
+     * @param y1 Start row.
+     * @param x2 End column.
+     * @param y2 End row.
+     * @return The element, with a trailing line break.
+     */
+    private static String line(int x1, int y1, int x2, int y2) {
+        return "<line x1=\"" + x1 + "\" y1=\"" + y1 + "\" x2=\"" + x2 + "\" y2=\"" + y2 + "\"/>\n";
+    }
+
+    /**
+     * Escapes text for use as XML character data.
+     *
+     * @param text Text to escape.
+     * @return The escaped text.
+     */
+    private static String escapeXml(String text) {
+        StringBuilder escaped = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '<' -> escaped.append("&lt;");
+                case '>' -> escaped.append("&gt;");
+                case '&' -> escaped.append("&amp;");
+                case '"' -> escaped.append("&quot;");
+                default -> {
+                    if (c >= 0x20 || c == '\t') {
+                        escaped.append(c);
+                    }
+                }
+            }
+        }
+        return escaped.toString();
+    }
+
+    /**
+     * Sends a progress report if there is a listener.
+     *
+     * @param listener The listener, or null.
+     * @param done     Work finished so far.
+     * @param total    Total work.
+     */
+    private static void report(ExportListener listener, long done, long total) {
+        if (listener != null) {
+            listener.progress(done, total);
+        }
+    }
+
+    /**
+     * Stops the export if the exporting thread has been interrupted (for example, a cancelled task).
+     *
+     * @throws InterruptedIOException If the thread is interrupted.
+     */
+    private static void checkInterrupted() throws InterruptedIOException {
+        if (Thread.currentThread().isInterrupted()) {
+            throw new InterruptedIOException("Export cancelled");
+        }
+    }
+
+    /**
+     * Builds segments running each process from its start to its completion, for schedules recorded
+     * without a segment log.
+     *
+     * @param processes List of processes with scheduling details.
+     * @return One segment per process, appended in start order.
+     */
+    private static SegmentLog spans(List<Process> processes) {
+        long[] order = new long[processes.size()]; // Start time in the high bits, list index in the low bits
+        for (int i = 0; i < order.length; i++) {
+            order[i] = ((long) processes.get(i).getStartTime() << 32) | i;
+        }
+        Arrays.sort(order);
+        SegmentLog segments = new SegmentLog();
+        for (long key : order) {
+            Process process = processes.get((int) key);
+            segments.append((int) key, process.getStartTime(), process.getCompletionTime());
+        }
+        return segments;
+    }
+}
@@ -0,0 +1,149 @@
+// File: scheduler/generator/ArrivalProcess.java
+package scheduler.generator;
+
+import java.util.SplittableRandom;
+
+/**
+ * Distribution of the gaps between consecutive arrivals of a generated workload.
+ * Every gap is drawn independently, so a workload can be generated in blocks on several threads and
+ * the blocks simply placed one after another.
+ */
+public final class ArrivalProcess {
+
+    /**
+     * The kinds of arrival process.
+     */
+    public enum Kind {
+        SIMULTANEOUS, PERIODIC, POISSON, BURSTY
+    }
+
+    private final Kind kind; // Shape of the arrival process
+    private final double meanGap; // Mean gap between arrivals (within a burst for BURSTY)
+    private final double meanBurstLength; // Mean number of arrivals per burst (BURSTY only)
+    private final double meanIdle; // Mean idle time before each burst (BURSTY only)
+
+    /**
+     * Constructor for ArrivalProcess.
+     *
+     * @param kind            Shape of the arrival process.
+     * @param meanGap         Mean gap between arrivals (within a burst for BURSTY).
+     * @param meanBurstLength Mean number of arrivals per burst (BURSTY only).
+     * @param meanIdle        Mean idle time before each burst (BURSTY only).
+     */
+    private ArrivalProcess(Kind kind, double meanGap, double meanBurstLength, double meanIdle) {
+        this.kind = kind;
+        this.meanGap = meanGap;
+        this.meanBurstLength = meanBurstLength;
+        this.meanIdle = meanIdle;
+    }
+
+    /**
+     * @return Every process arrives at time 0.
+     */
+    public static ArrivalProcess simultaneous() {
+        return new ArrivalProcess(Kind.SIMULTANEOUS, 0, 1, 0);
+    }
+
+    /**
+     * @param interval Time between consecutive arrivals.
+     * @return Arrivals at a fixed interval.
+     */
+    public static ArrivalProcess periodic(int interval) {
+        if (interval < 0) {
+            throw new IllegalArgumentException("Interval must not be negative: " + interval);
+        }
+        return new ArrivalProcess(Kind.PERIODIC, interval, 1, 0);
+    }
+
+    /**
+     * @param meanGap Mean time between arrivals (the reciprocal of the arrival rate).
+     * @return A Poisson process: exponentially distributed gaps, rounded to whole time units.
+     */
+    public static ArrivalProcess poisson(double meanGap) {
+        requirePositive(meanGap, "Mean gap");
+        return new ArrivalProcess(Kind.POISSON, meanGap, 1, 0);
+    }
+
+    /**
+     * An on/off process: bursts of arrivals with short exponential gaps, separated by long exponential
+     * idle periods. Each arrival starts a new burst with probability {@code 1 / meanBurstLength}, so
+     * burst lengths are geometric and no state carries from one arrival to the next.
+     *
+     * @param meanBurstLength Mean number of arrivals per burst (at least 1).
+     * @param meanGap         Mean time between arrivals within a burst (0 for simultaneous arrivals).
+     * @param meanIdle        Mean idle time before each burst.
+     * @return The bursty arrival process.
+     */
+    public static ArrivalProcess bursty(double meanBurstLength, double meanGap, double meanIdle) {
+        if (!(meanBurstLength >= 1)) {
+            throw new IllegalArgumentException("Mean burst length must be at least 1: " + meanBurstLength);
+        }
+        if (!(meanGap >= 0)) {
+            throw new IllegalArgumentException("Mean gap must not be negative: " + meanGap);
+        }
+        requirePositive(meanIdle, "Mean idle time");
+        return new ArrivalProcess(Kind.BURSTY, meanGap, meanBurstLength, meanIdle);
+    }
+
+    /**
+     * Draws the gap between the previous arrival and the next one.
+     *
+     * @param random Source of randomness.
+     * @return The gap in whole time units.
+     */
+    int nextGap(SplittableRandom random) {
+        return switch (kind) {
+            case SIMULTANEOUS -> 0;
+            case PERIODIC -> (int) meanGap;
+            case POISSON -> exponential(random, meanGap);
+            case BURSTY -> random.nextDouble() * meanBurstLength < 1
+                    ? exponential(random, meanIdle)
+                    : exponential(random, meanGap);
+        };
+    }
+
+    /**
+     * @return Mean gap between arrivals over the long run.
+     */
+    public double getMeanGap() {
+        return kind == Kind.BURSTY ? (meanIdle + (meanBurstLength - 1) * meanGap) / meanBurstLength : meanGap;
+    }
+
+    /**
+     * @return Shape of the arrival process.
+     */
+    public Kind getKind() {
+        return kind;
+    }
+
+    /**
+     * Draws an exponentially distributed value, rounded to whole time units.
+     *
+     * @param random Source of randomness.
+     * @param mean   Mean of the distribution.
+     * @return The value, capped at {@link Integer#MAX_VALUE}.
+     */
+    static int exponential(SplittableRandom random, double mean) {
+        return (int) Math.min(Integer.MAX_VALUE, Math.round(-mean * Math.log(1 - random.nextDouble())));
+    }
+
+    /**
+     * @param value Parameter value.
+     * @param what  Name of the parameter, for the error message.
+     */
+    static void requirePositive(double value, String what) {
+        if (!(value > 0)) {
+            throw new IllegalArgumentException(what + " must be positive: " + value);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return switch (kind) {
+            case SIMULTANEOUS -> "SIMULTANEOUS";
+            case PERIODIC -> "PERIODIC(interval=" + (int) meanGap + ")";
+            case POISSON -> "POISSON(meanGap=" + meanGap + ")";
+            case BURSTY -> "BURSTY(burst=" + meanBurstLength + ", gap=" + meanGap + ", idle=" + meanIdle + ")";
+        };
+    }
+}
@@ -0,0 +1,127 @@
+// File: scheduler/generator/BurstDistribution.java
+package scheduler.generator;
+
+import java.util.SplittableRandom;
+
+/**
+ * Distribution of the burst (execution) times of a generated workload. Heavy-tailed shapes (Pareto,
+ * lognormal) produce the mix of many short and a few very long jobs seen in real traces, which is where
+ * SJF, SRTF and Round Robin differ most. Every burst is at least 1 and at most the given maximum.
+ */
+public final class BurstDistribution {
+
+    /**
+     * The kinds of burst distribution.
+     */
+    public enum Kind {
+        UNIFORM, EXPONENTIAL, PARETO, LOG_NORMAL
+    }
+
+    private final Kind kind; // Shape of the distribution
+    private final double first; // UNIFORM: minimum; EXPONENTIAL: mean; PARETO: scale; LOG_NORMAL: mu
+    private final double second; // UNIFORM: maximum; PARETO: shape; LOG_NORMAL: sigma
+    private final int max; // Largest burst produced
+
+    /**
+     * Constructor for BurstDistribution.
+     *
+     * @param kind   Shape of the distribution.
+     * @param first  First parameter (see the factory methods).
+     * @param second Second parameter (see the factory methods).
+     * @param max    Largest burst produced.
+     */
+    private BurstDistribution(Kind kind, double first, double second, int max) {
+        if (max < 1) {
+            throw new IllegalArgumentException("Maximum burst must be at least 1: " + max);
+        }
+        this.kind = kind;
+        this.first = first;
+        this.second = second;
+        this.max = max;
+    }
+
+    /**
+     * @param min Smallest burst (at least 1).
+     * @param max Largest burst.
+     * @return Bursts uniform in {@code [min, max]}.
+     */
+    public static BurstDistribution uniform(int min, int max) {
+        if (min < 1 || max < min) {
+            throw new IllegalArgumentException("Invalid burst range: [" + min + ", " + max + "]");
+        }
+        return new BurstDistribution(Kind.UNIFORM, min, max, max);
+    }
+
+    /**
+     * @param mean Mean burst.
+     * @param max  Largest burst.
+     * @return Exponentially distributed bursts.
+     */
+    public static BurstDistribution exponential(double mean, int max) {
+        ArrivalProcess.requirePositive(mean, "Mean burst");
+        return new BurstDistribution(Kind.EXPONENTIAL, mean, 0, max);
+    }
+
+    /**
+     * @param scale Smallest burst of the distribution (x<sub>m</sub>).
+     * @param shape Tail index (alpha); the mean is infinite for 1 or less and the variance for 2 or less.
+     * @param max   Largest burst.
+     * @return Pareto-distributed bursts.
+     */
+    public static BurstDistribution pareto(double scale, double shape, int max) {
+        ArrivalProcess.requirePositive(scale, "Pareto scale");
+        ArrivalProcess.requirePositive(shape, "Pareto shape");
+        return new BurstDistribution(Kind.PARETO, scale, shape, max);
+    }
+
+    /**
+     * @param mu    Mean of the burst's natural logarithm (the median burst is e<sup>mu</sup>).
+     * @param sigma Standard deviation of the burst's natural logarithm.
+     * @param max   Largest burst.
+     * @return Lognormally distributed bursts.
+     */
+    public static BurstDistribution logNormal(double mu, double sigma, int max) {
+        ArrivalProcess.requirePositive(sigma, "Lognormal sigma");
+        return new BurstDistribution(Kind.LOG_NORMAL, mu, sigma, max);
+    }
+
+    /**
+     * Draws one burst.
+     *
+     * @param random Source of randomness.
+     * @return The burst, in {@code [1, max]}.
+     */
+    int sample(SplittableRandom random) {
+        double value = switch (kind) {
+            case UNIFORM -> random.nextInt((int) first, max + 1);
+            case EXPONENTIAL -> -first * Math.log(1 - random.nextDouble());
+            case PARETO -> first / Math.pow(1 - random.nextDouble(), 1 / second);
+            case LOG_NORMAL -> Math.exp(first + second * random.nextGaussian());
+        };
+        return (int) Math.max(1, Math.min(max, Math.round(value)));
+    }
+
+    /**
+     * @return Shape of the distribution.
+     */
+    public Kind getKind() {
+        return kind;
+    }
+
+    /**
+     * @return Largest burst produced.
+     */
+    public int getMax() {
+        return max;
+    }
+
+    @Override
+    public String toString() {
+        return switch (kind) {
+            case UNIFORM -> "UNIFORM(" + (int) first + ".." + max + ")";
+            case EXPONENTIAL -> "EXPONENTIAL(mean=" + first + ", max=" + max + ")";
+            case PARETO -> "PARETO(scale=" + first + ", shape=" + second + ", max=" + max + ")";
+            case LOG_NORMAL -> "LOG_NORMAL(mu=" + first + ", sigma=" + second + ", max=" + max + ")";
+        };
+    }
+}
@@ -0,0 +1,88 @@
+// File: scheduler/generator/PriorityMix.java
+package scheduler.generator;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Distribution of the priorities of a generated workload: priority {@code i} (lower value indicates
+ * higher priority) is drawn with probability proportional to its weight.
+ */
+public final class PriorityMix {
+    private final double[] cumulative; // Running sums of the weights
+
+    /**
+     * Constructor for PriorityMix.
+     *
+     * @param weights Weight of each priority value, starting at 0.
+     */
+    private PriorityMix(double[] weights) {
+        if (weights.length == 0) {
+            throw new IllegalArgumentException("At least one priority weight is required");
+        }
+        cumulative = new double[weights.length];
+        double sum = 0;
+        for (int i = 0; i < weights.length; i++) {
+            if (!(weights[i] >= 0)) {
+                throw new IllegalArgumentException("Priority weights must not be negative: " + weights[i]);
+            }
+            sum += weights[i];
+            cumulative[i] = sum;
+        }
+        if (!(sum > 0)) {
+            throw new IllegalArgumentException("Priority weights must not all be zero");
+        }
+    }
+
+    /**
+     * @param levels Number of priority values.
+     * @return Priorities uniform in {@code [0, levels)}.
+     */
+    public static PriorityMix uniform(int levels) {
+        if (levels < 1) {
+            throw new IllegalArgumentException("Number of priority levels must be positive: " + levels);
+        }
+        double[] weights = new double[levels];
+        Arrays.fill(weights, 1);
+        return new PriorityMix(weights);
+    }
+
+    /**
+     * @param weights Weight of each priority value, starting at 0 (e.g. {@code 1, 8, 1} for mostly 1s).
+     * @return Priorities drawn in proportion to the weights.
+     */
+    public static PriorityMix weighted(double... weights) {
+        return new PriorityMix(weights.clone());
+    }
+
+    /**
+     * Draws one priority.
+     *
+     * @param random Source of randomness.
+     * @return The priority.
+     */
+    int sample(SplittableRandom random) {
+        if (cumulative.length == 1) {
+            return 0;
+        }
+        double target = random.nextDouble() * cumulative[cumulative.length - 1];
+        int low = 0;
+        int high = cumulative.length - 1;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (cumulative[mid] <= target) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * @return Number of priority values.
+     */
+    public int getLevels() {
+        return cumulative.length;
+    }
+}
@@ -0,0 +1,244 @@
+// File: scheduler/generator/WorkloadGenerator.java
+package scheduler.generator;
+
+import scheduler.models.Process;
+import scheduler.models.ProcessTable;
+import scheduler.streaming.StreamingScheduler;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.SplittableRandom;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Seeded generator of synthetic workloads, combining an {@link ArrivalProcess}, a
+ * {@link BurstDistribution} and a {@link PriorityMix}.
+ * <p>
+ * A workload is produced in blocks of {@value #BLOCK_SIZE} processes. Block {@code i} draws from the
+ * {@code i}-th {@link SplittableRandom#split()} of a generator seeded with the seed, and each block
+ * records arrival gaps rather than times; the blocks can therefore be generated on any number of
+ * threads and are placed one after another, so the same seed always yields the same workload, whether
+ * it is built as a table or streamed. Streams are lazy: only a few blocks ahead of the consumer exist at
+ * any time, so workloads of hundreds of millions of processes can be fed to a {@link StreamingScheduler}.
+ * <p>
+ * Arrival times must fit in an {@code int}, like every {@link Process}; a workload whose arrivals run
+ * past {@link Integer#MAX_VALUE} fails with an {@link IllegalStateException} when it gets there.
+ */
+public class WorkloadGenerator {
+    private static final int BLOCK_SIZE = 1 << 16; // Processes per independently generated block
+    private static final int LOOKAHEAD = 2 * Runtime.getRuntime().availableProcessors(); // Blocks in flight
+
+    private final long seed; // Seed of the root random generator
+    private final ArrivalProcess arrivals; // Gaps between arrivals
+    private final BurstDistribution bursts; // Burst times
+    private final PriorityMix priorities; // Priorities
+
+    /**
+     * One block of generated processes, with arrival gaps relative to the previous process.
+     */
+    private static final class Block {
+        final int[] gaps; // Gap before each arrival
+        final int[] bursts; // Burst time of each process
+        final int[] priorities; // Priority of each process
+
+        Block(int size) {
+            gaps = new int[size];
+            bursts = new int[size];
+            priorities = new int[size];
+        }
+    }
+
+    /**
+     * Constructor for WorkloadGenerator.
+     *
+     * @param seed       Seed; the same seed and distributions always generate the same workload.
+     * @param arrivals   Distribution of the gaps between arrivals.
+     * @param bursts     Distribution of the burst times.
+     * @param priorities Distribution of the priorities.
+     */
+    public WorkloadGenerator(long seed, ArrivalProcess arrivals, BurstDistribution bursts, PriorityMix priorities) {
+        this.seed = seed;
+        this.arrivals = arrivals;
+        this.bursts = bursts;
+        this.priorities = priorities;
+    }
+
+    /**
+     * Generates a workload into a process table, drawing the blocks in parallel.
+     * Rows get generated names ("P1", "P2", ...).
+     *
+     * @param count Number of processes.
+     * @return The table, in arrival order.
+     * @throws IllegalStateException If an arrival time exceeds {@link Integer#MAX_VALUE}.
+     */
+    public ProcessTable generateTable(int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Process count must not be negative: " + count);
+        }
+
+        // Step 1: Split the random streams in block order, so the result does not depend on the threads.
+        int blocks = (count + BLOCK_SIZE - 1) / BLOCK_SIZE;
+        SplittableRandom root = new SplittableRandom(seed);
+        SplittableRandom[] randoms = new SplittableRandom[blocks];
+        for (int i = 0; i < blocks; i++) {
+            randoms[i] = root.split();
+        }
+
+        // Step 2: Draw the blocks in parallel.
+        Block[] drawn = IntStream.range(0, blocks).parallel()
+                .mapToObj(i -> generateBlock(randoms[i], Math.min(BLOCK_SIZE, count - i * BLOCK_SIZE)))
+                .toArray(Block[]::new);
+
+        // Step 3: Place the blocks one after another.
+        ProcessTable table = new ProcessTable(count);
+        long arrival = 0;
+        for (int i = 0; i < blocks; i++) {
+            Block block = drawn[i];
+            drawn[i] = null;
+            for (int j = 0; j < block.gaps.length; j++) {
+                arrival = advance(arrival, block.gaps[j]);
+                table.add(null, (int) arrival, block.bursts[j], block.priorities[j]);
+            }
+        }
+        return table;
+    }
+
+    /**
+     * Returns a lazy iterator over a workload. Blocks are drawn in the background a few at a time ahead
+     * of the consumer.
+     *
+     * @param count Number of processes.
+     * @return Processes in arrival order, named "P1", "P2", ...
+     */
+    public Iterator<Process> iterator(long count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Process count must not be negative: " + count);
+        }
+        return new ProcessIterator(count);
+    }
+
+    /**
+     * Returns a lazy, ordered stream over a workload (see {@link #iterator}).
+     *
+     * @param count Number of processes.
+     * @return Processes in arrival order.
+     */
+    public Stream<Process> stream(long count) {
+        Spliterator<Process> spliterator = Spliterators.spliterator(iterator(count), count,
+                Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.IMMUTABLE);
+        return StreamSupport.stream(spliterator, false);
+    }
+
+    /**
+     * Streams a workload into a streaming scheduler and runs it to completion. The scheduler is advanced
+     * after every block, so finished processes reach its sink while generation continues.
+     *
+     * @param scheduler The scheduler to feed (it must not have received any processes yet).
+     * @param count     Number of processes.
+     */
+    public void feed(StreamingScheduler scheduler, long count) {
+        Iterator<Process> processes = iterator(count);
+        long submitted = 0;
+        while (processes.hasNext()) {
+            Process process = processes.next();
+            scheduler.submit(process);
+            if (++submitted % BLOCK_SIZE == 0) {
+                // Later arrivals come no earlier than this one, so everything before it is known.
+                scheduler.advanceTo(process.getArrivalTime() - 1L);
+            }
+        }
+        scheduler.finish();
+    }
+
+    /**
+     * Draws one block of processes.
+     *
+     * @param random Random stream of the block.
+     * @param size   Number of processes in the block.
+     * @return The block.
+     */
+    private Block generateBlock(SplittableRandom random, int size) {
+        Block block = new Block(size);
+        for (int i = 0; i < size; i++) {
+            block.gaps[i] = arrivals.nextGap(random);
+            block.bursts[i] = bursts.sample(random);
+            block.priorities[i] = priorities.sample(random);
+        }
+        return block;
+    }
+
+    /**
+     * Adds a gap to an arrival time, checking that the result still fits in an {@code int}.
+     *
+     * @param arrival Previous arrival time.
+     * @param gap     Gap to the next arrival.
+     * @return The next arrival time.
+     * @throws IllegalStateException If the arrival time exceeds {@link Integer#MAX_VALUE}.
+     */
+    private static long advance(long arrival, int gap) {
+        long next = arrival + gap;
+        if (next > Integer.MAX_VALUE) {
+            throw new IllegalStateException("Arrival times exceed " + Integer.MAX_VALUE
+                    + "; use a shorter mean gap or fewer processes");
+        }
+        return next;
+    }
+
+    /**
+     * Lazy iterator drawing blocks in the background, at most {@link #LOOKAHEAD} ahead of the consumer.
+     */
+    private final class ProcessIterator implements Iterator<Process> {
+        private final long count; // Processes to produce
+        private final SplittableRandom root = new SplittableRandom(seed); // Source of the block streams
+        private final ArrayDeque<CompletableFuture<Block>> ahead = new ArrayDeque<>(); // Blocks being drawn
+        private long requested; // Processes already handed to block tasks
+        private long produced; // Processes returned so far
+        private Block block; // Block being consumed
+        private int position; // Next index in the block
+        private long arrival; // Arrival time of the last process returned
+
+        /**
+         * Constructor for ProcessIterator.
+         *
+         * @param count Processes to produce.
+         */
+        ProcessIterator(long count) {
+            this.count = count;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return produced < count;
+        }
+
+        @Override
+        public Process next() {
+            if (produced >= count) {
+                throw new NoSuchElementException();
+            }
+            if (block == null || position == block.gaps.length) {
+                // Keep the pipeline full, then wait for the next block in order.
+                while (ahead.size() < LOOKAHEAD && requested < count) {
+                    int size = (int) Math.min(BLOCK_SIZE, count - requested);
+                    SplittableRandom random = root.split();
+                    ahead.addLast(CompletableFuture.supplyAsync(() -> generateBlock(random, size)));
+                    requested += size;
+                }
+                block = ahead.pollFirst().join();
+                position = 0;
+            }
+            arrival = advance(arrival, block.gaps[position]);
+            Process process = new Process("P" + (produced + 1), (int) arrival,
+                    block.bursts[position], block.priorities[position]);
+            position++;
+            produced++;
+            return process;
+        }
+    }
+}
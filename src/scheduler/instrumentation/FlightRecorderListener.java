@@ -0,0 +1,195 @@
+// File: scheduler/instrumentation/FlightRecorderListener.java
+package scheduler.instrumentation;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Listener that turns scheduling decisions into JDK Flight Recorder events, so a simulation can be
+ * profiled in a recording next to the JVM's own events (for example with
+ * {@code -XX:StartFlightRecording}).
+ * <p>
+ * {@code scheduler.Run} (one per run, with its counts and ready-queue high-water mark) and
+ * {@code scheduler.IdleGap} are enabled by default. {@code scheduler.Dispatch} (which carries the
+ * ready-queue depth), {@code scheduler.Preemption} and {@code scheduler.Completion} occur once or more
+ * per process, so they are disabled by default; enable them in the recording settings when needed.
+ * Events that are not being recorded cost a check and nothing else. An instance serves one scheduler
+ * at a time.
+ */
+public class FlightRecorderListener implements SchedulerListener {
+    private RunEvent run; // Event of the current run
+    private long decisions; // Dispatches in the current run
+    private long preemptions; // Preemptions in the current run
+    private int maxWaiting; // Ready-queue high-water mark of the current run
+
+    /**
+     * One scheduler run.
+     */
+    @Name("scheduler.Run")
+    @Label("Schedule Run")
+    @Category("Scheduler")
+    @Description("A complete run of a scheduling algorithm")
+    @StackTrace(false)
+    static final class RunEvent extends Event {
+        @Label("Algorithm")
+        String algorithm;
+
+        @Label("Processes")
+        int processes;
+
+        @Label("Decisions")
+        long decisions;
+
+        @Label("Preemptions")
+        long preemptions;
+
+        @Label("Max Queue Depth")
+        @Description("Largest number of processes waiting in the ready queue at a dispatch")
+        int maxQueueDepth;
+    }
+
+    /**
+     * A process getting the CPU.
+     */
+    @Name("scheduler.Dispatch")
+    @Label("Dispatch")
+    @Category("Scheduler")
+    @Enabled(false)
+    @StackTrace(false)
+    static final class DispatchEvent extends Event {
+        @Label("Row")
+        int row;
+
+        @Label("Time")
+        @Description("Simulated time the process starts running")
+        long time;
+
+        @Label("Queue Depth")
+        @Description("Ready processes left waiting after the selection")
+        int queueDepth;
+    }
+
+    /**
+     * A process losing the CPU before it has finished.
+     */
+    @Name("scheduler.Preemption")
+    @Label("Preemption")
+    @Category("Scheduler")
+    @Enabled(false)
+    @StackTrace(false)
+    static final class PreemptionEvent extends Event {
+        @Label("Row")
+        int row;
+
+        @Label("Time")
+        long time;
+    }
+
+    /**
+     * The CPU waiting for the next arrival.
+     */
+    @Name("scheduler.IdleGap")
+    @Label("Idle Gap")
+    @Category("Scheduler")
+    @StackTrace(false)
+    static final class IdleGapEvent extends Event {
+        @Label("From")
+        long from;
+
+        @Label("To")
+        long to;
+    }
+
+    /**
+     * A process finishing.
+     */
+    @Name("scheduler.Completion")
+    @Label("Completion")
+    @Category("Scheduler")
+    @Enabled(false)
+    @StackTrace(false)
+    static final class CompletionEvent extends Event {
+        @Label("Row")
+        int row;
+
+        @Label("Time")
+        long time;
+    }
+
+    @Override
+    public void runStarted(String algorithm, int processes) {
+        decisions = 0;
+        preemptions = 0;
+        maxWaiting = 0;
+        run = new RunEvent();
+        run.algorithm = algorithm;
+        run.processes = processes;
+        run.begin();
+    }
+
+    @Override
+    public void dispatched(int row, long time, int waiting) {
+        decisions++;
+        if (waiting > maxWaiting) {
+            maxWaiting = waiting;
+        }
+        DispatchEvent event = new DispatchEvent();
+        if (event.isEnabled()) {
+            event.row = row;
+            event.time = time;
+            event.queueDepth = waiting;
+            event.commit();
+        }
+    }
+
+    @Override
+    public void preempted(int row, long time) {
+        preemptions++;
+        PreemptionEvent event = new PreemptionEvent();
+        if (event.isEnabled()) {
+            event.row = row;
+            event.time = time;
+            event.commit();
+        }
+    }
+
+    @Override
+    public void idle(long from, long to) {
+        IdleGapEvent event = new IdleGapEvent();
+        if (event.isEnabled()) {
+            event.from = from;
+            event.to = to;
+            event.commit();
+        }
+    }
+
+    @Override
+    public void completed(int row, long time) {
+        CompletionEvent event = new CompletionEvent();
+        if (event.isEnabled()) {
+            event.row = row;
+            event.time = time;
+            event.commit();
+        }
+    }
+
+    @Override
+    public void runFinished() {
+        if (run == null) {
+            return;
+        }
+        run.end();
+        if (run.shouldCommit()) {
+            run.decisions = decisions;
+            run.preemptions = preemptions;
+            run.maxQueueDepth = maxWaiting;
+            run.commit();
+        }
+        run = null;
+    }
+}
@@ -0,0 +1,155 @@
+// File: scheduler/instrumentation/SchedulerCounters.java
+package scheduler.instrumentation;
+
+/**
+ * Listener that counts scheduling decisions, for profiling long simulations.
+ * <p>
+ * Counts accumulate over every run the counters observe until {@link #reset}. Decisions are dispatches;
+ * the decision rate divides them by the wall-clock time spent inside runs. The ready-queue high-water
+ * mark is the largest number of processes seen waiting at a dispatch. An instance serves one scheduler
+ * at a time; values read from another thread during a run may lag behind.
+ */
+public class SchedulerCounters implements SchedulerListener {
+    private long runs; // Runs observed
+    private long decisions; // Dispatches
+    private long preemptions; // Processes that lost the CPU before finishing
+    private long idleGaps; // Times the CPU went idle
+    private long idleTime; // Total length of the idle gaps
+    private long completions; // Processes finished
+    private int maxWaiting; // Ready-queue high-water mark
+    private long endTime; // Latest completion time seen
+    private long elapsedNanos; // Wall-clock time inside finished runs
+    private long runStartNanos; // System.nanoTime() when the current run started
+
+    @Override
+    public void runStarted(String algorithm, int processes) {
+        runs++;
+        runStartNanos = System.nanoTime();
+    }
+
+    @Override
+    public void dispatched(int row, long time, int waiting) {
+        decisions++;
+        if (waiting > maxWaiting) {
+            maxWaiting = waiting;
+        }
+    }
+
+    @Override
+    public void preempted(int row, long time) {
+        preemptions++;
+    }
+
+    @Override
+    public void idle(long from, long to) {
+        idleGaps++;
+        idleTime += to - from;
+    }
+
+    @Override
+    public void completed(int row, long time) {
+        completions++;
+        if (time > endTime) {
+            endTime = time;
+        }
+    }
+
+    @Override
+    public void runFinished() {
+        elapsedNanos += System.nanoTime() - runStartNanos;
+    }
+
+    /**
+     * Clears every count.
+     */
+    public void reset() {
+        runs = 0;
+        decisions = 0;
+        preemptions = 0;
+        idleGaps = 0;
+        idleTime = 0;
+        completions = 0;
+        maxWaiting = 0;
+        endTime = 0;
+        elapsedNanos = 0;
+    }
+
+    /**
+     * @return Number of runs observed.
+     */
+    public long getRuns() {
+        return runs;
+    }
+
+    /**
+     * @return Number of dispatch decisions.
+     */
+    public long getDecisions() {
+        return decisions;
+    }
+
+    /**
+     * @return Number of preemptions.
+     */
+    public long getPreemptions() {
+        return preemptions;
+    }
+
+    /**
+     * @return Number of idle gaps.
+     */
+    public long getIdleGaps() {
+        return idleGaps;
+    }
+
+    /**
+     * @return Total simulated time the CPU spent idle.
+     */
+    public long getIdleTime() {
+        return idleTime;
+    }
+
+    /**
+     * @return Number of completed processes.
+     */
+    public long getCompletions() {
+        return completions;
+    }
+
+    /**
+     * @return Largest number of processes waiting in the ready queue at a dispatch.
+     */
+    public int getMaxQueueDepth() {
+        return maxWaiting;
+    }
+
+    /**
+     * @return Latest completion time seen (0 if none).
+     */
+    public long getEndTime() {
+        return endTime;
+    }
+
+    /**
+     * @return Wall-clock nanoseconds spent inside finished runs.
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * @return Dispatch decisions per wall-clock second of finished runs (0 before any run finishes).
+     */
+    public double getDecisionsPerSecond() {
+        return elapsedNanos == 0 ? 0 : decisions * 1e9 / elapsedNanos;
+    }
+
+    /**
+     * @return One-line summary of the counts.
+     */
+    public String summary() {
+        return String.format("%d decisions (%.0f/s), %d preemptions, %d idle gaps (%d idle), "
+                        + "max ready queue %d, %d completed",
+                decisions, getDecisionsPerSecond(), preemptions, idleGaps, idleTime, maxWaiting, completions);
+    }
+}
@@ -0,0 +1,123 @@
+// File: scheduler/instrumentation/SchedulerListener.java
+package scheduler.instrumentation;
+
+/**
+ * Receives the decisions a {@link scheduler.algorithms.Scheduler} makes during a run: dispatches,
+ * preemptions, idle gaps and completions. Attach one with
+ * {@link scheduler.algorithms.Scheduler#setListener}; a scheduler without a listener pays a single null
+ * check per event.
+ * <p>
+ * Times are simulated time units; rows are workload rows. Callbacks arrive on the thread running the
+ * scheduler, in the order the scheduler makes its decisions. Every method does nothing by default, so
+ * implementations override only what they need.
+ */
+public interface SchedulerListener {
+
+    /**
+     * Called when a run starts.
+     *
+     * @param algorithm Name of the scheduling algorithm.
+     * @param processes Number of processes in the workload.
+     */
+    default void runStarted(String algorithm, int processes) {
+    }
+
+    /**
+     * Called whenever a process gets the CPU, on its first dispatch and on every later one.
+     *
+     * @param row     Row of the process.
+     * @param time    Time the process starts running.
+     * @param waiting Ready processes left waiting after this one was selected (the ready-queue depth).
+     */
+    default void dispatched(int row, long time, int waiting) {
+    }
+
+    /**
+     * Called when a process loses the CPU before it has finished.
+     *
+     * @param row  Row of the process.
+     * @param time Time the process stops running.
+     */
+    default void preempted(int row, long time) {
+    }
+
+    /**
+     * Called when the CPU has nothing to run until the next arrival.
+     *
+     * @param from Time the CPU goes idle.
+     * @param to   Time the next process arrives.
+     */
+    default void idle(long from, long to) {
+    }
+
+    /**
+     * Called when a process finishes.
+     *
+     * @param row  Row of the process.
+     * @param time Completion time.
+     */
+    default void completed(int row, long time) {
+    }
+
+    /**
+     * Called when a run ends.
+     */
+    default void runFinished() {
+    }
+
+    /**
+     * Combines listeners into one that forwards every event to each of them in turn.
+     *
+     * @param listeners The listeners.
+     * @return A listener forwarding to all of them.
+     */
+    static SchedulerListener of(SchedulerListener... listeners) {
+        SchedulerListener[] targets = listeners.clone();
+        if (targets.length == 1) {
+            return targets[0];
+        }
+        return new SchedulerListener() {
+            @Override
+            public void runStarted(String algorithm, int processes) {
+                for (SchedulerListener target : targets) {
+                    target.runStarted(algorithm, processes);
+                }
+            }
+
+            @Override
+            public void dispatched(int row, long time, int waiting) {
+                for (SchedulerListener target : targets) {
+                    target.dispatched(row, time, waiting);
+                }
+            }
+
+            @Override
+            public void preempted(int row, long time) {
+                for (SchedulerListener target : targets) {
+                    target.preempted(row, time);
+                }
+            }
+
+            @Override
+            public void idle(long from, long to) {
+                for (SchedulerListener target : targets) {
+                    target.idle(from, to);
+                }
+            }
+
+            @Override
+            public void completed(int row, long time) {
+                for (SchedulerListener target : targets) {
+                    target.completed(row, time);
+                }
+            }
+
+            @Override
+            public void runFinished() {
+                for (SchedulerListener target : targets) {
+                    target.runFinished();
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,166 @@
+// File: scheduler/io/BinaryWorkloadFormat.java
+
+package scheduler.io;
+
+import scheduler.models.Workload;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Fixed-width little-endian binary formats for workloads and schedule results.
+ * <p>
+ * Both file types start with a 32-byte header: magic (int), version (int), record size (int),
+ * a reserved int, the record count (long) and a reserved long. Records follow back to back.
+ * <ul>
+ *   <li>Workload record (12 bytes): arrival time, burst time, priority (3 x int).
+ *       Processes have no stored names; row {@code i} is named "P&lt;i+1&gt;".</li>
+ *   <li>Result record (32 bytes): start, completion, turnaround and waiting time (4 x long).</li>
+ * </ul>
+ * Because every record has the same width, files can be memory-mapped and addressed by row.
+ */
+public final class BinaryWorkloadFormat {
+    public static final int WORKLOAD_MAGIC = 0x4D415457; // "MATW"
+    public static final int RESULT_MAGIC = 0x4D415452; // "MATR"
+    public static final int VERSION = 1;
+    public static final int HEADER_BYTES = 32;
+    public static final int WORKLOAD_RECORD_BYTES = 12;
+    public static final int RESULT_RECORD_BYTES = 32;
+
+    private static final int WRITE_BUFFER_RECORDS = 1 << 16; // Records per buffered write.
+
+    private BinaryWorkloadFormat() {
+        // Utility class
+    }
+
+    /**
+     * Writes a workload to a binary workload file, streaming it through a fixed-size buffer.
+     *
+     * @param workload The workload to write.
+     * @param file     Destination file (created or truncated).
+     * @throws IOException If the file cannot be written.
+     */
+    public static void write(Workload workload, Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            writeHeader(header, WORKLOAD_MAGIC, WORKLOAD_RECORD_BYTES, workload.size());
+            header.flip();
+            writeFully(channel, header);
+
+            ByteBuffer buffer = ByteBuffer.allocateDirect(WRITE_BUFFER_RECORDS * WORKLOAD_RECORD_BYTES)
+                    .order(ByteOrder.LITTLE_ENDIAN);
+            for (int row = 0; row < workload.size(); row++) {
+                if (buffer.remaining() < WORKLOAD_RECORD_BYTES) {
+                    buffer.flip();
+                    writeFully(channel, buffer);
+                    buffer.clear();
+                }
+                buffer.putInt(workload.getArrivalTime(row));
+                buffer.putInt(workload.getBurstTime(row));
+                buffer.putInt(workload.getPriority(row));
+            }
+            buffer.flip();
+            writeFully(channel, buffer);
+        }
+    }
+
+    /**
+     * Writes a file header into a buffer.
+     *
+     * @param buffer      Little-endian buffer with at least {@link #HEADER_BYTES} remaining.
+     * @param magic       Magic number of the file type.
+     * @param recordBytes Width of one record.
+     * @param count       Number of records.
+     */
+    static void writeHeader(ByteBuffer buffer, int magic, int recordBytes, long count) {
+        buffer.putInt(magic);
+        buffer.putInt(VERSION);
+        buffer.putInt(recordBytes);
+        buffer.putInt(0);
+        buffer.putLong(count);
+        buffer.putLong(0L);
+    }
+
+    /**
+     * Reads and validates a file header.
+     *
+     * @param channel     Channel positioned anywhere; the header is read from offset 0.
+     * @param magic       Expected magic number.
+     * @param recordBytes Expected record width.
+     * @return The record count stored in the header.
+     * @throws IOException If the header is missing or does not match.
+     */
+    static int readHeader(FileChannel channel, int magic, int recordBytes) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        while (header.hasRemaining()) {
+            if (channel.read(header, header.position()) < 0) {
+                throw new IOException("Truncated header");
+            }
+        }
+        header.flip();
+        if (header.getInt() != magic) {
+            throw new IOException("Unexpected file type (bad magic number)");
+        }
+        int version = header.getInt();
+        if (version != VERSION) {
+            throw new IOException("Unsupported format version " + version);
+        }
+        if (header.getInt() != recordBytes) {
+            throw new IOException("Unexpected record size");
+        }
+        header.getInt();
+        long count = header.getLong();
+        if (count < 0 || count > Integer.MAX_VALUE) {
+            throw new IOException("Record count out of range: " + count);
+        }
+        if (channel.size() < HEADER_BYTES + count * recordBytes) {
+            throw new IOException("File is shorter than its " + count + " records");
+        }
+        return (int) count;
+    }
+
+    /**
+     * Maps the records of a file as a sequence of segments, each at most 2 GiB and holding
+     * exactly {@code 1 << segmentShift} records (the last one may hold fewer).
+     *
+     * @param channel      Open file channel.
+     * @param mode         Mapping mode.
+     * @param count        Number of records.
+     * @param recordBytes  Width of one record.
+     * @param segmentShift log2 of the records per segment.
+     * @return The mapped segments in file order.
+     * @throws IOException If mapping fails.
+     */
+    static MappedByteBuffer[] mapSegments(FileChannel channel, FileChannel.MapMode mode, int count,
+                                          int recordBytes, int segmentShift) throws IOException {
+        int perSegment = 1 << segmentShift;
+        int segments = (int) (((long) count + perSegment - 1) >>> segmentShift);
+        MappedByteBuffer[] mapped = new MappedByteBuffer[segments];
+        for (int i = 0; i < segments; i++) {
+            long first = (long) i << segmentShift;
+            long records = Math.min(perSegment, count - first);
+            mapped[i] = channel.map(mode, HEADER_BYTES + first * recordBytes, records * recordBytes);
+            mapped[i].order(ByteOrder.LITTLE_ENDIAN);
+        }
+        return mapped;
+    }
+
+    /**
+     * Writes a buffer completely to a channel.
+     *
+     * @param channel Destination channel.
+     * @param buffer  Buffer to drain.
+     * @throws IOException If writing fails.
+     */
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+}
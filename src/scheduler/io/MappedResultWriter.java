@@ -0,0 +1,129 @@
+// File: scheduler/io/MappedResultWriter.java
+
+package scheduler.io;
+
+import scheduler.models.ScheduleResults;
+import scheduler.models.Workload;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * {@link ScheduleResults} that writes each process's metrics straight into a memory-mapped
+ * result file (see {@link BinaryWorkloadFormat}). Records are addressed by row, so schedulers can
+ * complete processes in any order and nothing is buffered on the heap.
+ */
+public class MappedResultWriter implements ScheduleResults, Closeable {
+    private static final int SEGMENT_SHIFT = 25; // 2^25 records of 32 bytes = 1 GiB per segment
+    private static final int SEGMENT_MASK = (1 << SEGMENT_SHIFT) - 1;
+
+    private final Workload workload; // Source of arrival and burst times for derived metrics
+    private final MappedByteBuffer[] segments; // Mapped record segments
+
+    /**
+     * Constructor for MappedResultWriter.
+     *
+     * @param workload Workload the results belong to.
+     * @param segments Mapped record segments.
+     */
+    private MappedResultWriter(Workload workload, MappedByteBuffer[] segments) {
+        this.workload = workload;
+        this.segments = segments;
+    }
+
+    /**
+     * Creates (or truncates) a result file sized for the workload and maps it for writing.
+     *
+     * @param file     Destination file.
+     * @param workload Workload whose results will be written.
+     * @return A writer addressing the file by row.
+     * @throws IOException If the file cannot be created or mapped.
+     */
+    public static MappedResultWriter create(Path file, Workload workload) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            int count = workload.size();
+            ByteBuffer header = ByteBuffer.allocate(BinaryWorkloadFormat.HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            BinaryWorkloadFormat.writeHeader(header, BinaryWorkloadFormat.RESULT_MAGIC,
+                    BinaryWorkloadFormat.RESULT_RECORD_BYTES, count);
+            header.flip();
+            while (header.hasRemaining()) {
+                channel.write(header, header.position());
+            }
+            MappedByteBuffer[] segments = BinaryWorkloadFormat.mapSegments(channel, FileChannel.MapMode.READ_WRITE,
+                    count, BinaryWorkloadFormat.RESULT_RECORD_BYTES, SEGMENT_SHIFT);
+            return new MappedResultWriter(workload, segments);
+        }
+    }
+
+    @Override
+    public void setStartTime(int row, long startTime) {
+        segments[row >>> SEGMENT_SHIFT].putLong(offset(row), startTime);
+    }
+
+    @Override
+    public void setCompletionTime(int row, long completionTime) {
+        MappedByteBuffer segment = segments[row >>> SEGMENT_SHIFT];
+        int offset = offset(row);
+        long turnaroundTime = completionTime - workload.getArrivalTime(row);
+        segment.putLong(offset + 8, completionTime);
+        segment.putLong(offset + 16, turnaroundTime);
+        segment.putLong(offset + 24, turnaroundTime - workload.getBurstTime(row));
+    }
+
+    /**
+     * @param row Row of the process.
+     * @return Start time written for the process.
+     */
+    public long getStartTime(int row) {
+        return segments[row >>> SEGMENT_SHIFT].getLong(offset(row));
+    }
+
+    /**
+     * @param row Row of the process.
+     * @return Completion time written for the process.
+     */
+    public long getCompletionTime(int row) {
+        return segments[row >>> SEGMENT_SHIFT].getLong(offset(row) + 8);
+    }
+
+    /**
+     * @param row Row of the process.
+     * @return Turnaround time written for the process.
+     */
+    public long getTurnaroundTime(int row) {
+        return segments[row >>> SEGMENT_SHIFT].getLong(offset(row) + 16);
+    }
+
+    /**
+     * @param row Row of the process.
+     * @return Waiting time written for the process.
+     */
+    public long getWaitingTime(int row) {
+        return segments[row >>> SEGMENT_SHIFT].getLong(offset(row) + 24);
+    }
+
+    /**
+     * Flushes all written records to the file. The mapping itself is released by the garbage collector.
+     */
+    @Override
+    public void close() {
+        for (MappedByteBuffer segment : segments) {
+            segment.force();
+        }
+    }
+
+    /**
+     * @param row Row of the process.
+     * @return Byte offset of the row's record within its segment.
+     */
+    private static int offset(int row) {
+        return (row & SEGMENT_MASK) * BinaryWorkloadFormat.RESULT_RECORD_BYTES;
+    }
+}
@@ -0,0 +1,85 @@
+// File: scheduler/io/MappedWorkload.java
+
+package scheduler.io;
+
+import scheduler.models.Workload;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A {@link Workload} backed by a memory-mapped binary workload file (see {@link BinaryWorkloadFormat}).
+ * Records are read in place from the page cache, so loading is O(1) and no per-process
+ * objects or arrays are created. Files larger than 2 GiB are mapped in several segments.
+ */
+public class MappedWorkload implements Workload {
+    private static final int SEGMENT_SHIFT = 27; // 2^27 records of 12 bytes = 1.5 GiB per segment
+    private static final int SEGMENT_MASK = (1 << SEGMENT_SHIFT) - 1;
+
+    private final MappedByteBuffer[] segments; // Mapped record segments
+    private final int size; // Number of processes
+
+    /**
+     * Constructor for MappedWorkload.
+     *
+     * @param segments Mapped record segments.
+     * @param size     Number of processes.
+     */
+    private MappedWorkload(MappedByteBuffer[] segments, int size) {
+        this.segments = segments;
+        this.size = size;
+    }
+
+    /**
+     * Maps a binary workload file. The mapping stays valid after this method closes the file.
+     *
+     * @param file The workload file.
+     * @return A workload reading directly from the mapped file.
+     * @throws IOException If the file cannot be read or is not a workload file.
+     */
+    public static MappedWorkload open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            int count = BinaryWorkloadFormat.readHeader(channel, BinaryWorkloadFormat.WORKLOAD_MAGIC,
+                    BinaryWorkloadFormat.WORKLOAD_RECORD_BYTES);
+            MappedByteBuffer[] segments = BinaryWorkloadFormat.mapSegments(channel, FileChannel.MapMode.READ_ONLY,
+                    count, BinaryWorkloadFormat.WORKLOAD_RECORD_BYTES, SEGMENT_SHIFT);
+            return new MappedWorkload(segments, count);
+        }
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public String getName(int row) {
+        return "P" + (row + 1);
+    }
+
+    @Override
+    public int getArrivalTime(int row) {
+        return segments[row >>> SEGMENT_SHIFT].getInt(offset(row));
+    }
+
+    @Override
+    public int getBurstTime(int row) {
+        return segments[row >>> SEGMENT_SHIFT].getInt(offset(row) + 4);
+    }
+
+    @Override
+    public int getPriority(int row) {
+        return segments[row >>> SEGMENT_SHIFT].getInt(offset(row) + 8);
+    }
+
+    /**
+     * @param row Row of the process.
+     * @return Byte offset of the row's record within its segment.
+     */
+    private static int offset(int row) {
+        return (row & SEGMENT_MASK) * BinaryWorkloadFormat.WORKLOAD_RECORD_BYTES;
+    }
+}
@@ -0,0 +1,253 @@
+// File: scheduler/io/ResultFormat.java
+
+package scheduler.io;
+
+import scheduler.metrics.LogHistogram;
+import scheduler.metrics.ScheduleMetrics;
+import scheduler.models.ResultTable;
+import scheduler.models.Workload;
+
+import java.io.IOException;
+
+/**
+ * Text formats for exporting scheduling results: the per-process table printed by the GUI
+ * (process, burst, arrival, completion and turnaround time), one section per algorithm,
+ * with processes in the order they were first dispatched.
+ * <p>
+ * A document is written as {@link #begin}, one {@link #writeAlgorithm} per algorithm, then {@link #end}.
+ * A summary document replaces the per-process rows with each algorithm's {@link ScheduleMetrics}:
+ * {@link #beginSummary}, one {@link #writeSummary} per algorithm, then {@link #end}.
+ */
+public enum ResultFormat {
+    /**
+     * Comma-separated values with a header line and an algorithm column.
+     */
+    CSV {
+        @Override
+        public void begin(Appendable out) throws IOException {
+            out.append("algorithm,process,burst_time,arrival_time,completion_time,turnaround_time\n");
+        }
+
+        @Override
+        public void writeAlgorithm(Appendable out, String algorithm, ResultTable results, boolean first)
+                throws IOException {
+            Workload workload = results.getWorkload();
+            String prefix = quoteCsv(algorithm) + ",";
+            for (int row : results.rowsInListOrder()) {
+                out.append(prefix)
+                        .append(quoteCsv(workload.getName(row))).append(',')
+                        .append(Integer.toString(workload.getBurstTime(row))).append(',')
+                        .append(Integer.toString(workload.getArrivalTime(row))).append(',')
+                        .append(Long.toString(results.getCompletionTime(row))).append(',')
+                        .append(Long.toString(results.getTurnaroundTime(row))).append('\n');
+            }
+        }
+
+        @Override
+        public void beginSummary(Appendable out) throws IOException {
+            out.append("algorithm,processes,throughput,utilization,metric,mean,p50,p90,p99,p99_9,max\n");
+        }
+
+        @Override
+        public void writeSummary(Appendable out, String algorithm, ScheduleMetrics metrics, boolean first)
+                throws IOException {
+            String prefix = quoteCsv(algorithm) + "," + metrics.getCompleted() + ","
+                    + metrics.getThroughput() + "," + metrics.getUtilization() + ",";
+            writeCsvMetric(out, prefix, "waiting", metrics.getWaitingTimes());
+            writeCsvMetric(out, prefix, "turnaround", metrics.getTurnaroundTimes());
+            writeCsvMetric(out, prefix, "response", metrics.getResponseTimes());
+        }
+
+        /**
+         * Writes one summary line.
+         *
+         * @param out       Destination.
+         * @param prefix    Algorithm, process count, throughput and utilization columns.
+         * @param metric    Name of the metric.
+         * @param histogram Distribution of the metric.
+         * @throws IOException If writing fails.
+         */
+        private void writeCsvMetric(Appendable out, String prefix, String metric, LogHistogram histogram)
+                throws IOException {
+            out.append(prefix).append(metric).append(',')
+                    .append(Double.toString(histogram.getMean())).append(',')
+                    .append(Long.toString(histogram.getPercentile(50))).append(',')
+                    .append(Long.toString(histogram.getPercentile(90))).append(',')
+                    .append(Long.toString(histogram.getPercentile(99))).append(',')
+                    .append(Long.toString(histogram.getPercentile(99.9))).append(',')
+                    .append(Long.toString(histogram.getMax())).append('\n');
+        }
+
+        @Override
+        public void end(Appendable out) {
+            // No trailer
+        }
+    },
+
+    /**
+     * A JSON object with an array of algorithms, each holding its array of processes.
+     */
+    JSON {
+        @Override
+        public void begin(Appendable out) throws IOException {
+            out.append("{\"algorithms\":[");
+        }
+
+        @Override
+        public void writeAlgorithm(Appendable out, String algorithm, ResultTable results, boolean first)
+                throws IOException {
+            Workload workload = results.getWorkload();
+            out.append(first ? "\n" : ",\n")
+                    .append("{\"name\":").append(quoteJson(algorithm)).append(",\"processes\":[");
+            boolean firstRow = true;
+            for (int row : results.rowsInListOrder()) {
+                out.append(firstRow ? "\n" : ",\n")
+                        .append("{\"process\":").append(quoteJson(workload.getName(row)))
+                        .append(",\"burstTime\":").append(Integer.toString(workload.getBurstTime(row)))
+                        .append(",\"arrivalTime\":").append(Integer.toString(workload.getArrivalTime(row)))
+                        .append(",\"completionTime\":").append(Long.toString(results.getCompletionTime(row)))
+                        .append(",\"turnaroundTime\":").append(Long.toString(results.getTurnaroundTime(row)))
+                        .append('}');
+                firstRow = false;
+            }
+            out.append("]}");
+        }
+
+        @Override
+        public void beginSummary(Appendable out) throws IOException {
+            begin(out);
+        }
+
+        @Override
+        public void writeSummary(Appendable out, String algorithm, ScheduleMetrics metrics, boolean first)
+                throws IOException {
+            out.append(first ? "\n" : ",\n")
+                    .append("{\"name\":").append(quoteJson(algorithm))
+                    .append(",\"processes\":").append(Long.toString(metrics.getCompleted()))
+                    .append(",\"throughput\":").append(Double.toString(metrics.getThroughput()))
+                    .append(",\"utilization\":").append(Double.toString(metrics.getUtilization()));
+            writeJsonMetric(out, "waitingTime", metrics.getWaitingTimes());
+            writeJsonMetric(out, "turnaroundTime", metrics.getTurnaroundTimes());
+            writeJsonMetric(out, "responseTime", metrics.getResponseTimes());
+            out.append('}');
+        }
+
+        /**
+         * Writes one metric as a member of the enclosing algorithm object.
+         *
+         * @param out       Destination.
+         * @param metric    Name of the metric.
+         * @param histogram Distribution of the metric.
+         * @throws IOException If writing fails.
+         */
+        private void writeJsonMetric(Appendable out, String metric, LogHistogram histogram) throws IOException {
+            out.append(",\"").append(metric).append("\":{")
+                    .append("\"mean\":").append(Double.toString(histogram.getMean()))
+                    .append(",\"p50\":").append(Long.toString(histogram.getPercentile(50)))
+                    .append(",\"p90\":").append(Long.toString(histogram.getPercentile(90)))
+                    .append(",\"p99\":").append(Long.toString(histogram.getPercentile(99)))
+                    .append(",\"p99_9\":").append(Long.toString(histogram.getPercentile(99.9)))
+                    .append(",\"max\":").append(Long.toString(histogram.getMax()))
+                    .append('}');
+        }
+
+        @Override
+        public void end(Appendable out) throws IOException {
+            out.append("\n]}\n");
+        }
+    };
+
+    /**
+     * Writes whatever precedes the first algorithm.
+     *
+     * @param out Destination.
+     * @throws IOException If writing fails.
+     */
+    public abstract void begin(Appendable out) throws IOException;
+
+    /**
+     * Writes the results of one algorithm.
+     *
+     * @param out       Destination.
+     * @param algorithm Name of the algorithm.
+     * @param results   The algorithm's results.
+     * @param first     True for the first algorithm of the document.
+     * @throws IOException If writing fails.
+     */
+    public abstract void writeAlgorithm(Appendable out, String algorithm, ResultTable results, boolean first)
+            throws IOException;
+
+    /**
+     * Writes whatever precedes the first algorithm of a summary document.
+     *
+     * @param out Destination.
+     * @throws IOException If writing fails.
+     */
+    public abstract void beginSummary(Appendable out) throws IOException;
+
+    /**
+     * Writes the summary of one algorithm.
+     *
+     * @param out       Destination.
+     * @param algorithm Name of the algorithm.
+     * @param metrics   The algorithm's summary.
+     * @param first     True for the first algorithm of the document.
+     * @throws IOException If writing fails.
+     */
+    public abstract void writeSummary(Appendable out, String algorithm, ScheduleMetrics metrics, boolean first)
+            throws IOException;
+
+    /**
+     * Writes whatever follows the last algorithm.
+     *
+     * @param out Destination.
+     * @throws IOException If writing fails.
+     */
+    public abstract void end(Appendable out) throws IOException;
+
+    /**
+     * Quotes a CSV field if it contains a comma, quote or line break.
+     *
+     * @param text Field value.
+     * @return The field as it should appear in the file.
+     */
+    static String quoteCsv(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == ',' || c == '"' || c == '\n' || c == '\r') {
+                return '"' + text.replace("\"", "\"\"") + '"';
+            }
+        }
+        return text;
+    }
+
+    /**
+     * Quotes a string as a JSON string literal.
+     *
+     * @param text String value.
+     * @return The JSON literal, including the surrounding quotes.
+     */
+    static String quoteJson(String text) {
+        StringBuilder quoted = new StringBuilder(text.length() + 2).append('"');
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '"' -> quoted.append("\\\"");
+                case '\\' -> quoted.append("\\\\");
+                case '\n' -> quoted.append("\\n");
+                case '\r' -> quoted.append("\\r");
+                case '\t' -> quoted.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        quoted.append("\\u00")
+                                .append(Character.forDigit(c >> 4, 16))
+                                .append(Character.forDigit(c & 15, 16));
+                    } else {
+                        quoted.append(c);
+                    }
+                }
+            }
+        }
+        return quoted.append('"').toString();
+    }
+}
@@ -0,0 +1,125 @@
+// File: scheduler/io/WorkloadFiles.java
+
+package scheduler.io;
+
+import scheduler.models.ProcessTable;
+import scheduler.models.Workload;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Loads workload files for batch runs. Two formats are accepted:
+ * <ul>
+ *     <li>binary workload files (see {@link BinaryWorkloadFormat}), recognized by their magic number
+ *     and memory-mapped;</li>
+ *     <li>text files with one process per line as {@code name,arrivalTime,burstTime,priority}. Blank lines,
+ *     lines starting with {@code #} and a header line whose arrival field is not a number are skipped.</li>
+ * </ul>
+ */
+public final class WorkloadFiles {
+
+    private WorkloadFiles() {
+        // Utility class
+    }
+
+    /**
+     * Loads a workload file in either format.
+     *
+     * @param file The workload file.
+     * @return The workload.
+     * @throws IOException If the file cannot be read or is malformed.
+     */
+    public static Workload load(Path file) throws IOException {
+        if (isBinary(file)) {
+            return MappedWorkload.open(file);
+        }
+        return readCsv(file);
+    }
+
+    /**
+     * @param file The workload file.
+     * @return True if the file starts with the binary workload magic number.
+     * @throws IOException If the file cannot be read.
+     */
+    private static boolean isBinary(Path file) throws IOException {
+        try (InputStream in = Files.newInputStream(file)) {
+            byte[] magic = in.readNBytes(4);
+            if (magic.length < 4) {
+                return false;
+            }
+            int value = (magic[0] & 0xFF) | (magic[1] & 0xFF) << 8 | (magic[2] & 0xFF) << 16 | (magic[3] & 0xFF) << 24;
+            return value == BinaryWorkloadFormat.WORKLOAD_MAGIC;
+        }
+    }
+
+    /**
+     * Reads a text workload file into a process table.
+     *
+     * @param file The text workload file.
+     * @return A table with one row per process line.
+     * @throws IOException If the file cannot be read or a line is malformed.
+     */
+    public static ProcessTable readCsv(Path file) throws IOException {
+        ProcessTable table = new ProcessTable(1024);
+        try (BufferedReader reader = Files.newBufferedReader(file)) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                line = line.trim();
+                if (line.isEmpty() || line.charAt(0) == '#') {
+                    continue;
+                }
+
+                // Split into exactly four fields without regular expressions.
+                String[] fields = new String[4];
+                int from = 0;
+                for (int field = 0; field < 4; field++) {
+                    int comma = field < 3 ? line.indexOf(',', from) : line.length();
+                    if (comma < 0) {
+                        throw new IOException(file + ":" + lineNumber
+                                + ": expected name,arrivalTime,burstTime,priority");
+                    }
+                    fields[field] = line.substring(from, comma).trim();
+                    from = comma + 1;
+                }
+                if (fields[3].indexOf(',') >= 0) {
+                    throw new IOException(file + ":" + lineNumber + ": too many fields");
+                }
+
+                // A first line with a non-numeric arrival time is a header.
+                if (table.size() == 0 && !isInteger(fields[1])) {
+                    continue;
+                }
+                try {
+                    table.add(fields[0], Integer.parseInt(fields[1]), Integer.parseInt(fields[2]),
+                            Integer.parseInt(fields[3]));
+                } catch (NumberFormatException e) {
+                    throw new IOException(file + ":" + lineNumber + ": " + e.getMessage(), e);
+                }
+            }
+        }
+        return table;
+    }
+
+    /**
+     * @param text Text to check.
+     * @return True if the text is an optionally signed decimal integer.
+     */
+    private static boolean isInteger(String text) {
+        int start = text.startsWith("-") || text.startsWith("+") ? 1 : 0;
+        if (start == text.length()) {
+            return false;
+        }
+        for (int i = start; i < text.length(); i++) {
+            if (text.charAt(i) < '0' || text.charAt(i) > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,146 @@
+// File: scheduler/metrics/LogHistogram.java
+
+package scheduler.metrics;
+
+import java.util.Arrays;
+
+/**
+ * Fixed-memory histogram of non-negative long values with logarithmic buckets, in the style of
+ * HdrHistogram. Values below 2^{@value #PRECISION_BITS} are counted exactly; larger values share
+ * buckets whose width grows with the value, so every recorded value is within 1/2^({@value #PRECISION_BITS} - 1)
+ * (under 0.8%) of the value reported for its bucket. Recording is O(1) and allocation-free, and two
+ * histograms can be merged by adding their bucket counts.
+ */
+public final class LogHistogram {
+    private static final int PRECISION_BITS = 8; // Mantissa bits kept per value
+    private static final int EXACT = 1 << PRECISION_BITS; // Values below this have their own bucket
+    private static final int HALF = EXACT >>> 1; // Buckets per power of two above EXACT
+    private static final int BUCKETS = EXACT + (64 - PRECISION_BITS) * HALF; // Covers every non-negative long
+
+    private final long[] counts = new long[BUCKETS]; // Number of values in each bucket
+    private long count; // Number of recorded values
+    private double sum; // Sum of recorded values
+    private long min = Long.MAX_VALUE; // Smallest recorded value
+    private long max; // Largest recorded value
+
+    /**
+     * Records a value.
+     *
+     * @param value Value to record (must not be negative).
+     */
+    public void record(long value) {
+        if (value < 0) {
+            throw new IllegalArgumentException("Histogram values must not be negative: " + value);
+        }
+        counts[bucketOf(value)]++;
+        count++;
+        sum += value;
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+    }
+
+    /**
+     * Adds every value recorded in another histogram to this one.
+     *
+     * @param other The histogram to merge in.
+     */
+    public void merge(LogHistogram other) {
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] += other.counts[i];
+        }
+        count += other.count;
+        sum += other.sum;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+    }
+
+    /**
+     * Removes every recorded value.
+     */
+    public void reset() {
+        Arrays.fill(counts, 0);
+        count = 0;
+        sum = 0;
+        min = Long.MAX_VALUE;
+        max = 0;
+    }
+
+    /**
+     * @param value A non-negative value.
+     * @return Index of the bucket holding the value.
+     */
+    private static int bucketOf(long value) {
+        if (value < EXACT) {
+            return (int) value;
+        }
+        int shift = 64 - Long.numberOfLeadingZeros(value) - PRECISION_BITS; // >= 1
+        int mantissa = (int) (value >>> shift); // In [HALF, EXACT)
+        return EXACT + (shift - 1) * HALF + (mantissa - HALF);
+    }
+
+    /**
+     * @param bucket Bucket index.
+     * @return Largest value that falls into the bucket.
+     */
+    private static long highestValueOf(int bucket) {
+        if (bucket < EXACT) {
+            return bucket;
+        }
+        int shift = (bucket - EXACT) / HALF + 1;
+        long mantissa = HALF + (bucket - EXACT) % HALF;
+        return ((mantissa + 1) << shift) - 1;
+    }
+
+    /**
+     * @return Number of recorded values.
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * @return Exact mean of the recorded values (0 if none).
+     */
+    public double getMean() {
+        return count == 0 ? 0 : sum / count;
+    }
+
+    /**
+     * @return Exact smallest recorded value (0 if none).
+     */
+    public long getMin() {
+        return count == 0 ? 0 : min;
+    }
+
+    /**
+     * @return Exact largest recorded value (0 if none).
+     */
+    public long getMax() {
+        return max;
+    }
+
+    /**
+     * Returns a percentile using the nearest-rank method: the smallest bucket value that at least
+     * {@code percentile}% of the recorded values do not exceed, capped at the exact maximum.
+     *
+     * @param percentile Percentile in (0, 100].
+     * @return The percentile value (0 if no values were recorded).
+     */
+    public long getPercentile(double percentile) {
+        if (percentile <= 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile must be in (0, 100]: " + percentile);
+        }
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(highestValueOf(i), max);
+            }
+        }
+        return max;
+    }
+}
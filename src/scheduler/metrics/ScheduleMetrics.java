@@ -0,0 +1,160 @@
+// File: scheduler/metrics/ScheduleMetrics.java
+
+package scheduler.metrics;
+
+/**
+ * Incremental summary of a schedule: waiting, turnaround and response time distributions, throughput
+ * and CPU utilization. Schedulers update it as processes are first dispatched and as they complete,
+ * so memory stays fixed no matter how many processes run. Aggregators of separate runs (for example,
+ * shards of one workload scheduled in parallel) can be combined with {@link #merge}.
+ * <p>
+ * Response time is start time minus arrival time, turnaround time is completion time minus arrival
+ * time, and waiting time is turnaround time minus burst time.
+ */
+public final class ScheduleMetrics {
+    private final LogHistogram waitingTimes = new LogHistogram(); // Waiting time of each completed process
+    private final LogHistogram turnaroundTimes = new LogHistogram(); // Turnaround time of each completed process
+    private final LogHistogram responseTimes = new LogHistogram(); // Response time of each started process
+    private long busyTime; // Total burst time of completed processes
+    private long firstArrival = Long.MAX_VALUE; // Earliest arrival of a completed process
+    private long lastCompletion = Long.MIN_VALUE; // Latest completion time
+
+    /**
+     * Records the first dispatch of a process.
+     *
+     * @param arrivalTime Arrival time of the process.
+     * @param startTime   Time the process first ran.
+     */
+    public void recordStart(long arrivalTime, long startTime) {
+        responseTimes.record(startTime - arrivalTime);
+    }
+
+    /**
+     * Records the completion of a process.
+     *
+     * @param arrivalTime    Arrival time of the process.
+     * @param burstTime      Execution time of the process.
+     * @param completionTime Time the process finished.
+     */
+    public void recordCompletion(long arrivalTime, long burstTime, long completionTime) {
+        long turnaround = completionTime - arrivalTime;
+        turnaroundTimes.record(turnaround);
+        waitingTimes.record(turnaround - burstTime);
+        busyTime += burstTime;
+        firstArrival = Math.min(firstArrival, arrivalTime);
+        lastCompletion = Math.max(lastCompletion, completionTime);
+    }
+
+    /**
+     * Adds everything recorded by another aggregator to this one.
+     *
+     * @param other The aggregator to merge in.
+     */
+    public void merge(ScheduleMetrics other) {
+        waitingTimes.merge(other.waitingTimes);
+        turnaroundTimes.merge(other.turnaroundTimes);
+        responseTimes.merge(other.responseTimes);
+        busyTime += other.busyTime;
+        firstArrival = Math.min(firstArrival, other.firstArrival);
+        lastCompletion = Math.max(lastCompletion, other.lastCompletion);
+    }
+
+    /**
+     * Clears everything recorded so far.
+     */
+    public void reset() {
+        waitingTimes.reset();
+        turnaroundTimes.reset();
+        responseTimes.reset();
+        busyTime = 0;
+        firstArrival = Long.MAX_VALUE;
+        lastCompletion = Long.MIN_VALUE;
+    }
+
+    /**
+     * @return Number of completed processes.
+     */
+    public long getCompleted() {
+        return turnaroundTimes.getCount();
+    }
+
+    /**
+     * @return Distribution of waiting times.
+     */
+    public LogHistogram getWaitingTimes() {
+        return waitingTimes;
+    }
+
+    /**
+     * @return Distribution of turnaround times.
+     */
+    public LogHistogram getTurnaroundTimes() {
+        return turnaroundTimes;
+    }
+
+    /**
+     * @return Distribution of response times.
+     */
+    public LogHistogram getResponseTimes() {
+        return responseTimes;
+    }
+
+    /**
+     * @return Time from the first arrival to the last completion (0 if nothing completed).
+     */
+    public long getSpan() {
+        return getCompleted() == 0 ? 0 : lastCompletion - firstArrival;
+    }
+
+    /**
+     * @return Completed processes per time unit over the span (0 if the span is empty).
+     */
+    public double getThroughput() {
+        long span = getSpan();
+        return span == 0 ? 0 : (double) getCompleted() / span;
+    }
+
+    /**
+     * @return Fraction of the span the CPU was busy (0 if the span is empty). Merged aggregators of
+     * runs on separate CPUs can exceed 1.
+     */
+    public double getUtilization() {
+        long span = getSpan();
+        return span == 0 ? 0 : (double) busyTime / span;
+    }
+
+    /**
+     * Formats the summary as a small text table.
+     *
+     * @return The summary, one line per distribution plus a throughput/utilization line.
+     */
+    public String summary() {
+        StringBuilder text = new StringBuilder();
+        text.append(String.format("%-12s %12s %10s %10s %10s %10s %10s%n",
+                "Metric", "Mean", "p50", "p90", "p99", "p99.9", "Max"));
+        appendRow(text, "Waiting", waitingTimes);
+        appendRow(text, "Turnaround", turnaroundTimes);
+        appendRow(text, "Response", responseTimes);
+        text.append(String.format("Processes: %d, throughput: %.4f per time unit, CPU utilization: %.1f%%%n",
+                getCompleted(), getThroughput(), 100 * getUtilization()));
+        return text.toString();
+    }
+
+    /**
+     * Appends one distribution's row to the summary.
+     *
+     * @param text      Summary being built.
+     * @param label     Name of the distribution.
+     * @param histogram The distribution.
+     */
+    private static void appendRow(StringBuilder text, String label, LogHistogram histogram) {
+        text.append(String.format("%-12s %12.2f %10d %10d %10d %10d %10d%n", label, histogram.getMean(),
+                histogram.getPercentile(50), histogram.getPercentile(90), histogram.getPercentile(99),
+                histogram.getPercentile(99.9), histogram.getMax()));
+    }
+
+    @Override
+    public String toString() {
+        return summary();
+    }
+}
@@ -0,0 +1,116 @@
+// File: scheduler/models/LaneIndex.java
+
+package scheduler.models;
+
+/**
+ * Execution segments regrouped by row ("lane"), for drawing one timeline lane at a time.
+ * <p>
+ * A {@link SegmentLog} is ordered by start time across all rows; this index copies it into two flat
+ * arrays grouped by row with a counting sort, so each lane's segments are contiguous and still in start
+ * order. Lane {@code l} owns the segment indices {@code [getFirst(l), getFirst(l + 1))}.
+ */
+public final class LaneIndex {
+    private final int lanes; // Number of lanes
+    private final int[] laneOffsets; // Index of each lane's first segment in the arrays below
+    private final long[] starts; // Segment start times, grouped by lane and sorted within it
+    private final long[] ends; // Segment end times, grouped by lane and sorted within it
+    private final long endTime; // Time the last segment ends
+
+    /**
+     * Constructor for LaneIndex.
+     *
+     * @param segments Segments whose rows are lane indices.
+     * @param lanes    Number of lanes (every segment row must be below it).
+     */
+    public LaneIndex(SegmentLog segments, int lanes) {
+        int count = segments.size();
+        this.lanes = lanes;
+
+        // Step 1: Count the segments of each lane and turn the counts into offsets.
+        laneOffsets = new int[lanes + 1];
+        for (int i = 0; i < count; i++) {
+            laneOffsets[segments.getRow(i) + 1]++;
+        }
+        for (int lane = 0; lane < lanes; lane++) {
+            laneOffsets[lane + 1] += laneOffsets[lane];
+        }
+
+        // Step 2: Scatter the segments into their lanes (stable, so each lane stays in start order).
+        int[] fill = new int[lanes];
+        starts = new long[count];
+        ends = new long[count];
+        for (int i = 0; i < count; i++) {
+            int lane = segments.getRow(i);
+            int slot = laneOffsets[lane] + fill[lane]++;
+            starts[slot] = segments.getStart(i);
+            ends[slot] = segments.getEnd(i);
+        }
+        endTime = segments.getEndTime();
+    }
+
+    /**
+     * @return Number of lanes.
+     */
+    public int getLanes() {
+        return lanes;
+    }
+
+    /**
+     * @return Number of segments.
+     */
+    public int size() {
+        return starts.length;
+    }
+
+    /**
+     * @param lane Lane index, or the lane count for the end of the last lane.
+     * @return Index of the lane's first segment (equal to the next lane's if the lane is empty).
+     */
+    public int getFirst(int lane) {
+        return laneOffsets[lane];
+    }
+
+    /**
+     * @param index Segment index.
+     * @return Start time of the segment.
+     */
+    public long getStart(int index) {
+        return starts[index];
+    }
+
+    /**
+     * @param index Segment index.
+     * @return End time of the segment.
+     */
+    public long getEnd(int index) {
+        return ends[index];
+    }
+
+    /**
+     * @return Time the last segment ends (0 if there are none).
+     */
+    public long getEndTime() {
+        return endTime;
+    }
+
+    /**
+     * Finds by binary search the first segment of a lane ending after a time.
+     *
+     * @param lane Lane index.
+     * @param time The time.
+     * @return Index of the segment, or {@code getFirst(lane + 1)} if none.
+     */
+    public int firstEndingAfter(int lane, double time) {
+        int low = laneOffsets[lane];
+        int high = laneOffsets[lane + 1];
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (ends[mid] <= time) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
@@ -0,0 +1,300 @@
+// File: scheduler/models/ProcessTable.java
+
+package scheduler.models;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Column-oriented (struct-of-arrays) storage for a set of processes.
+ * Each process is a row; its attributes live in parallel primitive arrays instead of
+ * separate {@link Process} objects, which keeps memory per process small and scans cache-friendly.
+ * Names are interned: each distinct name is stored once and rows refer to it by id.
+ * A table is both the {@link Workload} a scheduler reads and the {@link ScheduleResults} it writes.
+ */
+public class ProcessTable implements Workload, ScheduleResults {
+    private static final int NO_NAME = -1; // Name id of rows without an explicit name.
+
+    private int size; // Number of rows in use.
+    private int[] nameIds; // Index into names, or NO_NAME
+    private int[] arrivalTimes; // Time at which each process arrives
+    private int[] burstTimes; // Total execution time required by each process
+    private int[] priorities; // Priority of each process (lower value indicates higher priority)
+    private int[] remainingTimes; // Remaining execution time (for algorithms like Round Robin)
+    private long[] startTimes; // Time when each process starts execution
+    private long[] completionTimes; // Time when each process finishes execution
+    private long[] turnaroundTimes; // completionTime - arrivalTime
+    private long[] waitingTimes; // turnaroundTime - burstTime
+
+    private final List<String> names = new ArrayList<>(); // Distinct names, indexed by name id
+    private final Map<String, Integer> nameIndex = new HashMap<>(); // Name to name id
+
+    /**
+     * Constructor for an empty table.
+     *
+     * @param capacity Number of rows to allocate up front.
+     */
+    public ProcessTable(int capacity) {
+        int initial = Math.max(1, capacity);
+        nameIds = new int[initial];
+        arrivalTimes = new int[initial];
+        burstTimes = new int[initial];
+        priorities = new int[initial];
+        remainingTimes = new int[initial];
+        startTimes = new long[initial];
+        completionTimes = new long[initial];
+        turnaroundTimes = new long[initial];
+        waitingTimes = new long[initial];
+    }
+
+    /**
+     * Builds a table holding the attributes of the given processes, one row per process in list order.
+     *
+     * @param processes List of processes to copy.
+     * @return A new table.
+     */
+    public static ProcessTable from(List<Process> processes) {
+        ProcessTable table = new ProcessTable(processes.size());
+        for (Process process : processes) {
+            int row = table.add(process.getName(), process.getArrivalTime(), process.getBurstTime(), process.getPriority());
+            table.remainingTimes[row] = process.getRemainingTime();
+            table.startTimes[row] = process.getStartTime();
+            table.completionTimes[row] = process.getCompletionTime();
+            table.turnaroundTimes[row] = process.getTurnaroundTime();
+            table.waitingTimes[row] = process.getWaitingTime();
+        }
+        return table;
+    }
+
+    /**
+     * Appends a process to the table.
+     *
+     * @param name        Name or identifier of the process (null for a generated "P&lt;row+1&gt;" name).
+     * @param arrivalTime Time at which the process arrives in the system.
+     * @param burstTime   Total execution time required by the process.
+     * @param priority    Priority of the process (lower value indicates higher priority).
+     * @return The row of the new process.
+     */
+    public int add(String name, int arrivalTime, int burstTime, int priority) {
+        if (size == arrivalTimes.length) {
+            grow();
+        }
+        int row = size++;
+        nameIds[row] = name == null ? NO_NAME : intern(name);
+        arrivalTimes[row] = arrivalTime;
+        burstTimes[row] = burstTime;
+        priorities[row] = priority;
+        remainingTimes[row] = burstTime;
+        return row;
+    }
+
+    /**
+     * @return Number of processes in the table.
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    // ----------- Getters and Setters -----------
+
+    /**
+     * @param row Row of the process.
+     * @return Name or identifier of the process.
+     */
+    @Override
+    public String getName(int row) {
+        int id = nameIds[row];
+        return id == NO_NAME ? "P" + (row + 1) : names.get(id);
+    }
+
+    /**
+     * @param row Row of the process.
+     * @return Arrival time of the process.
+     */
+    @Override
+    public int getArrivalTime(int row) {
+        return arrivalTimes[row];
+    }
+
+    /**
+     * @param row Row of the process.
+     * @return Total execution time required by the process.
+     */
+    @Override
+    public int getBurstTime(int row) {
+        return burstTimes[row];
+    }
+
+    /**
+     * @param row Row of the process.
+     * @return Priority of the process (used in priority scheduling).
+     */
+    @Override
+    public int getPriority(int row) {
+        return priorities[row];
+    }
+
+    /**
+     * @param row Row of the process.
+     * @return Remaining execution time for the process (for Round Robin or similar algorithms).
+     */
+    public int getRemainingTime(int row) {
+        return remainingTimes[row];
+    }
+
+    /**
+     * Sets the remaining execution time.
+     *
+     * @param row           Row of the process.
+     * @param remainingTime Updated remaining time.
+     */
+    public void setRemainingTime(int row, int remainingTime) {
+        remainingTimes[row] = remainingTime;
+    }
+
+    /**
+     * @param row Row of the process.
+     * @return Start time of the process.
+     */
+    public long getStartTime(int row) {
+        return startTimes[row];
+    }
+
+    /**
+     * Sets the start time for the process.
+     *
+     * @param row       Row of the process.
+     * @param startTime Time when the process starts execution.
+     */
+    @Override
+    public void setStartTime(int row, long startTime) {
+        startTimes[row] = startTime;
+    }
+
+    /**
+     * @param row Row of the process.
+     * @return Completion time of the process.
+     */
+    public long getCompletionTime(int row) {
+        return completionTimes[row];
+    }
+
+    /**
+     * Sets the completion time for the process and derives its turnaround and waiting times.
+     * A completed process has no remaining time.
+     *
+     * @param row            Row of the process.
+     * @param completionTime Time when the process finishes execution.
+     */
+    @Override
+    public void setCompletionTime(int row, long completionTime) {
+        completionTimes[row] = completionTime;
+        remainingTimes[row] = 0;
+        turnaroundTimes[row] = completionTime - arrivalTimes[row];
+        waitingTimes[row] = turnaroundTimes[row] - burstTimes[row];
+    }
+
+    /**
+     * @param row Row of the process.
+     * @return Turnaround time of the process (completionTime - arrivalTime).
+     */
+    public long getTurnaroundTime(int row) {
+        return turnaroundTimes[row];
+    }
+
+    /**
+     * @param row Row of the process.
+     * @return Waiting time of the process (turnaroundTime - burstTime).
+     */
+    public long getWaitingTime(int row) {
+        return waitingTimes[row];
+    }
+
+    // ----------- Bulk operations -----------
+
+    /**
+     * Creates a standalone {@link Process} holding a copy of one row.
+     *
+     * @param row Row of the process.
+     * @return A new Process with the row's attributes and scheduling metrics.
+     */
+    public Process toProcess(int row) {
+        Process process = new Process(getName(row), arrivalTimes[row], burstTimes[row], priorities[row]);
+        copyTo(row, process);
+        return process;
+    }
+
+    /**
+     * Writes the scheduling metrics of one row into an existing {@link Process}.
+     *
+     * @param row     Row of the process.
+     * @param process Process to update.
+     */
+    public void copyTo(int row, Process process) {
+        process.setRemainingTime(remainingTimes[row]);
+        process.setStartTime(Math.toIntExact(startTimes[row]));
+        process.setCompletionTime(Math.toIntExact(completionTimes[row]));
+        process.setTurnaroundTime(Math.toIntExact(turnaroundTimes[row]));
+        process.setWaitingTime(Math.toIntExact(waitingTimes[row]));
+    }
+
+    /**
+     * Returns a read-only list view of the table. Each {@code get} builds a fresh
+     * {@link Process} from the row, so the view itself holds no per-process objects.
+     *
+     * @return A list of processes backed by this table.
+     */
+    public List<Process> asProcessList() {
+        return new AbstractList<>() {
+            @Override
+            public Process get(int row) {
+                if (row < 0 || row >= size) {
+                    throw new IndexOutOfBoundsException("Row " + row + " out of bounds for size " + size);
+                }
+                return toProcess(row);
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    /**
+     * Returns the id of a name, adding it to the dictionary if it is new.
+     *
+     * @param name Name to intern.
+     * @return The name id.
+     */
+    private int intern(String name) {
+        Integer id = nameIndex.get(name);
+        if (id == null) {
+            id = names.size();
+            names.add(name);
+            nameIndex.put(name, id);
+        }
+        return id;
+    }
+
+    /**
+     * Grows every column by half of its current capacity.
+     */
+    private void grow() {
+        int capacity = arrivalTimes.length + Math.max(16, arrivalTimes.length >> 1);
+        nameIds = Arrays.copyOf(nameIds, capacity);
+        arrivalTimes = Arrays.copyOf(arrivalTimes, capacity);
+        burstTimes = Arrays.copyOf(burstTimes, capacity);
+        priorities = Arrays.copyOf(priorities, capacity);
+        remainingTimes = Arrays.copyOf(remainingTimes, capacity);
+        startTimes = Arrays.copyOf(startTimes, capacity);
+        completionTimes = Arrays.copyOf(completionTimes, capacity);
+        turnaroundTimes = Arrays.copyOf(turnaroundTimes, capacity);
+        waitingTimes = Arrays.copyOf(waitingTimes, capacity);
+    }
+}
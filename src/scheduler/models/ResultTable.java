@@ -0,0 +1,239 @@
+// File: scheduler/models/ResultTable.java
+
+package scheduler.models;
+
+import scheduler.metrics.ScheduleMetrics;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Column-oriented scheduling metrics for one run over a {@link Workload}.
+ * Keeping results separate from the workload lets several schedulers run on the same
+ * read-only workload at once, each writing only into its own result table.
+ */
+public class ResultTable implements ScheduleResults {
+    private final Workload workload; // Workload the results belong to
+    private final long[] startTimes; // Time when each process starts execution
+    private final long[] completionTimes; // Time when each process finishes execution
+    private final long[] turnaroundTimes; // completionTime - arrivalTime
+    private final long[] waitingTimes; // turnaroundTime - burstTime
+    private final SegmentLog segments = new SegmentLog(); // Execution segments, if the scheduler recorded them
+    private final ScheduleMetrics metrics = new ScheduleMetrics(); // Summary, if the scheduler collected it
+
+    /**
+     * Constructor for ResultTable.
+     *
+     * @param workload Workload whose results will be recorded.
+     */
+    public ResultTable(Workload workload) {
+        int count = workload.size();
+        this.workload = workload;
+        this.startTimes = new long[count];
+        this.completionTimes = new long[count];
+        this.turnaroundTimes = new long[count];
+        this.waitingTimes = new long[count];
+    }
+
+    @Override
+    public void setStartTime(int row, long startTime) {
+        startTimes[row] = startTime;
+    }
+
+    @Override
+    public void setCompletionTime(int row, long completionTime) {
+        completionTimes[row] = completionTime;
+        turnaroundTimes[row] = completionTime - workload.getArrivalTime(row);
+        waitingTimes[row] = turnaroundTimes[row] - workload.getBurstTime(row);
+    }
+
+    /**
+     * @return The workload the results belong to.
+     */
+    public Workload getWorkload() {
+        return workload;
+    }
+
+    /**
+     * @return Execution segments of the run, by workload row (empty unless the scheduler recorded them).
+     */
+    public SegmentLog getSegments() {
+        return segments;
+    }
+
+    /**
+     * @return Percentile summary of the run (empty unless the scheduler collected it).
+     */
+    public ScheduleMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * @return Number of rows.
+     */
+    public int size() {
+        return startTimes.length;
+    }
+
+    /**
+     * @param row Row of the process.
+     * @return Start time of the process.
+     */
+    public long getStartTime(int row) {
+        return startTimes[row];
+    }
+
+    /**
+     * @param row Row of the process.
+     * @return Completion time of the process.
+     */
+    public long getCompletionTime(int row) {
+        return completionTimes[row];
+    }
+
+    /**
+     * @param row Row of the process.
+     * @return Turnaround time of the process (completionTime - arrivalTime).
+     */
+    public long getTurnaroundTime(int row) {
+        return turnaroundTimes[row];
+    }
+
+    /**
+     * @param row Row of the process.
+     * @return Waiting time of the process (turnaroundTime - burstTime).
+     */
+    public long getWaitingTime(int row) {
+        return waitingTimes[row];
+    }
+
+    /**
+     * @return Average waiting time over all processes (0 for an empty workload).
+     */
+    public double getAverageWaitingTime() {
+        return size() == 0 ? 0 : (double) Arrays.stream(waitingTimes).sum() / size();
+    }
+
+    /**
+     * @return Average turnaround time over all processes (0 for an empty workload).
+     */
+    public double getAverageTurnaroundTime() {
+        return size() == 0 ? 0 : (double) Arrays.stream(turnaroundTimes).sum() / size();
+    }
+
+    /**
+     * @return Time at which the last process completes.
+     */
+    public long getMakespan() {
+        return Arrays.stream(completionTimes).max().orElse(0);
+    }
+
+    /**
+     * Materializes the results as new {@link Process} objects, ordered by start time
+     * (the order in which processes were first dispatched). The objects are not shared
+     * with any other run, so callers may modify them freely.
+     *
+     * @return The scheduled processes.
+     */
+    public List<Process> toProcessList() {
+        List<Process> processes = new ArrayList<>(size());
+        for (int row : rowsInListOrder()) {
+            Process process = new Process(workload.getName(row), workload.getArrivalTime(row),
+                    workload.getBurstTime(row), workload.getPriority(row));
+            process.setRemainingTime(0);
+            process.setStartTime(Math.toIntExact(startTimes[row]));
+            process.setCompletionTime(Math.toIntExact(completionTimes[row]));
+            process.setTurnaroundTime(Math.toIntExact(turnaroundTimes[row]));
+            process.setWaitingTime(Math.toIntExact(waitingTimes[row]));
+            processes.add(process);
+        }
+        return processes;
+    }
+
+    /**
+     * Copies the execution segments with their rows replaced by indices into {@link #toProcessList()}.
+     *
+     * @return A new segment log matching the process list.
+     */
+    public SegmentLog getSegmentsInListOrder() {
+        int[] order = rowsInListOrder();
+        int[] position = new int[order.length];
+        for (int i = 0; i < order.length; i++) {
+            position[order[i]] = i;
+        }
+        SegmentLog copy = segments.copy();
+        copy.remapRows(position);
+        return copy;
+    }
+
+    /**
+     * Sorts the rows by start time, then completion time, then row. Both passes sort primitive keys
+     * holding the time in the high bits and the row in the low bits, so no per-row objects are created.
+     *
+     * @return Rows in the order of {@link #toProcessList()}: by start time, then completion time, then row.
+     */
+    public int[] rowsInListOrder() {
+        int count = size();
+        int[] rows = new int[count];
+        for (int row = 0; row < count; row++) {
+            rows[row] = row;
+        }
+        long[] keys = new long[count];
+        int rowBits = 64 - Long.numberOfLeadingZeros(Math.max(1, count - 1)); // Bits that hold a row
+        sortRows(startTimes, rows, 0, count, rowBits, keys);
+
+        // Rows starting together are ordered by completion time, then row.
+        int runStart = 0;
+        for (int i = 1; i <= count; i++) {
+            if (i == count || startTimes[rows[i]] != startTimes[rows[runStart]]) {
+                if (i - runStart > 1) {
+                    sortRows(completionTimes, rows, runStart, i, rowBits, keys);
+                }
+                runStart = i;
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * Sorts a range of rows by a time column, ties by row. A time is stored as its offset from the
+     * range's minimum, or as its rank among the range's times when the offsets need too many bits.
+     *
+     * @param times   Time of each row.
+     * @param rows    Rows to sort, in place.
+     * @param from    First position of the range.
+     * @param to      End position of the range.
+     * @param rowBits Low bits of a key that hold the row.
+     * @param keys    Scratch array at least as long as the range's end.
+     */
+    private static void sortRows(long[] times, int[] rows, int from, int to, int rowBits, long[] keys) {
+        long min = Long.MAX_VALUE;
+        long max = Long.MIN_VALUE;
+        for (int i = from; i < to; i++) {
+            min = Math.min(min, times[rows[i]]);
+            max = Math.max(max, times[rows[i]]);
+        }
+
+        if (max - min >= 0 && max - min < 1L << (63 - rowBits)) {
+            for (int i = from; i < to; i++) {
+                keys[i] = (times[rows[i]] - min) << rowBits | rows[i];
+            }
+        } else {
+            long[] distinct = new long[to - from];
+            for (int i = from; i < to; i++) {
+                distinct[i - from] = times[rows[i]];
+            }
+            Arrays.sort(distinct);
+            for (int i = from; i < to; i++) {
+                keys[i] = (long) Arrays.binarySearch(distinct, times[rows[i]]) << rowBits | rows[i];
+            }
+        }
+        Arrays.sort(keys, from, to);
+
+        long rowMask = (1L << rowBits) - 1;
+        for (int i = from; i < to; i++) {
+            rows[i] = (int) (keys[i] & rowMask);
+        }
+    }
+}
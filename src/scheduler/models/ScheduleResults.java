@@ -0,0 +1,26 @@
+// File: scheduler/models/ScheduleResults.java
+
+package scheduler.models;
+
+/**
+ * Row-indexed destination for the metrics a scheduler computes.
+ * Implementations derive turnaround and waiting time from the completion time.
+ */
+public interface ScheduleResults {
+
+    /**
+     * Sets the start time for a process.
+     *
+     * @param row       Row of the process.
+     * @param startTime Time when the process starts execution.
+     */
+    void setStartTime(int row, long startTime);
+
+    /**
+     * Sets the completion time for a process and derives its turnaround and waiting times.
+     *
+     * @param row            Row of the process.
+     * @param completionTime Time when the process finishes execution.
+     */
+    void setCompletionTime(int row, long completionTime);
+}
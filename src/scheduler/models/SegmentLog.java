@@ -0,0 +1,249 @@
+// File: scheduler/models/SegmentLog.java
+
+package scheduler.models;
+
+import java.util.Arrays;
+
+/**
+ * Compact, append-only log of execution segments: which row held a CPU from which time to which time.
+ * <p>
+ * Each segment is packed into two longs (start time; row in the high 32 bits and length in the low 32 bits)
+ * and stored in fixed-size chunks, so growing the log never copies recorded segments. A segment that
+ * continues the previous one for the same row (its start equals the previous end) is merged into it.
+ * Segments must be appended in non-decreasing start order, which lets time-range queries start with a
+ * binary search. Iteration goes through a {@link SegmentVisitor} and allocates nothing.
+ */
+public final class SegmentLog {
+    private static final int CHUNK_SHIFT = 12; // log2 of the segments per chunk
+    private static final int CHUNK_SEGMENTS = 1 << CHUNK_SHIFT; // Segments per chunk
+    private static final int CHUNK_MASK = CHUNK_SEGMENTS - 1;
+    private static final long MAX_LENGTH = 0xFFFF_FFFFL; // Longest segment a single entry can hold
+
+    /**
+     * Receives segments during iteration.
+     */
+    @FunctionalInterface
+    public interface SegmentVisitor {
+        /**
+         * @param row   Row that held the CPU.
+         * @param start Time the segment started.
+         * @param end   Time the segment ended.
+         */
+        void visit(int row, long start, long end);
+    }
+
+    private long[][] chunks = new long[8][]; // Chunk directory; each chunk holds CHUNK_SEGMENTS pairs
+    private int size; // Number of segments
+    private long maxLength; // Length of the longest segment
+    private boolean endsSorted = true; // True while segment ends are non-decreasing (no overlaps)
+
+    /**
+     * Appends a segment, merging it into the previous one when it continues the same row.
+     * Empty segments are ignored.
+     *
+     * @param row   Row that held the CPU.
+     * @param start Time the segment started.
+     * @param end   Time the segment ended.
+     * @throws IllegalArgumentException If the segment starts before the previous one.
+     */
+    public void append(int row, long start, long end) {
+        if (end <= start) {
+            return;
+        }
+        if (size > 0) {
+            int last = size - 1;
+            long lastStart = getStart(last);
+            if (start < lastStart) {
+                throw new IllegalArgumentException("Segments must be appended in start order: "
+                        + start + " after " + lastStart);
+            }
+            long lastEnd = getEnd(last);
+            if (getRow(last) == row && start == lastEnd && end - lastStart <= MAX_LENGTH) {
+                write(last, lastStart, row, end - lastStart);
+                return;
+            }
+            if (end < lastEnd) {
+                endsSorted = false;
+            }
+        }
+
+        // Split segments too long for one entry.
+        while (end - start > MAX_LENGTH) {
+            add(row, start, MAX_LENGTH);
+            start += MAX_LENGTH;
+        }
+        add(row, start, end - start);
+    }
+
+    /**
+     * Adds a new entry at the end of the log, allocating a new chunk if needed.
+     *
+     * @param row    Row that held the CPU.
+     * @param start  Time the segment started.
+     * @param length Length of the segment.
+     */
+    private void add(int row, long start, long length) {
+        int chunk = size >>> CHUNK_SHIFT;
+        if (chunk == chunks.length) {
+            chunks = Arrays.copyOf(chunks, chunks.length * 2);
+        }
+        if (chunks[chunk] == null) {
+            chunks[chunk] = new long[2 * CHUNK_SEGMENTS];
+        }
+        write(size++, start, row, length);
+    }
+
+    /**
+     * Overwrites the entry at an index.
+     *
+     * @param index  Segment index.
+     * @param start  Time the segment started.
+     * @param row    Row that held the CPU.
+     * @param length Length of the segment.
+     */
+    private void write(int index, long start, int row, long length) {
+        long[] chunk = chunks[index >>> CHUNK_SHIFT];
+        int offset = 2 * (index & CHUNK_MASK);
+        chunk[offset] = start;
+        chunk[offset + 1] = ((long) row << 32) | length;
+        maxLength = Math.max(maxLength, length);
+    }
+
+    /**
+     * @return Number of segments in the log.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @param index Segment index, in start order.
+     * @return Row that held the CPU.
+     */
+    public int getRow(int index) {
+        return (int) (chunks[index >>> CHUNK_SHIFT][2 * (index & CHUNK_MASK) + 1] >>> 32);
+    }
+
+    /**
+     * @param index Segment index, in start order.
+     * @return Time the segment started.
+     */
+    public long getStart(int index) {
+        return chunks[index >>> CHUNK_SHIFT][2 * (index & CHUNK_MASK)];
+    }
+
+    /**
+     * @param index Segment index, in start order.
+     * @return Time the segment ended.
+     */
+    public long getEnd(int index) {
+        long[] chunk = chunks[index >>> CHUNK_SHIFT];
+        int offset = 2 * (index & CHUNK_MASK);
+        return chunk[offset] + (chunk[offset + 1] & MAX_LENGTH);
+    }
+
+    /**
+     * @return Time the last segment ended, or 0 if the log is empty.
+     */
+    public long getEndTime() {
+        if (endsSorted) {
+            return size == 0 ? 0 : getEnd(size - 1);
+        }
+        long end = 0;
+        for (int i = 0; i < size; i++) {
+            end = Math.max(end, getEnd(i));
+        }
+        return end;
+    }
+
+    /**
+     * Visits every segment in start order.
+     *
+     * @param visitor Receives each segment.
+     */
+    public void forEach(SegmentVisitor visitor) {
+        for (int i = 0; i < size; i++) {
+            visitor.visit(getRow(i), getStart(i), getEnd(i));
+        }
+    }
+
+    /**
+     * Visits, in start order, every segment overlapping the half-open interval [from, to).
+     *
+     * @param from    Start of the interval.
+     * @param to      End of the interval.
+     * @param visitor Receives each overlapping segment.
+     */
+    public void forEachInRange(long from, long to, SegmentVisitor visitor) {
+        for (int i = firstOverlapping(from); i < size; i++) {
+            long start = getStart(i);
+            if (start >= to) {
+                break;
+            }
+            long end = getEnd(i);
+            if (end > from) {
+                visitor.visit(getRow(i), start, end);
+            }
+        }
+    }
+
+    /**
+     * Finds by binary search the first segment that may end after a time. When no segments overlap,
+     * ends are sorted and the search is exact; otherwise it is bounded by the longest segment.
+     *
+     * @param time The time.
+     * @return Index of the first segment that can end after the time (size if none).
+     */
+    public int firstOverlapping(long time) {
+        int low = 0;
+        int high = size;
+        long threshold = endsSorted ? time : time - maxLength;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            long value = endsSorted ? getEnd(mid) : getStart(mid);
+            if (value <= threshold) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Replaces every row number through a mapping, e.g. after the rows have been reordered.
+     *
+     * @param newRow New row number of each old row.
+     */
+    public void remapRows(int[] newRow) {
+        for (int i = 0; i < size; i++) {
+            long[] chunk = chunks[i >>> CHUNK_SHIFT];
+            int offset = 2 * (i & CHUNK_MASK) + 1;
+            chunk[offset] = ((long) newRow[(int) (chunk[offset] >>> 32)] << 32) | (chunk[offset] & MAX_LENGTH);
+        }
+    }
+
+    /**
+     * @return An independent copy of this log.
+     */
+    public SegmentLog copy() {
+        SegmentLog copy = new SegmentLog();
+        copy.chunks = new long[chunks.length][];
+        for (int c = 0; c < chunks.length && chunks[c] != null; c++) {
+            copy.chunks[c] = chunks[c].clone();
+        }
+        copy.size = size;
+        copy.maxLength = maxLength;
+        copy.endsSorted = endsSorted;
+        return copy;
+    }
+
+    /**
+     * Removes every segment, keeping the allocated chunks for reuse.
+     */
+    public void clear() {
+        size = 0;
+        maxLength = 0;
+        endsSorted = true;
+    }
+}
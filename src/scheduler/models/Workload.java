@@ -0,0 +1,62 @@
+// File: scheduler/models/Workload.java
+
+package scheduler.models;
+
+import java.util.Arrays;
+
+/**
+ * Read-only, row-indexed view of the processes a scheduler consumes.
+ * Implemented by the in-memory {@link ProcessTable} and by file-backed workloads,
+ * so schedulers can run on either without copying.
+ */
+public interface Workload {
+
+    /**
+     * @return Number of processes in the workload.
+     */
+    int size();
+
+    /**
+     * @param row Row of the process.
+     * @return Name or identifier of the process.
+     */
+    String getName(int row);
+
+    /**
+     * @param row Row of the process.
+     * @return Arrival time of the process.
+     */
+    int getArrivalTime(int row);
+
+    /**
+     * @param row Row of the process.
+     * @return Total execution time required by the process.
+     */
+    int getBurstTime(int row);
+
+    /**
+     * @param row Row of the process.
+     * @return Priority of the process (lower value indicates higher priority).
+     */
+    int getPriority(int row);
+
+    /**
+     * Returns all rows sorted by arrival time. The sort is stable, so rows that arrive
+     * together keep their workload order. Runs on packed primitive keys without boxing.
+     *
+     * @return Row numbers in arrival order.
+     */
+    default int[] rowsByArrival() {
+        int size = size();
+        long[] keys = new long[size];
+        for (int row = 0; row < size; row++) {
+            keys[row] = ((long) getArrivalTime(row) << 32) | row;
+        }
+        Arrays.sort(keys);
+        int[] rows = new int[size];
+        for (int i = 0; i < size; i++) {
+            rows[i] = (int) keys[i];
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,103 @@
+// File: scheduler/models/WorkloadSnapshot.java
+
+package scheduler.models;
+
+import java.util.List;
+
+/**
+ * Immutable copy of a workload's inputs (name, arrival time, burst time, priority).
+ * A snapshot can be shared by any number of schedulers running concurrently,
+ * because nothing in it is ever written after construction.
+ */
+public final class WorkloadSnapshot implements Workload {
+    private final String[] names; // Name of each process
+    private final int[] arrivalTimes; // Arrival time of each process
+    private final int[] burstTimes; // Burst time of each process
+    private final int[] priorities; // Priority of each process
+
+    /**
+     * Constructor for WorkloadSnapshot; takes ownership of the arrays.
+     *
+     * @param names        Name of each process.
+     * @param arrivalTimes Arrival time of each process.
+     * @param burstTimes   Burst time of each process.
+     * @param priorities   Priority of each process.
+     */
+    private WorkloadSnapshot(String[] names, int[] arrivalTimes, int[] burstTimes, int[] priorities) {
+        this.names = names;
+        this.arrivalTimes = arrivalTimes;
+        this.burstTimes = burstTimes;
+        this.priorities = priorities;
+    }
+
+    /**
+     * Freezes the inputs of a list of processes, one row per process in list order.
+     *
+     * @param processes List of processes to copy.
+     * @return A new snapshot.
+     */
+    public static WorkloadSnapshot of(List<Process> processes) {
+        int count = processes.size();
+        String[] names = new String[count];
+        int[] arrivalTimes = new int[count];
+        int[] burstTimes = new int[count];
+        int[] priorities = new int[count];
+        for (int row = 0; row < count; row++) {
+            Process process = processes.get(row);
+            names[row] = process.getName();
+            arrivalTimes[row] = process.getArrivalTime();
+            burstTimes[row] = process.getBurstTime();
+            priorities[row] = process.getPriority();
+        }
+        return new WorkloadSnapshot(names, arrivalTimes, burstTimes, priorities);
+    }
+
+    /**
+     * Freezes the inputs of any workload.
+     *
+     * @param workload The workload to copy.
+     * @return A new snapshot.
+     */
+    public static WorkloadSnapshot copyOf(Workload workload) {
+        if (workload instanceof WorkloadSnapshot snapshot) {
+            return snapshot;
+        }
+        int count = workload.size();
+        String[] names = new String[count];
+        int[] arrivalTimes = new int[count];
+        int[] burstTimes = new int[count];
+        int[] priorities = new int[count];
+        for (int row = 0; row < count; row++) {
+            names[row] = workload.getName(row);
+            arrivalTimes[row] = workload.getArrivalTime(row);
+            burstTimes[row] = workload.getBurstTime(row);
+            priorities[row] = workload.getPriority(row);
+        }
+        return new WorkloadSnapshot(names, arrivalTimes, burstTimes, priorities);
+    }
+
+    @Override
+    public int size() {
+        return arrivalTimes.length;
+    }
+
+    @Override
+    public String getName(int row) {
+        return names[row];
+    }
+
+    @Override
+    public int getArrivalTime(int row) {
+        return arrivalTimes[row];
+    }
+
+    @Override
+    public int getBurstTime(int row) {
+        return burstTimes[row];
+    }
+
+    @Override
+    public int getPriority(int row) {
+        return priorities[row];
+    }
+}
@@ -0,0 +1,40 @@
+// File: scheduler/streaming/StreamingFCFS.java
+
+package scheduler.streaming;
+
+import scheduler.models.Process;
+
+import java.util.ArrayDeque;
+import java.util.function.Consumer;
+
+/**
+ * Streaming FCFS (First-Come, First-Served) scheduler.
+ * Processes run to completion in the order they arrive.
+ */
+public class StreamingFCFS extends StreamingScheduler {
+    private final ArrayDeque<Job> readyQueue = new ArrayDeque<>(); // Arrived processes in arrival order
+
+    /**
+     * Constructor for StreamingFCFS.
+     *
+     * @param sink Callback receiving every process once it has completed.
+     */
+    public StreamingFCFS(Consumer<Process> sink) {
+        super(sink);
+    }
+
+    @Override
+    protected void addReady(Job job) {
+        readyQueue.addLast(job);
+    }
+
+    @Override
+    protected Job pollReady() {
+        return readyQueue.pollFirst();
+    }
+
+    @Override
+    protected int readySize() {
+        return readyQueue.size();
+    }
+}
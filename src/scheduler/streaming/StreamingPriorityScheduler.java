@@ -0,0 +1,43 @@
+// File: scheduler/streaming/StreamingPriorityScheduler.java
+
+package scheduler.streaming;
+
+import scheduler.models.Process;
+
+import java.util.PriorityQueue;
+import java.util.function.Consumer;
+
+/**
+ * Streaming Priority scheduler (non-preemptive).
+ * Among arrived processes the lowest priority value runs next; ties go to the earliest submission.
+ */
+public class StreamingPriorityScheduler extends StreamingScheduler {
+    private final PriorityQueue<Job> readyQueue = new PriorityQueue<>((a, b) -> {
+        int byPriority = Integer.compare(a.process.getPriority(), b.process.getPriority());
+        return byPriority != 0 ? byPriority : Long.compare(a.sequence, b.sequence);
+    }); // Arrived processes ordered by priority
+
+    /**
+     * Constructor for StreamingPriorityScheduler.
+     *
+     * @param sink Callback receiving every process once it has completed.
+     */
+    public StreamingPriorityScheduler(Consumer<Process> sink) {
+        super(sink);
+    }
+
+    @Override
+    protected void addReady(Job job) {
+        readyQueue.add(job);
+    }
+
+    @Override
+    protected Job pollReady() {
+        return readyQueue.poll();
+    }
+
+    @Override
+    protected int readySize() {
+        return readyQueue.size();
+    }
+}
@@ -0,0 +1,52 @@
+// File: scheduler/streaming/StreamingRR.java
+
+package scheduler.streaming;
+
+import scheduler.models.Process;
+
+import java.util.ArrayDeque;
+import java.util.function.Consumer;
+
+/**
+ * Streaming RR (Round Robin) scheduler.
+ * Each process runs for at most one time quantum before rejoining the back of the queue.
+ * Processes that arrive by the end of a slice are queued ahead of the preempted process.
+ */
+public class StreamingRR extends StreamingScheduler {
+    private final ArrayDeque<Job> readyQueue = new ArrayDeque<>(); // Arrived processes in round order
+    private final int timeQuantum; // The time slice allocated to each process
+
+    /**
+     * Constructor for StreamingRR.
+     *
+     * @param sink        Callback receiving every process once it has completed.
+     * @param timeQuantum The fixed time quantum for each process.
+     */
+    public StreamingRR(Consumer<Process> sink, int timeQuantum) {
+        super(sink);
+        if (timeQuantum <= 0) {
+            throw new IllegalArgumentException("Time quantum must be positive: " + timeQuantum);
+        }
+        this.timeQuantum = timeQuantum;
+    }
+
+    @Override
+    protected int sliceLength(Process process) {
+        return Math.min(timeQuantum, process.getRemainingTime());
+    }
+
+    @Override
+    protected void addReady(Job job) {
+        readyQueue.addLast(job);
+    }
+
+    @Override
+    protected Job pollReady() {
+        return readyQueue.pollFirst();
+    }
+
+    @Override
+    protected int readySize() {
+        return readyQueue.size();
+    }
+}
@@ -0,0 +1,43 @@
+// File: scheduler/streaming/StreamingSJF.java
+
+package scheduler.streaming;
+
+import scheduler.models.Process;
+
+import java.util.PriorityQueue;
+import java.util.function.Consumer;
+
+/**
+ * Streaming Shortest Job First (SJF) scheduler (non-preemptive).
+ * Among arrived processes the shortest burst runs next; ties go to the earliest submission.
+ */
+public class StreamingSJF extends StreamingScheduler {
+    private final PriorityQueue<Job> readyQueue = new PriorityQueue<>((a, b) -> {
+        int byBurst = Integer.compare(a.process.getBurstTime(), b.process.getBurstTime());
+        return byBurst != 0 ? byBurst : Long.compare(a.sequence, b.sequence);
+    }); // Arrived processes ordered by burst time
+
+    /**
+     * Constructor for StreamingSJF.
+     *
+     * @param sink Callback receiving every process once it has completed.
+     */
+    public StreamingSJF(Consumer<Process> sink) {
+        super(sink);
+    }
+
+    @Override
+    protected void addReady(Job job) {
+        readyQueue.add(job);
+    }
+
+    @Override
+    protected Job pollReady() {
+        return readyQueue.poll();
+    }
+
+    @Override
+    protected int readySize() {
+        return readyQueue.size();
+    }
+}
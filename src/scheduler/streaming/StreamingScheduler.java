@@ -0,0 +1,225 @@
+// File: scheduler/streaming/StreamingScheduler.java
+
+package scheduler.streaming;
+
+import scheduler.metrics.ScheduleMetrics;
+import scheduler.models.Process;
+
+import java.util.ArrayDeque;
+import java.util.function.Consumer;
+
+/**
+ * Abstract base class for push-based schedulers that consume an unbounded feed of processes.
+ * <p>
+ * Callers {@link #submit} processes in arrival order and call {@link #advanceTo} to declare that
+ * every process arriving at or before a time has been submitted. The scheduler then simulates up to
+ * that time and hands each finished process to the sink, after which it keeps no reference to it.
+ * Memory therefore scales with the processes not yet finished, not with the total history.
+ * <p>
+ * Subclasses only supply the ready-queue policy; the clock, admission and slicing live here.
+ */
+public abstract class StreamingScheduler {
+
+    /**
+     * A submitted process together with its submission sequence number, used to break ties
+     * the same way the batch schedulers break them by row.
+     */
+    protected static final class Job {
+        final Process process; // The process being scheduled
+        final long sequence; // Submission order
+
+        Job(Process process, long sequence) {
+            this.process = process;
+            this.sequence = sequence;
+        }
+    }
+
+    private final Consumer<Process> sink; // Receives every finished process
+    private final ArrayDeque<Job> pending = new ArrayDeque<>(); // Submitted, not yet arrived
+    private long horizon = Long.MIN_VALUE; // Every arrival up to this time has been submitted
+    private long clock; // Simulated time at which the CPU is next free to decide
+    private long submitted; // Number of processes submitted so far
+    private int lastArrival = Integer.MIN_VALUE; // Arrival time of the last submitted process
+    private boolean finished; // True once no more processes will be submitted
+    private ScheduleMetrics metrics; // Updated as processes start and finish, or null
+
+    private Job running; // Process currently holding the CPU, or null
+    private long sliceEnd; // Time at which the running slice ends
+    private int sliceLength; // Length of the running slice
+
+    /**
+     * Constructor for StreamingScheduler.
+     *
+     * @param sink Callback receiving every process once it has completed.
+     */
+    protected StreamingScheduler(Consumer<Process> sink) {
+        this.sink = sink;
+    }
+
+    /**
+     * Submits a process. Processes must be submitted in non-decreasing arrival order, and only
+     * for arrival times after the last {@link #advanceTo} time.
+     *
+     * @param process The process to schedule.
+     * @throws IllegalArgumentException If the process arrives out of order or in the past.
+     * @throws IllegalStateException    If {@link #finish} has already been called.
+     */
+    public void submit(Process process) {
+        if (finished) {
+            throw new IllegalStateException("No submissions are accepted after finish()");
+        }
+        if (process.getArrivalTime() < lastArrival) {
+            throw new IllegalArgumentException("Processes must be submitted in arrival order: "
+                    + process.getName() + " arrives at " + process.getArrivalTime() + " after " + lastArrival);
+        }
+        if (process.getArrivalTime() <= horizon) {
+            throw new IllegalArgumentException("Process " + process.getName() + " arrives at "
+                    + process.getArrivalTime() + ", which the scheduler has already advanced past");
+        }
+        process.setRemainingTime(process.getBurstTime());
+        lastArrival = process.getArrivalTime();
+        pending.addLast(new Job(process, submitted++));
+    }
+
+    /**
+     * Declares that every process arriving at or before {@code time} has been submitted, and
+     * simulates as far as that knowledge allows. Processes finishing by then are sent to the sink.
+     *
+     * @param time The new time horizon (must not move backwards).
+     */
+    public void advanceTo(long time) {
+        if (time < horizon) {
+            throw new IllegalArgumentException("Cannot advance backwards from " + horizon + " to " + time);
+        }
+        horizon = time;
+        run();
+    }
+
+    /**
+     * Declares the feed complete and runs every outstanding process to completion.
+     */
+    public void finish() {
+        finished = true;
+        horizon = Long.MAX_VALUE;
+        run();
+    }
+
+    /**
+     * Attaches an aggregator that is updated as processes start and finish, so percentiles of an
+     * unbounded feed can be reported without keeping the finished processes.
+     *
+     * @param metrics The aggregator to update, or null to stop collecting.
+     */
+    public void setMetrics(ScheduleMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * @return The attached metrics aggregator, or null if none is attached.
+     */
+    public ScheduleMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * @return Number of submitted processes that have not finished yet.
+     */
+    public int outstanding() {
+        return pending.size() + readySize() + (running != null ? 1 : 0);
+    }
+
+    /**
+     * Simulates until the next decision would need arrivals beyond the horizon.
+     */
+    private void run() {
+        while (true) {
+            if (running != null) {
+                // The running slice can only be closed once arrivals up to its end are known.
+                if (sliceEnd > horizon) {
+                    return;
+                }
+                clock = sliceEnd;
+                Process process = running.process;
+                process.setRemainingTime(process.getRemainingTime() - sliceLength);
+
+                // Processes arriving by the end of the slice queue up ahead of a preempted one.
+                admitArrivals();
+                if (process.getRemainingTime() > 0) {
+                    addReady(running);
+                } else {
+                    process.setCompletionTime(Math.toIntExact(clock));
+                    process.setTurnaroundTime(process.getCompletionTime() - process.getArrivalTime());
+                    process.setWaitingTime(process.getTurnaroundTime() - process.getBurstTime());
+                    if (metrics != null) {
+                        metrics.recordCompletion(process.getArrivalTime(), process.getBurstTime(), clock);
+                    }
+                    sink.accept(process);
+                }
+                running = null;
+            }
+
+            admitArrivals();
+
+            if (readySize() == 0) {
+                // Idle: jump to the next known arrival, or wait for more input.
+                Job next = pending.peekFirst();
+                if (next == null || next.process.getArrivalTime() > horizon) {
+                    return;
+                }
+                clock = Math.max(clock, next.process.getArrivalTime());
+                continue;
+            }
+
+            // Dispatch the next process selected by the policy.
+            running = pollReady();
+            Process process = running.process;
+            if (process.getRemainingTime() == process.getBurstTime()) {
+                process.setStartTime(Math.toIntExact(clock));
+                if (metrics != null) {
+                    metrics.recordStart(process.getArrivalTime(), clock);
+                }
+            }
+            sliceLength = sliceLength(process);
+            sliceEnd = clock + sliceLength;
+        }
+    }
+
+    /**
+     * Moves every pending process that has arrived by the current clock into the ready queue.
+     */
+    private void admitArrivals() {
+        while (!pending.isEmpty() && pending.peekFirst().process.getArrivalTime() <= clock) {
+            addReady(pending.pollFirst());
+        }
+    }
+
+    /**
+     * Returns how long the selected process runs before the next scheduling decision.
+     * Non-preemptive policies run the process to completion.
+     *
+     * @param process The process about to run.
+     * @return Length of the slice.
+     */
+    protected int sliceLength(Process process) {
+        return process.getRemainingTime();
+    }
+
+    /**
+     * Adds an arrived (or preempted) process to the ready queue.
+     *
+     * @param job The process to queue.
+     */
+    protected abstract void addReady(Job job);
+
+    /**
+     * Removes and returns the next process to run. Only called when the ready queue is not empty.
+     *
+     * @return The selected process.
+     */
+    protected abstract Job pollReady();
+
+    /**
+     * @return Number of processes in the ready queue.
+     */
+    protected abstract int readySize();
+}
@@ -0,0 +1,116 @@
+// File: scheduler/ui/ExportControl.java
+package scheduler.ui;
+
+import javafx.concurrent.Task;
+import javafx.geometry.Pos;
+import javafx.scene.Node;
+import javafx.scene.control.Button;
+import javafx.scene.control.Label;
+import javafx.scene.control.ProgressBar;
+import javafx.scene.layout.HBox;
+import javafx.stage.FileChooser;
+import scheduler.export.TimelineExporter;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.function.Supplier;
+
+/**
+ * An export button with a progress bar and status line. The user picks a PNG or SVG file, and the
+ * full timeline is written by a {@link TimelineExporter} on a background thread, so the UI stays
+ * responsive however long the schedule is.
+ */
+public class ExportControl {
+    private final String fileName; // Suggested file name, without extension
+    private final Supplier<TimelineExporter> exporter; // Creates the exporter, called on the export thread
+
+    /**
+     * Constructor for ExportControl.
+     *
+     * @param fileName Suggested file name, without extension.
+     * @param exporter Creates the exporter for the chart; called on the background thread.
+     */
+    public ExportControl(String fileName, Supplier<TimelineExporter> exporter) {
+        this.fileName = fileName;
+        this.exporter = exporter;
+    }
+
+    /**
+     * Creates the export button, progress bar and status label.
+     *
+     * @return A Node containing the export controls.
+     */
+    public Node getNode() {
+        Button exportButton = new Button("Export Gantt Chart");
+        exportButton.setStyle("-fx-font-size: 14px; -fx-font-weight: bold;");
+        ProgressBar progress = new ProgressBar(0);
+        progress.setPrefWidth(200);
+        progress.setVisible(false);
+        Label status = new Label();
+
+        exportButton.setOnAction(event -> export(exportButton, progress, status));
+
+        HBox controls = new HBox(exportButton, progress, status);
+        controls.setSpacing(10);
+        controls.setAlignment(Pos.CENTER);
+        return controls;
+    }
+
+    /**
+     * Asks for a destination file and starts the export on a background thread.
+     *
+     * @param exportButton The export button, disabled while the export runs.
+     * @param progress     Progress bar following the export.
+     * @param status       Label showing the outcome.
+     */
+    private void export(Button exportButton, ProgressBar progress, Label status) {
+        // Step 1: Let the user choose the file and format.
+        FileChooser chooser = new FileChooser();
+        chooser.setTitle("Export Gantt Chart");
+        chooser.setInitialFileName(fileName + ".png");
+        FileChooser.ExtensionFilter png = new FileChooser.ExtensionFilter("PNG image", "*.png");
+        FileChooser.ExtensionFilter svg = new FileChooser.ExtensionFilter("SVG image", "*.svg");
+        chooser.getExtensionFilters().add(png);
+        chooser.getExtensionFilters().add(svg);
+        File file = chooser.showSaveDialog(exportButton.getScene().getWindow());
+        if (file == null) {
+            return;
+        }
+        boolean asSvg = file.getName().toLowerCase().endsWith(".svg")
+                || (chooser.getSelectedExtensionFilter() == svg && !file.getName().toLowerCase().endsWith(".png"));
+        Path path = file.toPath();
+
+        // Step 2: Render and write the file off the JavaFX application thread.
+        Task<Void> task = new Task<>() {
+            @Override
+            protected Void call() throws Exception {
+                TimelineExporter timeline = exporter.get();
+                if (asSvg) {
+                    timeline.writeSvg(path, this::updateProgress);
+                } else {
+                    timeline.writePng(path, this::updateProgress);
+                }
+                return null;
+            }
+        };
+        progress.progressProperty().bind(task.progressProperty());
+        progress.setVisible(true);
+        exportButton.setDisable(true);
+        status.setText("Exporting " + file.getName() + "...");
+
+        task.setOnSucceeded(done -> {
+            exportButton.setDisable(false);
+            progress.setVisible(false);
+            status.setText("Saved " + path);
+        });
+        task.setOnFailed(failed -> {
+            exportButton.setDisable(false);
+            progress.setVisible(false);
+            status.setText("Export failed: " + task.getException().getMessage());
+        });
+
+        Thread thread = new Thread(task, "gantt-export");
+        thread.setDaemon(true);
+        thread.start();
+    }
+}
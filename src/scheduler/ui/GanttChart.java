@@ -1,52 +1,64 @@
 // File: scheduler/ui/GanttChart.java
 package scheduler.ui;
 
-import javafx.embed.swing.SwingFXUtils;
 import javafx.geometry.Pos;
 import javafx.scene.Node;
-import javafx.scene.SnapshotParameters;
 import javafx.scene.chart.CategoryAxis;
 import javafx.scene.chart.NumberAxis;
 import javafx.scene.chart.XYChart;
 import javafx.scene.chart.StackedBarChart;
-import javafx.scene.control.Button;
 import javafx.scene.control.Label;
 import javafx.scene.control.Tooltip;
-import javafx.scene.image.WritableImage;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.VBox;
 import javafx.scene.layout.GridPane;
 import javafx.scene.text.Font;
 import javafx.scene.text.FontWeight;
 import javafx.scene.text.Text;
+import scheduler.export.TimelineExporter;
 import scheduler.models.Process;
+import scheduler.models.SegmentLog;
 
-import javax.imageio.ImageIO;
-import java.io.File;
-import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
  * A class for creating a Gantt chart visualization of process scheduling data.
+ * Each process gets one bar per execution segment, so time-sliced and preempted schedules show
+ * every stretch a process actually ran; without a segment log, a process runs from start to completion.
  */
 public class GanttChart {
 
     private final List<Process> processes; // List of processes to display in the Gantt chart
+    private final SegmentLog segments;    // Execution segments by index into processes (null: start to completion)
     private final String baseColor;       // Base color for the Gantt chart visualization
 
     /**
-     * Constructor for GanttChart.
+     * Constructor for GanttChart drawing each process from its start to its completion.
      *
      * @param processes List of processes with scheduling details.
      * @param baseColor Base color for generating shades.
      */
     public GanttChart(List<Process> processes, String baseColor) {
+        this(processes, null, baseColor);
+    }
+
+    /**
+     * Constructor for GanttChart drawing recorded execution segments.
+     *
+     * @param processes List of processes with scheduling details.
+     * @param segments  Execution segments whose rows index the process list (null: start to completion).
+     * @param baseColor Base color for generating shades.
+     */
+    public GanttChart(List<Process> processes, SegmentLog segments, String baseColor) {
         this.processes = processes;
+        this.segments = segments;
         this.baseColor = baseColor;
     }
 
     /**
-     * Creates the Gantt chart UI node with the chart, legend, table, and export button.
+     * Creates the Gantt chart UI node with the chart, legend, table, and export controls.
+     * The export renders the full timeline, not just the part of the chart that fits on screen.
      *
      * @return A Node containing the Gantt chart and its components.
      */
@@ -69,54 +81,78 @@ public class GanttChart {
         // Generate shades for each process
         String[] processColors = generateShades(baseColor, processes.size());
 
-        // Populate the chart with data
-        for (int i = 0; i < processes.size(); i++) {
-            Process process = processes.get(i);
-
-            // Calculate execution time
-            int executionTime = process.getCompletionTime() - process.getStartTime();
-
-            // Add data to chart
-            XYChart.Series<String, Number> series = new XYChart.Series<>();
-            XYChart.Data<String, Number> data = new XYChart.Data<>(process.getName(), executionTime);
-
-            // Add tooltip with process details
+        // Populate the chart: each segment stacks a transparent gap and a colored bar on its process
+        List<XYChart.Series<String, Number>> layers = new ArrayList<>(); // Series k holds the k-th piece of every bar
+        int[] pieces = new int[processes.size()]; // Pieces stacked so far per process
+        long[] stackTop = new long[processes.size()]; // Time reached so far per process
+        SegmentLog.SegmentVisitor addSegment = (row, start, end) -> {
+            Process process = processes.get(row);
+            addPiece(layers, pieces, row, start - stackTop[row], "transparent", null);
             Tooltip tooltip = new Tooltip(
                     "Process: " + process.getName() +
+                            "\nRan: " + start + " - " + end +
                             "\nBurst Time: " + process.getBurstTime() +
                             "\nArrival Time: " + process.getArrivalTime() +
                             "\nStart Time: " + process.getStartTime() +
                             "\nCompletion Time: " + process.getCompletionTime() +
                             "\nTurnaround Time: " + process.getTurnaroundTime()
             );
-            Tooltip.install(data.getNode(), tooltip);
-
-            // Apply color styling
-            String color = processColors[i];
-            data.nodeProperty().addListener((obs, oldNode, newNode) -> {
-                if (newNode != null) {
-                    newNode.setStyle("-fx-bar-fill: " + color + ";");
-                }
-            });
-
-            series.getData().add(data);
-            barChart.getData().add(series);
+            addPiece(layers, pieces, row, end - start, processColors[row], tooltip);
+            stackTop[row] = end;
+        };
+        if (segments != null) {
+            segments.forEach(addSegment);
+        } else {
+            for (int i = 0; i < processes.size(); i++) {
+                addSegment.visit(i, processes.get(i).getStartTime(), processes.get(i).getCompletionTime());
+            }
         }
+        barChart.getData().addAll(layers);
 
-        // Create components: legend, process table, export button
+        // Create components: legend, process table, export controls
         HBox legend = createLegend(processColors);
         GridPane processTable = createProcessTable();
-        Button exportButton = createExportButton(barChart);
+        Node exportControl = new ExportControl("GanttChart",
+                () -> new TimelineExporter(processes, segments, processColors)).getNode();
 
         // Combine components into a VBox
         VBox vbox = new VBox();
         vbox.setSpacing(10);
         vbox.setAlignment(Pos.CENTER);
-        vbox.getChildren().addAll(barChart, legend, processTable, exportButton);
+        vbox.getChildren().addAll(barChart, legend, processTable, exportControl);
 
         return vbox;
     }
 
+    /**
+     * Stacks one piece on a process's bar.
+     *
+     * @param layers  Series per stacking level, extended as needed.
+     * @param pieces  Number of pieces stacked so far per process.
+     * @param index   Index of the process.
+     * @param length  Length of the piece in time units.
+     * @param color   Fill color of the piece.
+     * @param tooltip Tooltip for the piece, or null.
+     */
+    private void addPiece(List<XYChart.Series<String, Number>> layers, int[] pieces, int index, long length,
+                          String color, Tooltip tooltip) {
+        int layer = pieces[index]++;
+        if (layer == layers.size()) {
+            layers.add(new XYChart.Series<>());
+        }
+
+        XYChart.Data<String, Number> data = new XYChart.Data<>(processes.get(index).getName(), length);
+        data.nodeProperty().addListener((obs, oldNode, newNode) -> {
+            if (newNode != null) {
+                newNode.setStyle("-fx-bar-fill: " + color + ";");
+                if (tooltip != null) {
+                    Tooltip.install(newNode, tooltip);
+                }
+            }
+        });
+        layers.get(layer).getData().add(data);
+    }
+
     /**
      * Creates a legend showing process names and their corresponding colors.
      *
@@ -184,31 +220,6 @@ public class GanttChart {
         return table;
     }
 
-    /**
-     * Creates an export button for saving the chart as an image.
-     *
-     * @param barChart The bar chart to export.
-     * @return A Button for exporting the chart.
-     */
-    private Button createExportButton(StackedBarChart<String, Number> barChart) {
-        Button exportButton = new Button("Export Gantt Chart");
-        exportButton.setStyle("-fx-font-size: 14px; -fx-font-weight: bold;");
-
-        exportButton.setOnAction(event -> {
-            WritableImage image = barChart.snapshot(new SnapshotParameters(), null);
-            File file = new File("GanttChart.png");
-
-            try {
-                ImageIO.write(SwingFXUtils.fromFXImage(image, null), "png", file);
-                System.out.println("Gantt chart saved as GanttChart.png");
-            } catch (IOException e) {
-                System.err.println("Failed to save Gantt chart: " + e.getMessage());
-            }
-        });
-
-        return exportButton;
-    }
-
     /**
      * Generates unique color shades based on the base color.
      *
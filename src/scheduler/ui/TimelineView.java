@@ -0,0 +1,408 @@
+// File: scheduler/ui/TimelineView.java
+package scheduler.ui;
+
+import javafx.animation.AnimationTimer;
+import javafx.geometry.VPos;
+import javafx.scene.Node;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.input.MouseEvent;
+import javafx.scene.input.ScrollEvent;
+import javafx.scene.layout.BorderPane;
+import javafx.scene.layout.Pane;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.scene.text.TextAlignment;
+import scheduler.export.TimelineExporter;
+import scheduler.models.LaneIndex;
+import scheduler.models.ResultTable;
+import scheduler.models.Workload;
+
+/**
+ * A Gantt timeline drawn directly onto a {@link Canvas}, for schedules too large for {@link GanttChart}.
+ * <p>
+ * Each process gets one lane. Only the lanes and time window currently on screen are drawn, and each
+ * lane is drawn pixel column by pixel column: segments narrower than a pixel, or separated by less
+ * than a pixel, are merged into one rectangle (level of detail), so a frame costs
+ * O(visible lanes x width x log segments) no matter how many segments exist. Segments are indexed
+ * per lane in start order, which doubles as the spatial index for hover lookups; the hovered
+ * segment's details are drawn on the canvas instead of using a {@link javafx.scene.control.Tooltip} per bar.
+ * <p>
+ * Controls: scroll to move between lanes, Ctrl+scroll to zoom time around the cursor,
+ * Shift+scroll to change the lane height, drag to pan, double-click to fit everything.
+ */
+public class TimelineView {
+    private static final double GUTTER_WIDTH = 90; // Width of the lane-label column
+    private static final double AXIS_HEIGHT = 24; // Height of the time axis
+    private static final double MIN_LANE_HEIGHT = 1; // Smallest lane height when zooming out
+    private static final double MAX_LANE_HEIGHT = 40; // Largest lane height when zooming in
+    private static final double LABEL_LANE_HEIGHT = 12; // Smallest lane height that still gets a label
+    private static final int SHADES = 8; // Number of color shades cycled across lanes
+    private static final double HOVER_TOLERANCE = 2; // Pixels around the cursor counted as a hit
+
+    private final ResultTable results; // Scheduling results being displayed
+    private final Workload workload; // Workload the results belong to
+    private final int lanes; // Number of lanes (one per workload row)
+    private final LaneIndex index; // Segments grouped by lane, in start order within each lane
+    private final long endTime; // Time the last segment ends
+    private final Color[] shades; // Lane colors
+
+    private final Canvas canvas = new Canvas(); // Drawing surface
+    private final Pane root = new Pane(canvas); // Resizable container of the canvas
+    private final AnimationTimer renderer; // Redraws at most once per frame, only when needed
+
+    // View state
+    private double timeOrigin; // Time at the left edge of the plot
+    private double timePerPixel = 1; // Time units covered by one pixel
+    private double laneOrigin; // Lane (fractional) at the top edge of the plot
+    private double laneHeight = 18; // Height of one lane in pixels
+    private double mouseX = -1; // Cursor position, or -1 when outside the canvas
+    private double mouseY = -1;
+    private double dragX; // Cursor position at the last drag event
+    private double dragY;
+    private boolean fitted; // True once the view has been fitted to the canvas size
+    private boolean dirty = true; // True when the next frame must be redrawn
+
+    /**
+     * Constructor for TimelineView.
+     *
+     * @param results   Results of one run, with its execution segments recorded.
+     * @param baseColor Base color in hex format.
+     */
+    public TimelineView(ResultTable results, String baseColor) {
+        this.results = results;
+        this.workload = results.getWorkload();
+        this.lanes = workload.size();
+
+        index = new LaneIndex(results.getSegments(), lanes);
+        endTime = Math.max(1, index.getEndTime());
+
+        shades = new Color[SHADES];
+        Color base = Color.web(baseColor);
+        for (int i = 0; i < SHADES; i++) {
+            shades[i] = base.deriveColor(0, 1, 0.75 + 0.5 * i / SHADES, 1);
+        }
+
+        renderer = new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                if (dirty) {
+                    dirty = false;
+                    render();
+                }
+            }
+        };
+    }
+
+    /**
+     * Creates the timeline UI node. The canvas follows the size of its container.
+     *
+     * @return A Node containing the timeline and its export controls.
+     */
+    public Node getNode() {
+        canvas.widthProperty().bind(root.widthProperty());
+        canvas.heightProperty().bind(root.heightProperty());
+        canvas.widthProperty().addListener((obs, oldWidth, newWidth) -> invalidate());
+        canvas.heightProperty().addListener((obs, oldHeight, newHeight) -> invalidate());
+
+        canvas.setOnScroll(this::onScroll);
+        canvas.setOnMousePressed(event -> {
+            dragX = event.getX();
+            dragY = event.getY();
+        });
+        canvas.setOnMouseDragged(this::onDrag);
+        canvas.setOnMouseMoved(event -> {
+            mouseX = event.getX();
+            mouseY = event.getY();
+            invalidate();
+        });
+        canvas.setOnMouseExited(event -> {
+            mouseX = -1;
+            mouseY = -1;
+            invalidate();
+        });
+        canvas.setOnMouseClicked(event -> {
+            if (event.getClickCount() == 2) {
+                fitted = false;
+                invalidate();
+            }
+        });
+
+        // Only animate while the view is part of a scene.
+        root.sceneProperty().addListener((obs, oldScene, newScene) -> {
+            if (newScene != null) {
+                renderer.start();
+            } else {
+                renderer.stop();
+            }
+        });
+        if (root.getScene() != null) {
+            renderer.start();
+        }
+
+        // Export the whole timeline, not just the visible window.
+        BorderPane view = new BorderPane(root);
+        view.setBottom(new ExportControl("Timeline", this::createExporter).getNode());
+        return view;
+    }
+
+    /**
+     * Requests a redraw on the next frame.
+     */
+    private void invalidate() {
+        dirty = true;
+    }
+
+    /**
+     * Handles scrolling: lane panning, time zoom (Ctrl) or lane zoom (Shift).
+     *
+     * @param event The scroll event.
+     */
+    private void onScroll(ScrollEvent event) {
+        double delta = event.getDeltaY() != 0 ? event.getDeltaY() : event.getDeltaX();
+        if (event.isControlDown()) {
+            double anchor = timeAt(event.getX());
+            timePerPixel = clampTimePerPixel(timePerPixel * Math.pow(1.002, -delta));
+            timeOrigin = anchor - (event.getX() - GUTTER_WIDTH) * timePerPixel;
+        } else if (event.isShiftDown()) {
+            double anchor = laneAt(event.getY());
+            laneHeight = Math.max(MIN_LANE_HEIGHT, Math.min(MAX_LANE_HEIGHT, laneHeight * Math.pow(1.002, delta)));
+            laneOrigin = anchor - (event.getY() - AXIS_HEIGHT) / laneHeight;
+        } else {
+            laneOrigin -= delta / laneHeight;
+        }
+        clampView();
+        invalidate();
+        event.consume();
+    }
+
+    /**
+     * Handles dragging: pans time and lanes together.
+     *
+     * @param event The mouse event.
+     */
+    private void onDrag(MouseEvent event) {
+        timeOrigin -= (event.getX() - dragX) * timePerPixel;
+        laneOrigin -= (event.getY() - dragY) / laneHeight;
+        dragX = event.getX();
+        dragY = event.getY();
+        mouseX = event.getX();
+        mouseY = event.getY();
+        clampView();
+        invalidate();
+    }
+
+    /**
+     * Keeps the zoom level between one time unit per 50 pixels and the whole schedule on screen.
+     *
+     * @param value Requested time units per pixel.
+     * @return The clamped value.
+     */
+    private double clampTimePerPixel(double value) {
+        double plotWidth = Math.max(1, canvas.getWidth() - GUTTER_WIDTH);
+        return Math.max(0.02, Math.min(value, 2.0 * endTime / plotWidth));
+    }
+
+    /**
+     * Keeps the view origin inside the schedule.
+     */
+    private void clampView() {
+        double visibleLanes = Math.max(1, (canvas.getHeight() - AXIS_HEIGHT) / laneHeight);
+        laneOrigin = Math.max(0, Math.min(laneOrigin, Math.max(0, lanes - visibleLanes)));
+        timeOrigin = Math.max(-endTime * 0.05, Math.min(timeOrigin, endTime));
+    }
+
+    /**
+     * @param x Horizontal canvas position.
+     * @return Time at that position.
+     */
+    private double timeAt(double x) {
+        return timeOrigin + (x - GUTTER_WIDTH) * timePerPixel;
+    }
+
+    /**
+     * @param time A time.
+     * @return Horizontal canvas position of that time.
+     */
+    private double xOf(double time) {
+        return GUTTER_WIDTH + (time - timeOrigin) / timePerPixel;
+    }
+
+    /**
+     * @param y Vertical canvas position.
+     * @return Lane (fractional) at that position.
+     */
+    private double laneAt(double y) {
+        return laneOrigin + (y - AXIS_HEIGHT) / laneHeight;
+    }
+
+    /**
+     * Creates an exporter for the full timeline, with one lane per workload row in the view's colors.
+     *
+     * @return The exporter.
+     */
+    private TimelineExporter createExporter() {
+        String[] colors = new String[SHADES];
+        for (int i = 0; i < SHADES; i++) {
+            colors[i] = String.format("#%02x%02x%02x", Math.round(shades[i].getRed() * 255),
+                    Math.round(shades[i].getGreen() * 255), Math.round(shades[i].getBlue() * 255));
+        }
+        return new TimelineExporter(lanes, workload::getName, results.getSegments(), colors);
+    }
+
+    /**
+     * Draws the visible part of the timeline.
+     */
+    private void render() {
+        double width = canvas.getWidth();
+        double height = canvas.getHeight();
+        if (width <= GUTTER_WIDTH || height <= AXIS_HEIGHT) {
+            return;
+        }
+        if (!fitted) {
+            fitted = true;
+            timeOrigin = 0;
+            timePerPixel = (double) endTime / (width - GUTTER_WIDTH);
+            laneOrigin = 0;
+        }
+
+        GraphicsContext g = canvas.getGraphicsContext2D();
+        g.setFill(Color.WHITE);
+        g.fillRect(0, 0, width, height);
+
+        // Step 1: Draw the visible lanes.
+        int firstLane = (int) Math.floor(laneOrigin);
+        int lastLane = Math.min(lanes - 1, (int) Math.floor(laneAt(height)));
+        double barHeight = laneHeight >= 4 ? laneHeight - 2 : laneHeight;
+        g.setFont(Font.font("Arial", 11));
+        g.setTextAlign(TextAlignment.RIGHT);
+        g.setTextBaseline(VPos.CENTER);
+        for (int lane = firstLane; lane <= lastLane; lane++) {
+            double y = AXIS_HEIGHT + (lane - laneOrigin) * laneHeight;
+            g.setFill(shades[lane % SHADES]);
+            drawLane(g, lane, y + (laneHeight - barHeight) / 2, barHeight, width);
+            if (laneHeight >= LABEL_LANE_HEIGHT) {
+                g.setFill(Color.BLACK);
+                g.fillText(workload.getName(lane), GUTTER_WIDTH - 6, y + laneHeight / 2);
+            }
+        }
+
+        // Step 2: Draw the time axis and the gutter on top of any bar that scrolled under them.
+        g.setFill(Color.WHITE);
+        g.fillRect(0, 0, width, AXIS_HEIGHT);
+        g.setStroke(Color.GRAY);
+        g.strokeLine(GUTTER_WIDTH, AXIS_HEIGHT, GUTTER_WIDTH, height);
+        drawAxis(g, width);
+
+        // Step 3: Draw details of the segment under the cursor.
+        drawHover(g, width, height);
+    }
+
+    /**
+     * Draws one lane column by column, merging segments that fall into the same pixel.
+     *
+     * @param g         Graphics context of the canvas.
+     * @param lane      Lane index.
+     * @param y         Top of the bars.
+     * @param barHeight Height of the bars.
+     * @param width     Width of the canvas.
+     */
+    private void drawLane(GraphicsContext g, int lane, double y, double barHeight, double width) {
+        int end = index.getFirst(lane + 1);
+        double x = GUTTER_WIDTH;
+        while (x < width) {
+            int i = index.firstEndingAfter(lane, timeAt(x));
+            if (i == end) {
+                return;
+            }
+            double x0 = Math.max(x, Math.floor(xOf(index.getStart(i))));
+            if (x0 >= width) {
+                return;
+            }
+            double x1 = Math.max(x0 + 1, Math.ceil(xOf(index.getEnd(i))));
+
+            // Absorb following segments that start within the last covered pixel.
+            while (x1 < width) {
+                int next = index.firstEndingAfter(lane, timeAt(x1));
+                if (next == end || Math.floor(xOf(index.getStart(next))) > x1) {
+                    break;
+                }
+                x1 = Math.max(x1 + 1, Math.ceil(xOf(index.getEnd(next))));
+            }
+
+            g.fillRect(x0, y, Math.min(x1, width) - x0, barHeight);
+            x = x1;
+        }
+    }
+
+    /**
+     * Draws the time axis with evenly spaced, round-numbered ticks.
+     *
+     * @param g     Graphics context of the canvas.
+     * @param width Width of the canvas.
+     */
+    private void drawAxis(GraphicsContext g, double width) {
+        // Pick a tick step of 1, 2 or 5 times a power of ten, about 100 pixels apart.
+        double raw = 100 * timePerPixel;
+        double magnitude = Math.pow(10, Math.floor(Math.log10(raw)));
+        double step = raw / magnitude < 2 ? magnitude : raw / magnitude < 5 ? 2 * magnitude : 5 * magnitude;
+        step = Math.max(1, step);
+
+        g.setFill(Color.BLACK);
+        g.setStroke(Color.GRAY);
+        g.setTextAlign(TextAlignment.CENTER);
+        g.setTextBaseline(VPos.CENTER);
+        double firstTick = Math.ceil(Math.max(0, timeAt(GUTTER_WIDTH)) / step) * step;
+        for (double tick = firstTick; xOf(tick) < width; tick += step) {
+            double x = xOf(tick);
+            g.strokeLine(x, AXIS_HEIGHT - 5, x, AXIS_HEIGHT);
+            g.fillText(String.valueOf((long) tick), x, AXIS_HEIGHT / 2);
+        }
+    }
+
+    /**
+     * Looks up the segment under the cursor through the lane index and draws its details.
+     *
+     * @param g      Graphics context of the canvas.
+     * @param width  Width of the canvas.
+     * @param height Height of the canvas.
+     */
+    private void drawHover(GraphicsContext g, double width, double height) {
+        if (mouseX < GUTTER_WIDTH || mouseY < AXIS_HEIGHT) {
+            return;
+        }
+        int lane = (int) Math.floor(laneAt(mouseY));
+        if (lane < 0 || lane >= lanes) {
+            return;
+        }
+        int i = index.firstEndingAfter(lane, timeAt(mouseX - HOVER_TOLERANCE));
+        if (i == index.getFirst(lane + 1) || index.getStart(i) >= timeAt(mouseX + HOVER_TOLERANCE)) {
+            return;
+        }
+
+        String[] lines = {
+                "Process: " + workload.getName(lane),
+                "Ran: " + index.getStart(i) + " - " + index.getEnd(i),
+                "Burst Time: " + workload.getBurstTime(lane),
+                "Arrival Time: " + workload.getArrivalTime(lane),
+                "Start Time: " + results.getStartTime(lane),
+                "Completion Time: " + results.getCompletionTime(lane),
+                "Turnaround Time: " + results.getTurnaroundTime(lane)
+        };
+        double boxWidth = 190;
+        double boxHeight = 8 + 15 * lines.length;
+        double boxX = mouseX + 14 + boxWidth > width ? mouseX - 14 - boxWidth : mouseX + 14;
+        double boxY = Math.min(mouseY + 14, height - boxHeight);
+
+        g.setFill(Color.rgb(255, 255, 225, 0.95));
+        g.fillRect(boxX, boxY, boxWidth, boxHeight);
+        g.setStroke(Color.BLACK);
+        g.strokeRect(boxX, boxY, boxWidth, boxHeight);
+        g.setFill(Color.BLACK);
+        g.setTextAlign(TextAlignment.LEFT);
+        g.setTextBaseline(VPos.TOP);
+        for (int line = 0; line < lines.length; line++) {
+            g.fillText(lines[line], boxX + 6, boxY + 4 + 15 * line);
+        }
+    }
+}